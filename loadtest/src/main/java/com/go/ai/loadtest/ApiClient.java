@@ -0,0 +1,66 @@
+package com.go.ai.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 서버 REST API 호출 (로그인, 방 만들기, 참여). 가상 스레드에서 동기로 호출한다.
+ */
+public class ApiClient {
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public ApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * 이름으로 로그인(없으면 가입)하고 사용자 id를 반환
+     */
+    public long login(String name) throws IOException, InterruptedException {
+        return post("/api/login", Map.of("name", name)).path("id").asLong();
+    }
+
+    /**
+     * 시간 제한 없는 방을 만들고 방 id를 반환 (부하 중 시간패로 판이 끝나지 않도록)
+     */
+    public long createRoom(long hostId) throws IOException, InterruptedException {
+        return post("/api/rooms", Map.of(
+                "hostId", hostId,
+                "mainTimeSeconds", 0,
+                "byoYomiPeriods", 0,
+                "byoYomiSeconds", 0,
+                "incrementSeconds", 0)).path("id").asLong();
+    }
+
+    public JsonNode joinRoom(long roomId, long guestId) throws IOException, InterruptedException {
+        return post("/api/rooms/" + roomId + "/join", Map.of("guestId", guestId));
+    }
+
+    private JsonNode post(String path, Map<String, ?> body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("POST " + path + " returned status " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,185 @@
+package com.go.ai.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 대국 하나를 끝날 때까지 반복해서 두는 작업 (가상 스레드 하나에서 실행).
+ * 방을 만들고 상대가 참여한 뒤 두 대국자가 번갈아 /app/game/{roomId}/move로 수를 보내고,
+ * 둔 쪽 연결에 변경분이 도착할 때까지를 왕복 시간으로 기록한다. movesPerGame수를 두면 종료 요청을 보내고 새 방에서 다시 시작한다.
+ */
+public class GameDriver implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(GameDriver.class);
+
+    // 연속으로 받지 않은 수가 이만큼이면 보드가 어긋난 것으로 보고 그 판을 끝냄
+    private static final int MAX_REJECTED_IN_ROW = 3;
+
+    private enum Outcome { ACKNOWLEDGED, REJECTED, FINISHED, TIMED_OUT }
+
+    private final int index;
+    private final Player black;
+    private final Player white;
+    private final ApiClient apiClient;
+    private final LoadStats stats;
+    private final LoadTestOptions options;
+    private final long deadlineNanos;
+    private int gameNo;
+
+    public GameDriver(int index, Player black, Player white, ApiClient apiClient, LoadStats stats,
+            LoadTestOptions options, long deadlineNanos) {
+        this.index = index;
+        this.black = black;
+        this.white = white;
+        this.apiClient = apiClient;
+        this.stats = stats;
+        this.options = options;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public void run() {
+        while (!isOver()) {
+            try {
+                playGame();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                stats.error();
+                log.warn("Game driver {} failed: {}", index, e.toString());
+                pause(1000);
+            }
+        }
+    }
+
+    private void playGame() throws Exception {
+        long roomId = apiClient.createRoom(black.getUserId());
+        // 참여 전에 구독해야 첫 수의 변경분부터 받음
+        black.watch(roomId);
+        white.watch(roomId);
+        apiClient.joinRoom(roomId, white.getUserId());
+        stats.gameStarted();
+
+        // 같은 seed면 드라이버/판 번호별로 같은 수순
+        Random random = new Random(options.getSeed() * 1_000_003L + (long) index * 10_007L + gameNo++);
+        MirrorBoard board = new MirrorBoard();
+        String destination = "/app/game/" + roomId + "/move";
+        boolean blackTurn = true;
+        boolean finished = false;
+        int rejectedInRow = 0;
+
+        for (int played = 0; played < options.getMovesPerGame() && !isOver(); ) {
+            think();
+            int point = board.pickMove(random);
+            if (point < 0) {
+                break;
+            }
+            Player mover = blackTurn ? black : white;
+            Player other = blackTurn ? white : black;
+            other.discardReceived();
+
+            long sentNanos = System.nanoTime();
+            mover.send(destination, Map.of("row", MirrorBoard.rowOf(point), "col", MirrorBoard.colOf(point)));
+            Outcome outcome = awaitMove(mover, board, point, sentNanos);
+            if (outcome == Outcome.ACKNOWLEDGED) {
+                played++;
+                rejectedInRow = 0;
+                blackTurn = !blackTurn;
+            } else if (outcome == Outcome.REJECTED && ++rejectedInRow < MAX_REJECTED_IN_ROW) {
+                continue;
+            } else {
+                finished = outcome == Outcome.FINISHED;
+                break;
+            }
+        }
+
+        if (!finished) {
+            finished = finish(roomId);
+        }
+        stats.gameEnded(finished);
+    }
+
+    /**
+     * 둔 수의 변경분을 기다려 보드에 반영한다. 다른 수의 변경분이 먼저 오면 반영하고 계속 기다림
+     */
+    private Outcome awaitMove(Player mover, MirrorBoard board, int point, long sentNanos)
+            throws InterruptedException {
+        long timeoutNanos = options.getTimeoutMillis() * 1_000_000L;
+        while (true) {
+            long remaining = timeoutNanos - (System.nanoTime() - sentNanos);
+            Player.Frame frame = remaining > 0 ? mover.poll(remaining / 1_000_000L + 1) : null;
+            if (frame == null) {
+                stats.moveTimedOut();
+                return Outcome.TIMED_OUT;
+            }
+            JsonNode body = frame.body();
+            if (body.has("move") && body.has("seq")) {
+                int move = body.get("move").asInt();
+                board.apply(move, removedOf(body), body.path("turn").asText());
+                if (move == point) {
+                    stats.moveAcknowledged(frame.receivedNanos() - sentNanos);
+                    return Outcome.ACKNOWLEDGED;
+                }
+            } else if ("FINISHED".equals(body.path("status").asText())) {
+                return Outcome.FINISHED;
+            } else if ("PLAYING".equals(body.path("status").asText())) {
+                // 서버가 수를 받지 않으면 최신 전체 상태를 다시 보냄
+                stats.moveRejected();
+                return Outcome.REJECTED;
+            }
+        }
+    }
+
+    /**
+     * 종료 요청을 보내고 서버가 계가한 최종 상태가 올 때까지 기다린다.
+     */
+    private boolean finish(long roomId) throws Exception {
+        black.send("/app/game/" + roomId + "/state", Map.of("isGameOver", true, "status", "FINISHED"));
+        long deadline = System.nanoTime() + options.getTimeoutMillis() * 1_000_000L;
+        while (System.nanoTime() < deadline) {
+            Player.Frame frame = black.poll(Math.max(1, (deadline - System.nanoTime()) / 1_000_000L));
+            if (frame != null && "FINISHED".equals(frame.body().path("status").asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void think() {
+        int thinkMillis = options.getThinkMillis();
+        if (thinkMillis > 0) {
+            // 모든 대국이 같은 박자로 두지 않도록 0.5배 ~ 1.5배 사이에서 흔듦
+            pause(thinkMillis / 2 + ThreadLocalRandom.current().nextInt(thinkMillis + 1));
+        }
+    }
+
+    private void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isOver() {
+        return Thread.currentThread().isInterrupted() || System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    private static int[] removedOf(JsonNode body) {
+        JsonNode removed = body.get("removed");
+        if (removed == null || !removed.isArray()) {
+            return null;
+        }
+        int[] points = new int[removed.size()];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = removed.get(i).asInt();
+        }
+        return points;
+    }
+}
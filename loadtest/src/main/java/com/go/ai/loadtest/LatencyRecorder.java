@@ -0,0 +1,64 @@
+package com.go.ai.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 착수 왕복 시간(마이크로초) 기록. 구간 보고용 기록과 전체 기록을 따로 모은다.
+ */
+public class LatencyRecorder {
+
+    private long[] interval = new long[1024];
+    private int intervalCount;
+    private long[] total = new long[1024];
+    private int totalCount;
+
+    public synchronized void record(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        if (intervalCount == interval.length) {
+            interval = Arrays.copyOf(interval, interval.length * 2);
+        }
+        interval[intervalCount++] = micros;
+        if (totalCount == total.length) {
+            total = Arrays.copyOf(total, total.length * 2);
+        }
+        total[totalCount++] = micros;
+    }
+
+    /**
+     * 지난 호출 이후 기록된 값의 요약 (호출하면 구간 기록을 비움)
+     */
+    public synchronized Summary drainInterval() {
+        Summary summary = Summary.of(Arrays.copyOf(interval, intervalCount));
+        intervalCount = 0;
+        return summary;
+    }
+
+    public synchronized Summary getTotal() {
+        return Summary.of(Arrays.copyOf(total, totalCount));
+    }
+
+    public record Summary(int count, long p50, long p90, long p99, long p999, long max) {
+
+        static Summary of(long[] values) {
+            Arrays.sort(values);
+            return new Summary(values.length, percentile(values, 0.50), percentile(values, 0.90),
+                    percentile(values, 0.99), percentile(values, 0.999),
+                    values.length > 0 ? values[values.length - 1] : 0);
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("rtt p50 %.1fms p90 %.1fms p99 %.1fms p99.9 %.1fms max %.1fms",
+                    p50 / 1000.0, p90 / 1000.0, p99 / 1000.0, p999 / 1000.0, max / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.go.ai.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 실행 중 모으는 값. 대국 스레드와 WebSocket 수신 스레드가 함께 기록한다.
+ */
+public class LoadStats {
+
+    private final LatencyRecorder latency = new LatencyRecorder();
+    private final AtomicInteger activeGames = new AtomicInteger();
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder gamesFinished = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder rejected = new LongAdder(); // 서버가 받지 않고 전체 상태로 재동기화한 수
+    private final LongAdder timeouts = new LongAdder(); // 제한 시간 안에 변경분이 오지 않은 수
+    private final LongAdder errors = new LongAdder(); // REST 실패 등으로 중단된 대국
+    private final LongAdder transportErrors = new LongAdder();
+    private final LongAdder framesReceived = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+
+    public void gameStarted() {
+        gamesStarted.increment();
+        activeGames.incrementAndGet();
+    }
+
+    public void gameEnded(boolean finished) {
+        activeGames.decrementAndGet();
+        if (finished) {
+            gamesFinished.increment();
+        }
+    }
+
+    public void moveAcknowledged(long roundTripNanos) {
+        moves.increment();
+        latency.record(roundTripNanos);
+    }
+
+    public void moveRejected() { rejected.increment(); }
+    public void moveTimedOut() { timeouts.increment(); }
+    public void error() { errors.increment(); }
+    public void transportError() { transportErrors.increment(); }
+
+    public void frameReceived(int bytes) {
+        framesReceived.increment();
+        bytesReceived.add(bytes);
+    }
+
+    public LatencyRecorder getLatency() { return latency; }
+    public int getActiveGames() { return activeGames.get(); }
+
+    /**
+     * 결과 파일에 쓸 값 (elapsedSeconds 동안의 처리량 포함)
+     */
+    public Map<String, Object> toResult(double elapsedSeconds) {
+        LatencyRecorder.Summary total = latency.getTotal();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("elapsedSeconds", elapsedSeconds);
+        result.put("gamesStarted", gamesStarted.sum());
+        result.put("gamesFinished", gamesFinished.sum());
+        result.put("moves", moves.sum());
+        result.put("movesPerSecond", moves.sum() / elapsedSeconds);
+        result.put("rejected", rejected.sum());
+        result.put("timeouts", timeouts.sum());
+        result.put("errors", errors.sum());
+        result.put("transportErrors", transportErrors.sum());
+        result.put("framesReceived", framesReceived.sum());
+        result.put("bytesReceived", bytesReceived.sum());
+        result.put("rttMicrosP50", total.p50());
+        result.put("rttMicrosP90", total.p90());
+        result.put("rttMicrosP99", total.p99());
+        result.put("rttMicrosP999", total.p999());
+        result.put("rttMicrosMax", total.max());
+        return result;
+    }
+}
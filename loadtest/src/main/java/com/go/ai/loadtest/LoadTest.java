@@ -0,0 +1,135 @@
+package com.go.ai.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 부하 생성기. 대국 수만큼 대국자 쌍을 로그인시키고 대국마다 가상 스레드 하나로 무작위 합법수를 계속 둔다.
+ * report-seconds마다 구간 처리량과 왕복 시간 분위수를, 끝나면 전체 결과를 출력하고 out(JSON)에 저장한다.
+ *
+ * 실행: mvn -f loadtest/pom.xml compile exec:java -Dloadtest.args="--games=1000 --duration-seconds=300"
+ */
+public class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final int LOGIN_CONCURRENCY = 32;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        log.info("Load test: {}", options);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ApiClient apiClient = new ApiClient(options.getUrl(), objectMapper);
+        LoadStats stats = new LoadStats();
+
+        // 대국자 로그인 (같은 seed면 같은 사용자를 다시 씀)
+        List<Player> players = login(options, apiClient, objectMapper, stats);
+        log.info("Logged in {} players", players.size());
+
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("stomp-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[] { 10000, 10000 });
+
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos
+                + TimeUnit.SECONDS.toNanos(options.getRampUpSeconds() + (long) options.getDurationSeconds());
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(() -> report(stats, startNanos, options.getReportSeconds()),
+                options.getReportSeconds(), options.getReportSeconds(), TimeUnit.SECONDS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> drivers = new ArrayList<>();
+            for (int i = 0; i < options.getGames(); i++) {
+                int index = i;
+                Player black = players.get(index * 2);
+                Player white = players.get(index * 2 + 1);
+                long startDelayMillis = options.getRampUpSeconds() * 1000L * index / options.getGames();
+                drivers.add(executor.submit(() -> {
+                    Thread.sleep(startDelayMillis);
+                    black.connect(stompClient, options.getWebSocketUrl(), options.getTimeoutMillis());
+                    white.connect(stompClient, options.getWebSocketUrl(), options.getTimeoutMillis());
+                    new GameDriver(index, black, white, apiClient, stats, options, deadlineNanos).run();
+                    return null;
+                }));
+            }
+            for (Future<?> driver : drivers) {
+                try {
+                    driver.get();
+                } catch (Exception e) {
+                    stats.error();
+                    log.warn("Driver could not start: {}", e.toString());
+                }
+            }
+        } finally {
+            reporter.shutdownNow();
+            players.forEach(Player::disconnect);
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        Map<String, Object> result = stats.toResult(elapsedSeconds);
+        result.put("options", options.toString());
+        log.info("Finished in {}s: {}", String.format("%.1f", elapsedSeconds), stats.getLatency().getTotal());
+        log.info("Result: {}", result);
+
+        File out = new File(options.getOut());
+        if (out.getParentFile() != null) {
+            out.getParentFile().mkdirs();
+        }
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, result);
+        log.info("Result written to {}", out.getAbsolutePath());
+    }
+
+    private static List<Player> login(LoadTestOptions options, ApiClient apiClient, ObjectMapper objectMapper,
+            LoadStats stats) throws Exception {
+        List<Future<Long>> ids = new ArrayList<>();
+        // 시작 전에 서버를 몰아치지 않도록 동시 로그인 수 제한
+        Semaphore permits = new Semaphore(LOGIN_CONCURRENCY);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.getGames() * 2; i++) {
+                String name = "load-" + options.getSeed() + "-" + i;
+                ids.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return apiClient.login(name);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        List<Player> players = new ArrayList<>();
+        for (Future<Long> id : ids) {
+            players.add(new Player(id.get(), objectMapper, stats));
+        }
+        return players;
+    }
+
+    private static void report(LoadStats stats, long startNanos, int reportSeconds) {
+        LatencyRecorder.Summary interval = stats.getLatency().drainInterval();
+        long elapsed = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos);
+        log.info("[{}s] active games {}, moves {} ({}/s), {}", elapsed, stats.getActiveGames(), interval.count(),
+                String.format("%.1f", interval.count() / (double) reportSeconds), interval);
+    }
+}
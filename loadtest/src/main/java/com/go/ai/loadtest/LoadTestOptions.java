@@ -0,0 +1,83 @@
+package com.go.ai.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 실행 인자 (--이름=값). 지정하지 않은 값은 기본값 사용
+ */
+public class LoadTestOptions {
+
+    private String url = "http://localhost:8080";
+    private int games = 100; // 동시에 진행할 대국 수 (접속은 대국당 2개)
+    private int durationSeconds = 60;
+    private int rampUpSeconds = 30; // 대국을 이 시간 동안 나누어 시작
+    private int movesPerGame = 150; // 이만큼 두면 종료 요청을 보내고 새 방에서 다시 시작
+    private int thinkMillis = 500; // 수 사이 대기 시간 (0.5배 ~ 1.5배 사이에서 무작위)
+    private int timeoutMillis = 10000; // 착수 후 이 시간 안에 변경분이 오지 않으면 실패로 셈
+    private int reportSeconds = 10;
+    private long seed = 1; // 같은 값이면 같은 사용자 이름과 같은 수순
+    private String out = "target/loadtest-result.json";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions();
+        options.url = stringValue(values, "url", options.url).replaceAll("/+$", "");
+        options.games = intValue(values, "games", options.games);
+        options.durationSeconds = intValue(values, "duration-seconds", options.durationSeconds);
+        options.rampUpSeconds = intValue(values, "ramp-up-seconds", options.rampUpSeconds);
+        options.movesPerGame = intValue(values, "moves-per-game", options.movesPerGame);
+        options.thinkMillis = intValue(values, "think-ms", options.thinkMillis);
+        options.timeoutMillis = intValue(values, "timeout-ms", options.timeoutMillis);
+        options.reportSeconds = intValue(values, "report-seconds", options.reportSeconds);
+        options.seed = Long.parseLong(stringValue(values, "seed", String.valueOf(options.seed)));
+        options.out = stringValue(values, "out", options.out);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.games < 1 || options.movesPerGame < 1 || options.reportSeconds < 1) {
+            throw new IllegalArgumentException("games, moves-per-game and report-seconds must be positive");
+        }
+        return options;
+    }
+
+    private static String stringValue(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        String value = values.remove(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    public String getWebSocketUrl() {
+        return url.replaceFirst("^http", "ws") + "/ws-native";
+    }
+
+    public String getUrl() { return url; }
+    public int getGames() { return games; }
+    public int getDurationSeconds() { return durationSeconds; }
+    public int getRampUpSeconds() { return rampUpSeconds; }
+    public int getMovesPerGame() { return movesPerGame; }
+    public int getThinkMillis() { return thinkMillis; }
+    public int getTimeoutMillis() { return timeoutMillis; }
+    public int getReportSeconds() { return reportSeconds; }
+    public long getSeed() { return seed; }
+    public String getOut() { return out; }
+
+    @Override
+    public String toString() {
+        return "url=" + url + " games=" + games + " duration=" + durationSeconds + "s ramp-up=" + rampUpSeconds
+                + "s moves-per-game=" + movesPerGame + " think=" + thinkMillis + "ms timeout=" + timeoutMillis
+                + "ms seed=" + seed;
+    }
+}
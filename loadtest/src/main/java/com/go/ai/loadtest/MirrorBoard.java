@@ -0,0 +1,62 @@
+package com.go.ai.loadtest;
+
+import java.util.Random;
+
+/**
+ * 서버가 보낸 변경분(MoveDeltaDto)으로 따라가는 보드.
+ * 빈 이웃이 하나라도 있는 빈 점만 고르므로 자살수나 패가 될 수 없어 규칙 엔진 없이도 항상 합법인 수를 둔다.
+ */
+public class MirrorBoard {
+
+    private static final int SIZE = 19;
+    private static final byte EMPTY = 0;
+    private static final byte BLACK = 1;
+    private static final byte WHITE = 2;
+
+    private final byte[] cells = new byte[SIZE * SIZE];
+    private final int[] candidates = new int[SIZE * SIZE];
+    private byte turn = BLACK;
+
+    /**
+     * 서버가 알려준 착수와 따낸 돌을 반영한다. next는 다음 차례 ('b' 또는 'w')
+     */
+    public void apply(int move, int[] removed, String next) {
+        cells[move] = turn;
+        if (removed != null) {
+            for (int point : removed) {
+                cells[point] = EMPTY;
+            }
+        }
+        turn = "w".equals(next) ? WHITE : BLACK;
+    }
+
+    /**
+     * 둘 수 있는 점 중 하나를 무작위로 고른다. 없으면 -1
+     */
+    public int pickMove(Random random) {
+        int count = 0;
+        for (int point = 0; point < cells.length; point++) {
+            if (cells[point] == EMPTY && hasEmptyNeighbor(point)) {
+                candidates[count++] = point;
+            }
+        }
+        return count > 0 ? candidates[random.nextInt(count)] : -1;
+    }
+
+    public static int rowOf(int point) {
+        return point / SIZE;
+    }
+
+    public static int colOf(int point) {
+        return point % SIZE;
+    }
+
+    private boolean hasEmptyNeighbor(int point) {
+        int row = point / SIZE;
+        int col = point % SIZE;
+        return (row > 0 && cells[point - SIZE] == EMPTY)
+                || (row < SIZE - 1 && cells[point + SIZE] == EMPTY)
+                || (col > 0 && cells[point - 1] == EMPTY)
+                || (col < SIZE - 1 && cells[point + 1] == EMPTY);
+    }
+}
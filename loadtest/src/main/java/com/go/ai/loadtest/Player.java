@@ -0,0 +1,110 @@
+package com.go.ai.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대국자 한 명의 STOMP 연결. 지금 들어가 있는 방 토픽의 메시지를 받은 시각과 함께 inbox에 쌓는다.
+ */
+public class Player {
+
+    private final long userId;
+    private final ObjectMapper objectMapper;
+    private final LoadStats stats;
+    private final BlockingQueue<Frame> inbox = new LinkedBlockingQueue<>();
+    private StompSession session;
+    private StompSession.Subscription subscription;
+
+    public Player(long userId, ObjectMapper objectMapper, LoadStats stats) {
+        this.userId = userId;
+        this.objectMapper = objectMapper;
+        this.stats = stats;
+    }
+
+    public void connect(WebSocketStompClient stompClient, String url, long timeoutMillis) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        // 서버는 CONNECT의 userId 헤더로 세션의 사용자를 정함
+        connectHeaders.add("userId", String.valueOf(userId));
+        StompSessionHandlerAdapter handler = new StompSessionHandlerAdapter() {
+            @Override
+            public void handleTransportError(StompSession session, Throwable exception) {
+                stats.transportError();
+            }
+        };
+        session = stompClient.connectAsync(url, (WebSocketHttpHeaders) null, connectHeaders, handler)
+                .get(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 방 토픽으로 옮긴다. 이전 방의 남은 메시지는 버림
+     */
+    public void watch(long roomId) {
+        if (subscription != null) {
+            subscription.unsubscribe();
+        }
+        inbox.clear();
+        subscription = session.subscribe("/topic/game/" + roomId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                long receivedNanos = System.nanoTime();
+                stats.frameReceived(((byte[]) payload).length);
+                try {
+                    inbox.add(new Frame(objectMapper.readTree((byte[]) payload), receivedNanos));
+                } catch (IOException e) {
+                    stats.transportError();
+                }
+            }
+        });
+    }
+
+    public void send(String destination, Map<String, ?> body) throws IOException {
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(destination);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        session.send(headers, objectMapper.writeValueAsBytes(body));
+    }
+
+    /**
+     * 다음 메시지를 기다린다. 제한 시간이 지나면 null
+     */
+    public Frame poll(long timeoutMillis) throws InterruptedException {
+        return inbox.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이 연결로 받았지만 읽지 않은 메시지를 버림 (상대 차례의 변경분은 두는 쪽 연결에서 처리)
+     */
+    public void discardReceived() {
+        inbox.clear();
+    }
+
+    public void disconnect() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    public long getUserId() { return userId; }
+
+    public record Frame(JsonNode body, long receivedNanos) {
+    }
+}
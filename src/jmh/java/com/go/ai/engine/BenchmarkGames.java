@@ -0,0 +1,83 @@
+package com.go.ai.engine;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 수순. 같은 seed면 항상 같은 수순이며, 서버와 같은 규칙(GoGame, 동형 반복 금지)으로 합법인 수만 담는다.
+ */
+public final class BenchmarkGames {
+
+    private BenchmarkGames() {
+    }
+
+    /**
+     * 흑부터 번갈아 둔 무작위 대국의 수순 (row * size + col). 자기 눈은 메우지 않으며, 둘 곳이 없으면 moves보다 짧다.
+     */
+    public static int[] randomGame(int moves, long seed) {
+        GoGame game = new GoGame();
+        GoBoard board = game.getBoard();
+        int size = board.getSize();
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] sequence = new int[moves];
+        int played = 0;
+        while (played < moves) {
+            // 따내기 경로도 측정되도록 따낼 수 있는 수가 있으면 절반은 그 수를 둠
+            int move = random.nextBoolean() ? capturingMove(game) : -1;
+            for (int attempt = 0; move < 0 && attempt < size * size * 4; attempt++) {
+                int candidate = random.nextInt(size * size);
+                int row = candidate / size;
+                int col = candidate % size;
+                if (!isOwnEye(board, row, col, game.getTurn()) && game.check(row, col) == MoveLegality.LEGAL) {
+                    move = candidate;
+                    break;
+                }
+            }
+            if (move < 0) {
+                break;
+            }
+            game.play(move / size, move % size);
+            sequence[played++] = move;
+        }
+        return Arrays.copyOf(sequence, played);
+    }
+
+    /**
+     * seed로 만든 수순을 moves수까지 둔 국면
+     */
+    public static GoGame position(int moves, long seed) {
+        GoGame game = new GoGame();
+        int size = game.getBoard().getSize();
+        for (int move : randomGame(moves, seed)) {
+            game.play(move / size, move % size);
+        }
+        return game;
+    }
+
+    private static int capturingMove(GoGame game) {
+        GoBoard board = game.getBoard();
+        int size = board.getSize();
+        for (int candidate = 0; candidate < size * size; candidate++) {
+            int row = candidate / size;
+            int col = candidate % size;
+            if (game.check(row, col) != MoveLegality.LEGAL) {
+                continue;
+            }
+            GoBoard after = board.copy();
+            if (after.play(row, col, game.getTurn()) > 0) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isOwnEye(GoBoard board, int row, int col, byte color) {
+        int[][] neighbors = { { row - 1, col }, { row + 1, col }, { row, col - 1 }, { row, col + 1 } };
+        for (int[] neighbor : neighbors) {
+            if (board.isOnBoard(neighbor[0], neighbor[1]) && board.get(neighbor[0], neighbor[1]) != color) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package com.go.ai.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 착수 처리(합법 판정, 따내기, 국면 해시 기록). 결과는 수 하나당 시간
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveBenchmark {
+
+    private static final int MOVES = 200;
+    private static final int SIZE = GoBoard.DEFAULT_SIZE;
+
+    private int[] moves;
+    private GoGame midGame;
+
+    @Setup
+    public void setUp() {
+        moves = BenchmarkGames.randomGame(MOVES, 42);
+        if (moves.length != MOVES) {
+            throw new IllegalStateException("Benchmark game ended early: " + moves.length);
+        }
+        midGame = BenchmarkGames.position(120, 7);
+    }
+
+    /**
+     * 빈 판에서 200수를 끝까지 두기 (따내기 포함)
+     */
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public long playGame() {
+        GoGame game = new GoGame();
+        for (int move : moves) {
+            game.play(move / SIZE, move % SIZE);
+        }
+        return game.getHash() + game.getCapturedBlack() + game.getCapturedWhite();
+    }
+
+    /**
+     * 중반 국면에서 모든 점의 합법 여부 판정
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE * SIZE)
+    public void checkAllPoints(Blackhole blackhole) {
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                blackhole.consume(midGame.check(row, col));
+            }
+        }
+    }
+}
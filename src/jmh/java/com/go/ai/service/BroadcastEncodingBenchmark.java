@@ -0,0 +1,104 @@
+package com.go.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.go.ai.dto.ClockDto;
+import com.go.ai.dto.GameStateDto;
+import com.go.ai.dto.MoveDeltaDto;
+import com.go.ai.engine.BenchmarkGames;
+import com.go.ai.engine.BoardCodec;
+import com.go.ai.engine.GoBoard;
+import com.go.ai.engine.GoGame;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 토픽으로 나가는 메시지의 직렬화(RoomBroadcaster.encode)와 보드 변환.
+ * legacyBoardJson은 보드를 JSON 배열로 보내던 이전 방식으로, 현재 형식(BoardCodec + base64)과 비교용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BroadcastEncodingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private RoomBroadcaster roomBroadcaster;
+    private GoBoard board;
+    private byte[] boardData;
+    private String boardJson;
+    private GameStateDto state;
+    private MoveDeltaDto delta;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper();
+        // 인코딩만 쓰므로 메시지 템플릿 없이 생성
+        roomBroadcaster = new RoomBroadcaster(null, objectMapper, new GameMetrics(new SimpleMeterRegistry()), 1000);
+
+        GoGame game = BenchmarkGames.position(150, 11);
+        board = game.getBoard();
+        boardData = BoardCodec.encode(board);
+        boardJson = objectMapper.writeValueAsString(board.toArray());
+
+        ClockDto clock = new ClockDto();
+        clock.setBlackMillis(412_000);
+        clock.setWhiteMillis(397_500);
+        clock.setBlackPeriods(3);
+        clock.setWhitePeriods(3);
+        clock.setPeriodMillis(30_000);
+        clock.setRunning("b");
+
+        state = new GameStateDto(null, BoardStates.turnOf(game), "PLAYING", false, null, "흑돌이", "백돌이", null,
+                game.getCapturedBlack(), game.getCapturedWhite());
+        state.setBoard(BoardCodec.toBase64(boardData));
+        state.setSeq(game.getMoveCount());
+        state.setClock(clock);
+
+        delta = new MoveDeltaDto(151, 3 * 19 + 15, new int[] { 3 * 19 + 16, 4 * 19 + 16 }, "w");
+        delta.setClock(clock);
+    }
+
+    @Benchmark
+    public RoomBroadcaster.EncodedFrame encodeGameState() {
+        return roomBroadcaster.encode(state);
+    }
+
+    @Benchmark
+    public RoomBroadcaster.EncodedFrame encodeMoveDelta() {
+        return roomBroadcaster.encode(delta);
+    }
+
+    @Benchmark
+    public String encodeBoard() {
+        return BoardCodec.toBase64(BoardCodec.encode(board));
+    }
+
+    @Benchmark
+    public GoBoard decodeBoard() {
+        return BoardCodec.decode(boardData);
+    }
+
+    @Benchmark
+    public String legacyBoardJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(board.toArray());
+    }
+
+    @Benchmark
+    public byte[] legacyBoardFromJson() {
+        return BoardStates.fromJson(objectMapper, boardJson);
+    }
+}
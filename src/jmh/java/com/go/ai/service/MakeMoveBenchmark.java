@@ -0,0 +1,89 @@
+package com.go.ai.service;
+
+import com.go.ai.AiGoApplication;
+import com.go.ai.dto.MoveDeltaDto;
+import com.go.ai.engine.BenchmarkGames;
+import com.go.ai.engine.GoBoard;
+import com.go.ai.entity.GameRoom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대국 중 착수 경로 전체(GameRoomService.makeMove: 차례 확인, 합법 판정, 메모리 상태 갱신, game_moves 모아 쓰기).
+ * 애플리케이션을 H2(application-bench.yml)로 띄우고, 반복 한 번마다 새 방에서 같은 수순 한 판(GAME_MOVES수)을 둔다.
+ * 결과는 한 판 전체 시간이므로 수 하나당 시간은 GAME_MOVES로 나눈다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20, batchSize = MakeMoveBenchmark.GAME_MOVES)
+@Measurement(iterations = 50, batchSize = MakeMoveBenchmark.GAME_MOVES)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MakeMoveBenchmark {
+
+    static final int GAME_MOVES = 200;
+    private static final int SIZE = GoBoard.DEFAULT_SIZE;
+
+    private ConfigurableApplicationContext context;
+    private GameRoomService gameRoomService;
+    private int[] moves;
+    private Long hostId;
+    private Long guestId;
+    private Long roomId;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(AiGoApplication.class).run("--spring.profiles.active=bench");
+        gameRoomService = context.getBean(GameRoomService.class);
+        UserService userService = context.getBean(UserService.class);
+        hostId = userService.loginOrRegister("bench-black").getId();
+        guestId = userService.loginOrRegister("bench-white").getId();
+        moves = BenchmarkGames.randomGame(GAME_MOVES, 42);
+        if (moves.length != GAME_MOVES) {
+            throw new IllegalStateException("Benchmark game ended early: " + moves.length);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startGame() {
+        GameRoom room = gameRoomService.createRoom(hostId);
+        roomId = room.getId();
+        gameRoomService.joinRoom(roomId, guestId);
+        next = 0;
+    }
+
+    @Benchmark
+    public MoveDeltaDto makeMove() {
+        int move = moves[next];
+        Long player = next % 2 == 0 ? hostId : guestId;
+        next++;
+        return gameRoomService.makeMove(roomId, move / SIZE, move % SIZE, player);
+    }
+
+    @TearDown(Level.Iteration)
+    public void endGame() {
+        // 방장 이탈로 끝내 메모리의 진행 중 게임을 정리
+        gameRoomService.handleUserDisconnect(roomId, hostId);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+}
@@ -0,0 +1,33 @@
+package com.go.ai.config;
+
+import com.go.ai.service.RoomBroadcaster;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 이미 직렬화된 RoomBroadcaster.EncodedFrame을 다시 변환하지 않고 application/json 본문으로 그대로 보낸다.
+ * 같은 바이트 배열이 모든 구독자의 메시지에 공유된다.
+ */
+public class EncodedFrameMessageConverter extends AbstractMessageConverter {
+
+    public EncodedFrameMessageConverter() {
+        super(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RoomBroadcaster.EncodedFrame.class == clazz;
+    }
+
+    @Override
+    protected boolean canConvertFrom(Message<?> message, Class<?> targetClass) {
+        return false; // 보내기 전용
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        return ((RoomBroadcaster.EncodedFrame) payload).json();
+    }
+}
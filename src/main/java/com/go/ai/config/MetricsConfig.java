@@ -0,0 +1,37 @@
+package com.go.ai.config;
+
+import com.go.ai.service.GameMetrics;
+import com.go.ai.service.LiveGameRegistry;
+import com.go.ai.service.Matchmaker;
+import com.go.ai.service.RoomActors;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상태를 가진 컴포넌트의 게이지. 값은 스크레이프할 때 읽는다.
+ * STOMP 채널 실행기(clientInbound/clientOutbound/brokerChannel)의 대기열은 Spring Boot가 executor.* 지표로 따로 노출한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder gameGauges(LiveGameRegistry liveGameRegistry, RoomActors roomActors, GameMetrics gameMetrics,
+            Matchmaker matchmaker) {
+        return registry -> {
+            Gauge.builder("go.rooms.active", liveGameRegistry, live -> live.getAll().size())
+                    .description("이 노드에서 진행 중인 대국 수")
+                    .register(registry);
+            Gauge.builder("go.ws.sessions", gameMetrics, GameMetrics::getSessionCount)
+                    .description("STOMP 연결 수")
+                    .register(registry);
+            Gauge.builder("go.room.mailbox.depth", roomActors, RoomActors::getTotalQueueDepth)
+                    .description("방 메일박스에서 처리를 기다리는 명령 수")
+                    .register(registry);
+            Gauge.builder("go.matchmaking.waiting", matchmaker, Matchmaker::getWaitingCount)
+                    .description("자동 매칭을 기다리는 사람 수")
+                    .register(registry);
+        };
+    }
+}
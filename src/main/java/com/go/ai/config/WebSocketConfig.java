@@ -1,26 +1,176 @@
 package com.go.ai.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.List;
+
+/**
+ * go.websocket.broker.mode가 simple이면 메모리 안 브로커(노드 하나용),
+ * relay이면 외부 STOMP 브로커(ActiveMQ Artemis, RabbitMQ STOMP 플러그인 등)로 /topic 메시지를 중계해 여러 노드의 구독자가 같은 방 토픽을 받는다.
+ *
+ * 전송 설정(go.websocket.transport)은 채널 스레드 풀과 대기열 크기를 제한하고, 보내기가 느린 세션은 버퍼/시간 한도를 넘으면 끊어
+ * 한 클라이언트가 다른 구독자에게 가는 메시지를 막지 않게 한다. 하트비트로 끊긴 연결을 빨리 찾는다.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Value("${go.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${go.websocket.broker.relay-host:localhost}")
+    private String relayHost;
+
+    @Value("${go.websocket.broker.relay-port:61613}")
+    private int relayPort;
+
+    @Value("${go.websocket.broker.virtual-host:}")
+    private String virtualHost;
+
+    @Value("${go.websocket.broker.client-login:guest}")
+    private String clientLogin;
+
+    @Value("${go.websocket.broker.client-passcode:guest}")
+    private String clientPasscode;
+
+    @Value("${go.websocket.broker.system-login:guest}")
+    private String systemLogin;
+
+    @Value("${go.websocket.broker.system-passcode:guest}")
+    private String systemPasscode;
+
+    @Value("${go.websocket.transport.inbound.core-threads:8}")
+    private int inboundCoreThreads;
+
+    @Value("${go.websocket.transport.inbound.max-threads:16}")
+    private int inboundMaxThreads;
+
+    @Value("${go.websocket.transport.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${go.websocket.transport.outbound.core-threads:8}")
+    private int outboundCoreThreads;
+
+    @Value("${go.websocket.transport.outbound.max-threads:16}")
+    private int outboundMaxThreads;
+
+    @Value("${go.websocket.transport.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${go.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${go.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${go.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${go.websocket.transport.time-to-first-message-ms:30000}")
+    private int timeToFirstMessageMillis;
+
+    @Value("${go.websocket.transport.heartbeat-ms:10000}")
+    private long heartbeatMillis;
+
+    @Value("${go.websocket.transport.sockjs.enabled:true}")
+    private boolean sockJsEnabled;
+
+    @Value("${go.websocket.transport.sockjs.heartbeat-ms:25000}")
+    private long sockJsHeartbeatMillis;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            var relay = config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(clientLogin)
+                    .setClientPasscode(clientPasscode)
+                    .setSystemLogin(systemLogin)
+                    .setSystemPasscode(systemPasscode)
+                    .setSystemHeartbeatSendInterval(heartbeatMillis)
+                    .setSystemHeartbeatReceiveInterval(heartbeatMillis);
+            if (!virtualHost.isBlank()) {
+                relay.setVirtualHost(virtualHost);
+            }
+        } else if ("simple".equalsIgnoreCase(brokerMode)) {
+            var broker = config.enableSimpleBroker("/topic");
+            if (heartbeatMillis > 0) {
+                // 서버 -> 클라이언트, 클라이언트 -> 서버 하트비트 간격 (클라이언트가 CONNECT에서 요청한 값과 협상됨)
+                broker.setHeartbeatValue(new long[] { heartbeatMillis, heartbeatMillis })
+                        .setTaskScheduler(heartbeatScheduler());
+            }
+        } else {
+            throw new IllegalStateException("Unknown go.websocket.broker.mode: " + brokerMode);
+        }
         config.setApplicationDestinationPrefixes("/app");
+        // 출력 채널 스레드가 여러 개여도 세션별 전송 순서 유지 (seq 순서대로 변경분이 도착해야 함)
+        config.setPreservePublishOrder(true);
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        registry.addEndpoint("/ws")
-                .setAllowedOriginPatterns("*")
-                .withSockJS();
+        // 같은 세션에서 받은 메시지는 받은 순서대로 처리
+        registry.setPreserveReceiveOrder(true);
+        // 네이티브 WebSocket 엔드포인트는 항상 열고, SockJS 대체 전송은 설정으로 켬/끔
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns("*");
+        if (sockJsEnabled) {
+            registry.addEndpoint("/ws")
+                    .setAllowedOriginPatterns("*")
+                    .withSockJS()
+                    .setHeartbeatTime(sockJsHeartbeatMillis);
+        }
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                // 한 세션으로 보내는 데 이 시간/버퍼를 넘기면 그 세션을 끊음 (느린 소비자가 브로커를 막지 않도록)
+                .setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                // 연결 후 CONNECT를 보내지 않는 세션 정리
+                .setTimeToFirstMessage(timeToFirstMessageMillis);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCoreThreads)
+                .maxPoolSize(inboundMaxThreads)
+                .queueCapacity(inboundQueueCapacity);
     }
-}
 
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCoreThreads)
+                .maxPoolSize(outboundMaxThreads)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // 방 브로드캐스트는 미리 직렬화한 프레임을 그대로 보냄 (기본 변환기도 함께 등록)
+        messageConverters.add(new EncodedFrameMessageConverter());
+        return true;
+    }
+
+    private ThreadPoolTaskScheduler heartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
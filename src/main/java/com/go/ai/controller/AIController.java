@@ -1,25 +1,48 @@
 package com.go.ai.controller;
 
+import com.go.ai.dto.AIMoveRequest;
+import com.go.ai.dto.AIMoveResponse;
 import com.go.ai.dto.AIRequest;
 import com.go.ai.dto.AIResponse;
+import com.go.ai.service.AIMoveService;
 import com.go.ai.service.AIService;
+import com.go.ai.service.CommentCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/ai")
 @CrossOrigin(origins = "*")
 public class AIController {
 
     private final AIService aiService;
+    private final AIMoveService aiMoveService;
+    private final CommentCache commentCache;
 
-    public AIController(AIService aiService) {
+    public AIController(AIService aiService, AIMoveService aiMoveService, CommentCache commentCache) {
         this.aiService = aiService;
+        this.aiMoveService = aiMoveService;
+        this.commentCache = commentCache;
     }
 
+    // 응답을 기다리는 동안 요청 스레드를 반납 (비동기 응답)
     @PostMapping("/comment")
-    public AIResponse getComment(@RequestBody AIRequest request) {
+    public CompletableFuture<AIResponse> getComment(@RequestBody AIRequest request) {
         return aiService.getComment(request);
     }
+
+    @GetMapping("/comment/cache")
+    public Map<String, Object> getCommentCacheStats() {
+        // 코멘트 캐시 크기와 적중/실패 수
+        return commentCache.getStats();
+    }
+
+    @PostMapping("/move")
+    public AIMoveResponse getMove(@RequestBody AIMoveRequest request) {
+        return aiMoveService.findMove(request);
+    }
 }
 
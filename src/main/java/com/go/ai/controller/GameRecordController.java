@@ -0,0 +1,85 @@
+package com.go.ai.controller;
+
+import com.go.ai.dto.ReplayDto;
+import com.go.ai.entity.GameRecord;
+import com.go.ai.service.GameArchiveService;
+import com.go.ai.service.GameReplayService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/games")
+@CrossOrigin(origins = "*")
+public class GameRecordController {
+
+    private static final MediaType SGF = new MediaType("application", "x-go-sgf", StandardCharsets.UTF_8);
+
+    private final GameArchiveService gameArchiveService;
+    private final GameReplayService gameReplayService;
+
+    public GameRecordController(GameArchiveService gameArchiveService, GameReplayService gameReplayService) {
+        this.gameArchiveService = gameArchiveService;
+        this.gameReplayService = gameReplayService;
+    }
+
+    // 대국 기록 하나의 SGF 기보 (id는 game_records의 id)
+    @GetMapping("/{gameId}.sgf")
+    public ResponseEntity<String> getSgf(@PathVariable Long gameId) {
+        return ResponseEntity.ok()
+                .contentType(SGF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment("game-" + gameId + ".sgf"))
+                .body(gameArchiveService.toSgf(gameId));
+    }
+
+    // move번째 수까지 둔 국면 (0이면 빈 판)
+    @GetMapping("/{gameId}/replay")
+    public ResponseEntity<ReplayDto> replay(@PathVariable Long gameId, @RequestParam int move) {
+        return ResponseEntity.ok(gameReplayService.replay(gameId, move));
+    }
+
+    /**
+     * 끝난 판 전체를 SGF 모음 하나로 내려받는다. (사용자 또는 끝난 날짜 범위, 둘 다 지정 가능)
+     * 응답은 DB에서 읽는 대로 흘려보내므로 판 수가 많아도 서버 메모리를 더 쓰지 않는다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (userId == null && from == null && to == null) {
+            throw new IllegalArgumentException("userId, from or to is required");
+        }
+        String fileName = "games" + (userId != null ? "-user" + userId : "")
+                + (from != null ? "-from" + from : "") + (to != null ? "-to" + to : "") + ".sgf";
+        StreamingResponseBody body = out -> gameArchiveService.exportSgf(userId, from, to, out);
+        return ResponseEntity.ok()
+                .contentType(SGF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName))
+                .body(body);
+    }
+
+    // SGF 기보를 대국 기록으로 가져온다 (요청 본문이 기보 텍스트)
+    @PostMapping(value = "/import", consumes = { "application/x-go-sgf", MediaType.TEXT_PLAIN_VALUE })
+    public ResponseEntity<Map<String, Object>> importSgf(@RequestBody String sgf) {
+        GameRecord record = gameArchiveService.importSgf(sgf);
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", record.getId());
+        response.put("moveCount", record.getMoveCount());
+        response.put("winner", record.getWinner());
+        return ResponseEntity.ok(response);
+    }
+
+    private static String attachment(String fileName) {
+        return ContentDisposition.attachment().filename(fileName).build().toString();
+    }
+}
@@ -1,12 +1,21 @@
 package com.go.ai.controller;
 
 import com.go.ai.dto.GameStateDto;
+import com.go.ai.dto.LiveRoomDto;
 import com.go.ai.dto.RoomDto;
 import com.go.ai.entity.GameRoom;
+import com.go.ai.entity.TimeControl;
 import com.go.ai.service.GameRoomService;
+import com.go.ai.service.RoomActors;
+import com.go.ai.service.RoomAffinity;
+import com.go.ai.service.RoomCleanup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,15 +25,34 @@ import java.util.Map;
 public class GameRoomController {
 
     private final GameRoomService gameRoomService;
+    private final RoomActors roomActors;
+    private final RoomCleanup roomCleanup;
+    private final RoomAffinity roomAffinity;
 
-    public GameRoomController(GameRoomService gameRoomService) {
+    @Value("${go.cluster.route-cookie:GO_NODE}")
+    private String routeCookie;
+
+    public GameRoomController(GameRoomService gameRoomService, RoomActors roomActors, RoomCleanup roomCleanup,
+            RoomAffinity roomAffinity) {
         this.gameRoomService = gameRoomService;
+        this.roomActors = roomActors;
+        this.roomCleanup = roomCleanup;
+        this.roomAffinity = roomAffinity;
     }
 
     @PostMapping
     public ResponseEntity<RoomDto> createRoom(@RequestBody Map<String, Long> request) {
         Long hostId = request.get("hostId");
-        GameRoom room = gameRoomService.createRoom(hostId);
+        // 제한 시간을 보내지 않으면 서버 기본값 사용
+        TimeControl timeControl = null;
+        if (request.containsKey("mainTimeSeconds")) {
+            timeControl = new TimeControl(
+                    intValue(request.get("mainTimeSeconds")),
+                    intValue(request.get("byoYomiPeriods")),
+                    intValue(request.get("byoYomiSeconds")),
+                    intValue(request.get("incrementSeconds")));
+        }
+        GameRoom room = gameRoomService.createRoom(hostId, timeControl);
         RoomDto dto = new RoomDto(
                 room.getId(),
                 room.getHost().getName(),
@@ -41,18 +69,60 @@ public class GameRoomController {
         return ResponseEntity.ok(gameRoomService.getWaitingRooms(type));
     }
 
+    @GetMapping("/live")
+    public ResponseEntity<List<LiveRoomDto>> getLiveRooms() {
+        // 관전할 수 있는 진행 중인 대국 (관전자가 많은 순)
+        return ResponseEntity.ok(gameRoomService.getLiveRooms());
+    }
+
     @PostMapping("/{roomId}/join")
     public ResponseEntity<GameStateDto> joinRoom(
             @PathVariable Long roomId,
             @RequestBody Map<String, Long> request) {
         Long guestId = request.get("guestId");
-        GameRoom room = gameRoomService.joinRoom(roomId, guestId);
-        GameStateDto state = gameRoomService.getGameState(roomId);
+        // 같은 방의 다른 명령과 순서가 섞이지 않도록 방의 메일박스에서 처리
+        GameStateDto state = roomActors.call(roomId, () -> {
+            gameRoomService.joinRoom(roomId, guestId);
+            return gameRoomService.getGameState(roomId);
+        });
         return ResponseEntity.ok(state);
     }
 
+    /**
+     * 방을 맡은 노드. 로드 밸런서가 이 쿠키로 이후 요청(참여, WebSocket)을 같은 노드로 보낸다.
+     */
+    @GetMapping("/{roomId}/node")
+    public ResponseEntity<Map<String, Object>> getRoomNode(@PathVariable Long roomId) {
+        String owner = roomAffinity.ownerOf(roomId);
+        ResponseCookie cookie = ResponseCookie.from(routeCookie, owner).path("/").build();
+        Map<String, Object> response = new HashMap<>();
+        response.put("roomId", roomId);
+        response.put("node", owner);
+        response.put("servedBy", roomAffinity.getNodeId());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .body(response);
+    }
+
     @GetMapping("/{roomId}/state")
     public ResponseEntity<GameStateDto> getGameState(@PathVariable Long roomId) {
         return ResponseEntity.ok(gameRoomService.getGameState(roomId));
     }
+
+    @GetMapping("/queues")
+    public ResponseEntity<Map<Long, Integer>> getQueueDepths() {
+        // 방별 처리 대기 중인 명령 수 (대기 명령이 있는 방만)
+        return ResponseEntity.ok(roomActors.getQueueDepths());
+    }
+
+    @GetMapping("/cleanup")
+    public ResponseEntity<RoomCleanup.Run> getLastCleanup() {
+        // 마지막 방 정리 실행 결과 (아직 실행 전이면 204)
+        RoomCleanup.Run run = roomCleanup.getLastRun();
+        return run != null ? ResponseEntity.ok(run) : ResponseEntity.noContent().build();
+    }
+
+    private static int intValue(Long value) {
+        return value != null ? Math.toIntExact(value) : 0;
+    }
 }
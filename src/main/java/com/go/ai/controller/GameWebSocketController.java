@@ -2,138 +2,236 @@ package com.go.ai.controller;
 
 import com.go.ai.dto.GameStateDto;
 import com.go.ai.dto.MoveDto;
+import com.go.ai.service.GameMetrics;
 import com.go.ai.service.GameRoomService;
+import com.go.ai.service.RoomBroadcaster;
+import com.go.ai.service.RoomActors;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * 게임 명령은 방별 메일박스(RoomActors)에서 순서대로 처리되고, 결과는 처리한 스레드가 직접 브로드캐스트한다.
+ * 인바운드 채널 스레드는 명령을 넣기만 하므로 특정 방이 느려도 다른 방의 메시지 처리가 막히지 않는다.
+ * 착수는 변경분(MoveDeltaDto)만 보내고, 전체 상태(GameStateDto)는 입장/상태 변경/재동기화 요청 때만 보낸다.
+ * 새로 구독한 대국자/관전자는 /snapshot 구독으로 자기 혼자 전체 상태를 받으므로 방 전체에 다시 보내지 않는다.
+ */
 @Controller
 public class GameWebSocketController {
 
     private static final Logger log = LoggerFactory.getLogger(GameWebSocketController.class);
 
     private final GameRoomService gameRoomService;
+    private final RoomActors roomActors;
+    private final RoomBroadcaster roomBroadcaster;
+    private final GameMetrics gameMetrics;
 
-    public GameWebSocketController(GameRoomService gameRoomService) {
+    public GameWebSocketController(GameRoomService gameRoomService, RoomActors roomActors,
+            RoomBroadcaster roomBroadcaster, GameMetrics gameMetrics) {
         this.gameRoomService = gameRoomService;
+        this.roomActors = roomActors;
+        this.roomBroadcaster = roomBroadcaster;
+        this.gameMetrics = gameMetrics;
     }
 
     @MessageMapping("/game/{roomId}/move")
-    @SendTo("/topic/game/{roomId}")
-    public GameStateDto handleMove(
+    public void handleMove(
             @DestinationVariable Long roomId,
             @Payload MoveDto moveDto,
             SimpMessageHeaderAccessor headerAccessor) {
-        try {
-            // 헤더에서 userId 추출
-            String userIdStr = headerAccessor.getFirstNativeHeader("userId");
-            if (userIdStr == null) {
-                userIdStr = (String) headerAccessor.getSessionAttributes().get("userId");
-            }
-
-            Long userId = userIdStr != null ? Long.parseLong(userIdStr) : null;
+        Long userId = getUserId(headerAccessor);
+        if (userId == null) {
+            log.warn("UserId not found in headers or session");
+            return;
+        }
+        String sessionId = headerAccessor.getSessionId();
 
-            if (userId == null) {
-                log.warn("UserId not found in headers or session");
-                return null;
+        long received = System.nanoTime();
+        roomActors.execute(roomId, () -> {
+            long started = System.nanoTime();
+            boolean success = false;
+            try {
+                // 차례 확인 후 서버 규칙 엔진으로 착수하고 변경분만 브로드캐스트
+                broadcast(roomId, gameRoomService.makeMove(roomId, moveDto.getRow(), moveDto.getCol(), userId));
+                success = true;
+            } catch (Exception e) {
+                log.warn("Rejected move in room {} from user {}: {}", roomId, userId, e.getMessage());
+                // 거절된 수(차례가 아님, 둘 수 없는 자리, 관전자 등)는 보낸 세션에만 알리고 방 전체에는 보내지 않음
+                // (클라이언트가 /snapshot 구독으로 자기 상태만 다시 맞춤)
+                roomBroadcaster.sendError(sessionId, roomId, e.getMessage());
+            } finally {
+                gameMetrics.recordCommand("move", received, started, success);
             }
+        });
+    }
+
+    /**
+     * 패스는 드물므로 변경분 대신 전체 상태를 보낸다. 두 번 연속 패스면 서버가 계가한 종료 상태가 된다.
+     */
+    @MessageMapping("/game/{roomId}/pass")
+    public void handlePass(
+            @DestinationVariable Long roomId,
+            SimpMessageHeaderAccessor headerAccessor) {
+        Long userId = getUserId(headerAccessor);
+        if (userId == null) {
+            log.warn("UserId not found in headers or session");
+            return;
+        }
+        String sessionId = headerAccessor.getSessionId();
 
-            // 차례 확인 및 업데이트 수행
-            GameStateDto state = gameRoomService.makeMove(
-                    roomId,
-                    moveDto.getRow(),
-                    moveDto.getCol(),
-                    moveDto.getBoardState(),
-                    moveDto.getTurn(),
-                    userId,
-                    moveDto.getCapturedBlack(),
-                    moveDto.getCapturedWhite());
-
-            // makeMove 후 최신 상태 반환
-            return state;
-        } catch (Exception e) {
-            log.error("Error handling move", e);
-            // 에러 발생 시(예: 차례가 아님) 현재 최신 게임 상태를 브로드캐스트하여 동기화 유도
+        long received = System.nanoTime();
+        roomActors.execute(roomId, () -> {
+            long started = System.nanoTime();
+            boolean success = false;
             try {
-                return gameRoomService.getGameState(roomId);
-            } catch (Exception ex) {
-                return null;
+                broadcast(roomId, gameRoomService.pass(roomId, userId));
+                success = true;
+            } catch (Exception e) {
+                log.warn("Rejected pass in room {} from user {}: {}", roomId, userId, e.getMessage());
+                roomBroadcaster.sendError(sessionId, roomId, e.getMessage());
+            } finally {
+                gameMetrics.recordCommand("pass", received, started, success);
             }
-        }
+        });
     }
 
-    @MessageMapping("/game/{roomId}/state")
-    @SendTo("/topic/game/{roomId}")
-    public GameStateDto handleStateUpdate(
+    @MessageMapping("/game/{roomId}/resign")
+    public void handleResign(
             @DestinationVariable Long roomId,
-            @Payload GameStateDto stateDto,
             SimpMessageHeaderAccessor headerAccessor) {
-        try {
-            // 헤더에서 userId 추출
-            String userIdStr = headerAccessor.getFirstNativeHeader("userId");
-            if (userIdStr == null) {
-                userIdStr = (String) headerAccessor.getSessionAttributes().get("userId");
+        Long userId = getUserId(headerAccessor);
+        if (userId == null) {
+            log.warn("UserId not found in headers or session");
+            return;
+        }
+        String sessionId = headerAccessor.getSessionId();
+
+        long received = System.nanoTime();
+        roomActors.execute(roomId, () -> {
+            long started = System.nanoTime();
+            boolean success = false;
+            try {
+                // 종료 알림은 서비스가 방 전체에 보냄
+                gameRoomService.resign(roomId, userId);
+                success = true;
+            } catch (Exception e) {
+                log.warn("Rejected resignation in room {} from user {}: {}", roomId, userId, e.getMessage());
+                roomBroadcaster.sendError(sessionId, roomId, e.getMessage());
+            } finally {
+                gameMetrics.recordCommand("resign", received, started, success);
             }
+        });
+    }
 
-            Long userId = userIdStr != null ? Long.parseLong(userIdStr) : null;
+    /**
+     * 방 토픽을 구독한 클라이언트가 현재 전체 상태를 한 번 받아 간다. (응답은 구독한 세션에만 감)
+     * 같은 방의 구독자들은 캐시된 같은 프레임을 받는다.
+     */
+    @SubscribeMapping("/game/{roomId}/snapshot")
+    public RoomBroadcaster.EncodedFrame handleSnapshot(@DestinationVariable Long roomId) {
+        return roomBroadcaster.snapshot(roomId, () -> gameRoomService.getGameState(roomId));
+    }
 
-            if (userId == null) {
-                log.warn("UserId not found in headers or session");
-                return null;
+    /**
+     * 방 전체에 전체 상태를 다시 보낸다. (이전 클라이언트 호환용, 새 클라이언트는 /snapshot 구독을 사용)
+     */
+    @MessageMapping("/game/{roomId}/sync")
+    public void handleSync(@DestinationVariable Long roomId) {
+        roomActors.execute(roomId, () -> {
+            try {
+                broadcast(roomId, gameRoomService.getGameState(roomId));
+            } catch (Exception e) {
+                log.warn("Cannot resync room {}: {}", roomId, e.getMessage());
             }
+        });
+    }
 
-            // 게임 상태 업데이트 (클라이언트에서 검증된 상태를 받아서 저장)
-            gameRoomService.updateGameState(
-                    roomId,
-                    stateDto.getBoardState(),
-                    stateDto.getTurn(),
-                    stateDto.getIsGameOver() != null ? stateDto.getIsGameOver() : false,
-                    stateDto.getWinner(),
-                    stateDto.getStatus(),
-                    stateDto.getCapturedBlack(),
-                    stateDto.getCapturedWhite());
-
-            // 업데이트된 상태를 모든 클라이언트에 브로드캐스트
-            GameStateDto updatedState = gameRoomService.getGameState(roomId);
-            log.info("Broadcasting game state update for room {}: BoardState={}, Turn={}", roomId, updatedState.getBoardState(),
-                    updatedState.getTurn());
-            return updatedState;
-        } catch (Exception e) {
-            log.error("Error handling state update", e);
-            return null;
+    @MessageMapping("/game/{roomId}/state")
+    public void handleStateUpdate(
+            @DestinationVariable Long roomId,
+            @Payload GameStateDto stateDto,
+            SimpMessageHeaderAccessor headerAccessor) {
+        Long userId = getUserId(headerAccessor);
+        if (userId == null) {
+            log.warn("UserId not found in headers or session");
+            return;
         }
+
+        long received = System.nanoTime();
+        roomActors.execute(roomId, () -> {
+            long started = System.nanoTime();
+            boolean success = false;
+            try {
+                // 게임 상태 업데이트 (종료 시 승패는 서버가 계가해서 정함)
+                gameRoomService.updateGameState(
+                        roomId,
+                        userId,
+                        stateDto.getBoardState(),
+                        stateDto.getTurn(),
+                        stateDto.getIsGameOver() != null ? stateDto.getIsGameOver() : false,
+                        stateDto.getStatus(),
+                        stateDto.getCapturedBlack(),
+                        stateDto.getCapturedWhite());
+
+                // 업데이트된 상태를 모든 클라이언트에 브로드캐스트
+                GameStateDto updatedState = gameRoomService.getGameState(roomId);
+                log.info("Broadcasting game state update for room {}: BoardState={}, Turn={}", roomId,
+                        updatedState.getBoard(), updatedState.getTurn());
+                broadcast(roomId, updatedState);
+                success = true;
+            } catch (Exception e) {
+                log.error("Error handling state update", e);
+            } finally {
+                gameMetrics.recordCommand("state", received, started, success);
+            }
+        });
     }
 
     @MessageMapping("/game/{roomId}/nudge")
-    @SendTo("/topic/game/{roomId}")
-    public GameStateDto handleNudge(
+    public void handleNudge(
             @DestinationVariable Long roomId,
             SimpMessageHeaderAccessor headerAccessor) {
-        try {
-            // 헤더에서 userId 추출
-            String userIdStr = headerAccessor.getFirstNativeHeader("userId");
-            if (userIdStr == null) {
-                userIdStr = (String) headerAccessor.getSessionAttributes().get("userId");
-            }
-
-            Long userId = userIdStr != null ? Long.parseLong(userIdStr) : null;
+        Long userId = getUserId(headerAccessor);
+        if (userId == null) {
+            log.warn("UserId not found in headers or session");
+            return;
+        }
 
-            if (userId == null) {
-                log.warn("UserId not found in headers or session");
-                return null;
+        long received = System.nanoTime();
+        roomActors.execute(roomId, () -> {
+            long started = System.nanoTime();
+            boolean success = false;
+            try {
+                // 재촉 메시지 전송 (메시지가 포함된 GameStateDto)
+                broadcast(roomId, gameRoomService.sendNudgeMessage(roomId, userId));
+                success = true;
+            } catch (Exception e) {
+                log.error("Error handling nudge", e);
+            } finally {
+                gameMetrics.recordCommand("nudge", received, started, success);
             }
+        });
+    }
 
-            // 재촉 메시지 전송 및 반환 (메시지가 포함된 GameStateDto)
-            return gameRoomService.sendNudgeMessage(roomId, userId);
-        } catch (Exception e) {
-            log.error("Error handling nudge", e);
+    private void broadcast(Long roomId, Object payload) {
+        roomBroadcaster.send(roomId, payload);
+    }
+
+    // 헤더에서 userId 추출 (없으면 세션 속성 사용)
+    private Long getUserId(SimpMessageHeaderAccessor headerAccessor) {
+        String userIdStr = headerAccessor.getFirstNativeHeader("userId");
+        if (userIdStr == null) {
+            userIdStr = (String) headerAccessor.getSessionAttributes().get("userId");
+        }
+        try {
+            return userIdStr != null ? Long.parseLong(userIdStr) : null;
+        } catch (NumberFormatException e) {
             return null;
         }
     }
 }
-
@@ -0,0 +1,36 @@
+package com.go.ai.controller;
+
+import com.go.ai.dto.LeaderboardEntryDto;
+import com.go.ai.service.Leaderboard;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@CrossOrigin(origins = "*")
+public class LeaderboardController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final Leaderboard leaderboard;
+
+    public LeaderboardController(Leaderboard leaderboard) {
+        this.leaderboard = leaderboard;
+    }
+
+    // 바둑 레이팅 상위 limit명 (DB 정렬 없이 메모리 순위에서 읽음)
+    @GetMapping
+    public List<LeaderboardEntryDto> getTop(@RequestParam(required = false, defaultValue = "10") int limit) {
+        return leaderboard.top(Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    @GetMapping("/{userId}")
+    public LeaderboardEntryDto getRank(@PathVariable Long userId) {
+        LeaderboardEntryDto entry = leaderboard.rankOf(userId);
+        if (entry == null) {
+            throw new IllegalArgumentException("User has no rated games");
+        }
+        return entry;
+    }
+}
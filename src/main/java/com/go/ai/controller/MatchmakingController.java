@@ -0,0 +1,54 @@
+package com.go.ai.controller;
+
+import com.go.ai.dto.MatchTicketDto;
+import com.go.ai.entity.TimeControl;
+import com.go.ai.service.Matchmaker;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/match")
+@CrossOrigin(origins = "*")
+public class MatchmakingController {
+
+    private final Matchmaker matchmaker;
+
+    public MatchmakingController(Matchmaker matchmaker) {
+        this.matchmaker = matchmaker;
+    }
+
+    /**
+     * 자동 매칭 대기열에 들어간다. 결과는 /topic/match/{ticket}으로 오며, 구독 전에 지나간 결과는 GET으로 확인
+     */
+    @PostMapping
+    public ResponseEntity<MatchTicketDto> enqueue(@RequestBody Map<String, Long> request) {
+        Long userId = request.get("userId");
+        // 제한 시간을 보내지 않으면 서버 기본값 사용 (같은 제한 시간끼리만 짝지어짐)
+        TimeControl timeControl = null;
+        if (request.containsKey("mainTimeSeconds")) {
+            timeControl = new TimeControl(
+                    intValue(request.get("mainTimeSeconds")),
+                    intValue(request.get("byoYomiPeriods")),
+                    intValue(request.get("byoYomiSeconds")),
+                    intValue(request.get("incrementSeconds")));
+        }
+        return ResponseEntity.ok(matchmaker.enqueue(userId, timeControl));
+    }
+
+    @GetMapping("/{ticket}")
+    public ResponseEntity<MatchTicketDto> getStatus(@PathVariable String ticket) {
+        return ResponseEntity.ok(matchmaker.status(ticket));
+    }
+
+    @DeleteMapping("/{ticket}")
+    public ResponseEntity<Map<String, Object>> cancel(@PathVariable String ticket) {
+        // 이미 짝이 지어졌으면 cancelled = false (방 정보는 GET으로 확인)
+        return ResponseEntity.ok(Map.of("cancelled", matchmaker.cancel(ticket)));
+    }
+
+    private static int intValue(Long value) {
+        return value != null ? Math.toIntExact(value) : 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.go.ai.controller;
+
+import com.go.ai.dto.ScoreDto;
+import com.go.ai.dto.ScoreRequest;
+import com.go.ai.service.GameScoring;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/score")
+@CrossOrigin(origins = "*")
+public class ScoreController {
+
+    private final GameScoring gameScoring;
+
+    public ScoreController(GameScoring gameScoring) {
+        this.gameScoring = gameScoring;
+    }
+
+    // 끝난 국면 계가 (1인 대국처럼 서버에 판이 없는 경우)
+    @PostMapping
+    public ScoreDto score(@RequestBody ScoreRequest request) {
+        return gameScoring.score(request);
+    }
+}
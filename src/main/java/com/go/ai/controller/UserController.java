@@ -1,11 +1,13 @@
 package com.go.ai.controller;
 
+import com.go.ai.dto.HistoryPageDto;
+import com.go.ai.dto.UserStatsDto;
 import com.go.ai.entity.GameHistory;
 import com.go.ai.entity.User;
 import com.go.ai.service.UserService;
+import com.go.ai.service.UserStatsService;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -14,9 +16,11 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserStatsService userStatsService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserStatsService userStatsService) {
         this.userService = userService;
+        this.userStatsService = userStatsService;
     }
 
     @PostMapping("/login")
@@ -25,12 +29,23 @@ public class UserController {
     }
 
     @GetMapping("/history/{userId}")
-    public List<GameHistory> getHistory(
+    public HistoryPageDto getHistory(
             @PathVariable Long userId,
-            @RequestParam(required = false, defaultValue = "GO") String gameType) {
+            @RequestParam(required = false, defaultValue = "GO") String gameType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
         // 기본값은 GO (바둑), 필요시 CHESS, OTHELLO 등으로 변경 가능
         GameHistory.GameType type = GameHistory.GameType.valueOf(gameType.toUpperCase());
-        return userService.getGameHistory(userId, type);
+        return userService.getHistoryPage(userId, type, cursor, size);
+    }
+
+    @GetMapping("/stats/{userId}")
+    public UserStatsDto getStats(
+            @PathVariable Long userId,
+            @RequestParam(required = false, defaultValue = "GO") String gameType) {
+        // 기록을 세지 않고 전적 카운터 한 행만 읽음
+        GameHistory.GameType type = GameHistory.GameType.valueOf(gameType.toUpperCase());
+        return userStatsService.getStats(userId, type);
     }
 
     @PostMapping("/history/{userId}")
@@ -0,0 +1,59 @@
+package com.go.ai.controller;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@RestController
+@RequestMapping("/api/ws")
+@CrossOrigin(origins = "*")
+public class WebSocketStatsController {
+
+    private final Map<String, Executor> channels = new LinkedHashMap<>();
+    private final WebSocketMessageBrokerStats brokerStats;
+
+    public WebSocketStatsController(
+            @Qualifier("clientInboundChannelExecutor") Executor inbound,
+            @Qualifier("clientOutboundChannelExecutor") Executor outbound,
+            @Qualifier("brokerChannelExecutor") Executor broker,
+            WebSocketMessageBrokerStats brokerStats) {
+        this.channels.put("inbound", inbound);
+        this.channels.put("outbound", outbound);
+        this.channels.put("broker", broker);
+        this.brokerStats = brokerStats;
+    }
+
+    // 채널별 스레드 풀/대기열 상태와 세션 통계 (대기열이 쌓이면 처리 스레드나 느린 소비자를 확인)
+    @GetMapping("/stats")
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        channels.forEach((name, executor) -> stats.put(name, channelStats(executor)));
+        stats.put("sessions", brokerStats.getWebSocketSessionStatsInfo());
+        stats.put("stomp", brokerStats.getStompSubProtocolStatsInfo());
+        stats.put("brokerRelay", brokerStats.getStompBrokerRelayStatsInfo());
+        return stats;
+    }
+
+    private static Map<String, Object> channelStats(Executor executor) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (!(executor instanceof ThreadPoolTaskExecutor taskExecutor)) {
+            // 실행기가 없는 채널은 보낸 스레드에서 바로 처리
+            stats.put("executor", "none");
+            return stats;
+        }
+        ThreadPoolExecutor pool = taskExecutor.getThreadPoolExecutor();
+        stats.put("poolSize", pool.getPoolSize());
+        stats.put("maxPoolSize", pool.getMaximumPoolSize());
+        stats.put("activeThreads", pool.getActiveCount());
+        stats.put("queueSize", pool.getQueue().size());
+        stats.put("queueRemainingCapacity", pool.getQueue().remainingCapacity());
+        stats.put("completedTasks", pool.getCompletedTaskCount());
+        return stats;
+    }
+}
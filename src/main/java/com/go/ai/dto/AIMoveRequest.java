@@ -0,0 +1,22 @@
+package com.go.ai.dto;
+
+public class AIMoveRequest {
+    private String boardState; // 바둑 상태 (JSON 배열)
+    private String turn; // AI가 둘 차례 'b' (흑) 또는 'w' (백)
+    private Integer difficulty; // 난이도 (0 ~ 20), 플레이아웃 수로 환산
+    private int[] lastMove; // 상대의 마지막 수 [row, col], 코 판정용 (없으면 null)
+    private Integer lastCaptured; // 상대의 마지막 수가 따낸 돌 수, 코 판정용 (없으면 null)
+
+    public AIMoveRequest() {}
+
+    public String getBoardState() { return boardState; }
+    public void setBoardState(String boardState) { this.boardState = boardState; }
+    public String getTurn() { return turn; }
+    public void setTurn(String turn) { this.turn = turn; }
+    public Integer getDifficulty() { return difficulty; }
+    public void setDifficulty(Integer difficulty) { this.difficulty = difficulty; }
+    public int[] getLastMove() { return lastMove; }
+    public void setLastMove(int[] lastMove) { this.lastMove = lastMove; }
+    public Integer getLastCaptured() { return lastCaptured; }
+    public void setLastCaptured(Integer lastCaptured) { this.lastCaptured = lastCaptured; }
+}
@@ -0,0 +1,30 @@
+package com.go.ai.dto;
+
+public class AIMoveResponse {
+    private Integer row; // 패스면 null
+    private Integer col;
+    private boolean pass;
+    private int playouts; // 실제로 수행한 플레이아웃 수
+    private double winRate; // AI 입장의 예상 승률
+
+    public AIMoveResponse() {}
+
+    public AIMoveResponse(Integer row, Integer col, boolean pass, int playouts, double winRate) {
+        this.row = row;
+        this.col = col;
+        this.pass = pass;
+        this.playouts = playouts;
+        this.winRate = winRate;
+    }
+
+    public Integer getRow() { return row; }
+    public void setRow(Integer row) { this.row = row; }
+    public Integer getCol() { return col; }
+    public void setCol(Integer col) { this.col = col; }
+    public boolean isPass() { return pass; }
+    public void setPass(boolean pass) { this.pass = pass; }
+    public int getPlayouts() { return playouts; }
+    public void setPlayouts(int playouts) { this.playouts = playouts; }
+    public double getWinRate() { return winRate; }
+    public void setWinRate(double winRate) { this.winRate = winRate; }
+}
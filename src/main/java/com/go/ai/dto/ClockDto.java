@@ -0,0 +1,35 @@
+package com.go.ai.dto;
+
+/**
+ * 대국 시계 상태. 보낸 시점 기준 값이며, 클라이언트는 running 쪽만 받은 시각부터 줄여 가며 표시한다.
+ * xxxMillis는 현재 구간(기본 시간 또는 진행 중인 초읽기 한 번)의 남은 시간, xxxPeriods는 남은 초읽기 횟수
+ */
+public class ClockDto {
+    private long blackMillis;
+    private long whiteMillis;
+    private int blackPeriods;
+    private int whitePeriods;
+    private boolean blackByoYomi; // 기본 시간을 다 써서 초읽기 중인지
+    private boolean whiteByoYomi;
+    private long periodMillis; // 초읽기 한 번의 길이
+    private String running; // 시계가 가고 있는 쪽 'b' 또는 'w'
+
+    public ClockDto() {}
+
+    public long getBlackMillis() { return blackMillis; }
+    public void setBlackMillis(long blackMillis) { this.blackMillis = blackMillis; }
+    public long getWhiteMillis() { return whiteMillis; }
+    public void setWhiteMillis(long whiteMillis) { this.whiteMillis = whiteMillis; }
+    public int getBlackPeriods() { return blackPeriods; }
+    public void setBlackPeriods(int blackPeriods) { this.blackPeriods = blackPeriods; }
+    public int getWhitePeriods() { return whitePeriods; }
+    public void setWhitePeriods(int whitePeriods) { this.whitePeriods = whitePeriods; }
+    public boolean isBlackByoYomi() { return blackByoYomi; }
+    public void setBlackByoYomi(boolean blackByoYomi) { this.blackByoYomi = blackByoYomi; }
+    public boolean isWhiteByoYomi() { return whiteByoYomi; }
+    public void setWhiteByoYomi(boolean whiteByoYomi) { this.whiteByoYomi = whiteByoYomi; }
+    public long getPeriodMillis() { return periodMillis; }
+    public void setPeriodMillis(long periodMillis) { this.periodMillis = periodMillis; }
+    public String getRunning() { return running; }
+    public void setRunning(String running) { this.running = running; }
+}
@@ -0,0 +1,42 @@
+package com.go.ai.dto;
+
+import com.go.ai.entity.GameHistory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 목록 한 줄 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public class GameHistoryDto {
+    private Long id;
+    private GameHistory.GameResult result;
+    private GameHistory.GameType gameType;
+    private int movesCount;
+    private String opponentName;
+    private LocalDateTime playedAt;
+
+    public GameHistoryDto() {}
+
+    public GameHistoryDto(Long id, GameHistory.GameResult result, GameHistory.GameType gameType, int movesCount,
+            String opponentName, LocalDateTime playedAt) {
+        this.id = id;
+        this.result = result;
+        this.gameType = gameType;
+        this.movesCount = movesCount;
+        this.opponentName = opponentName;
+        this.playedAt = playedAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public GameHistory.GameResult getResult() { return result; }
+    public void setResult(GameHistory.GameResult result) { this.result = result; }
+    public GameHistory.GameType getGameType() { return gameType; }
+    public void setGameType(GameHistory.GameType gameType) { this.gameType = gameType; }
+    public int getMovesCount() { return movesCount; }
+    public void setMovesCount(int movesCount) { this.movesCount = movesCount; }
+    public String getOpponentName() { return opponentName; }
+    public void setOpponentName(String opponentName) { this.opponentName = opponentName; }
+    public LocalDateTime getPlayedAt() { return playedAt; }
+    public void setPlayedAt(LocalDateTime playedAt) { this.playedAt = playedAt; }
+}
@@ -1,7 +1,8 @@
 package com.go.ai.dto;
 
 public class GameStateDto {
-    private String boardState; // 바둑 상태 (JSON 배열 또는 SGF 형식)
+    private String boardState; // 바둑 상태 (JSON 배열), 클라이언트가 상태를 보낼 때 사용
+    private String board; // 서버가 보내는 바둑 상태 (BoardCodec 형식의 base64)
     private String turn; // 'b' (흑) 또는 'w' (백)
     private String status; // WAITING, PLAYING, FINISHED
     private Boolean isGameOver;
@@ -11,6 +12,10 @@ public class GameStateDto {
     private String message; // 선택적 메시지 전달용
     private Integer capturedBlack;
     private Integer capturedWhite;
+    private Integer seq; // 이 스냅샷까지 반영된 수의 번호 (이후 델타는 seq + 1부터)
+    private Double scoreBlack; // 계가로 끝난 판의 점수 (그 외에는 null)
+    private Double scoreWhite; // 덤 포함
+    private ClockDto clock; // 대국 시계, 진행 중이 아니거나 시간 제한이 없으면 null
 
     public GameStateDto() {}
 
@@ -55,6 +60,8 @@ public class GameStateDto {
 
     public String getBoardState() { return boardState; }
     public void setBoardState(String boardState) { this.boardState = boardState; }
+    public String getBoard() { return board; }
+    public void setBoard(String board) { this.board = board; }
     public String getTurn() { return turn; }
     public void setTurn(String turn) { this.turn = turn; }
     public String getStatus() { return status; }
@@ -73,5 +80,13 @@ public class GameStateDto {
     public void setCapturedBlack(Integer capturedBlack) { this.capturedBlack = capturedBlack; }
     public Integer getCapturedWhite() { return capturedWhite; }
     public void setCapturedWhite(Integer capturedWhite) { this.capturedWhite = capturedWhite; }
+    public Integer getSeq() { return seq; }
+    public void setSeq(Integer seq) { this.seq = seq; }
+    public Double getScoreBlack() { return scoreBlack; }
+    public void setScoreBlack(Double scoreBlack) { this.scoreBlack = scoreBlack; }
+    public Double getScoreWhite() { return scoreWhite; }
+    public void setScoreWhite(Double scoreWhite) { this.scoreWhite = scoreWhite; }
+    public ClockDto getClock() { return clock; }
+    public void setClock(ClockDto clock) { this.clock = clock; }
 }
 
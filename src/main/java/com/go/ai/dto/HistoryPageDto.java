@@ -0,0 +1,23 @@
+package com.go.ai.dto;
+
+import java.util.List;
+
+/**
+ * 최신순 기록 한 페이지. 다음 페이지는 nextCursor를 cursor로 넘겨 요청 (마지막 페이지면 null)
+ */
+public class HistoryPageDto {
+    private List<GameHistoryDto> items;
+    private String nextCursor;
+
+    public HistoryPageDto() {}
+
+    public HistoryPageDto(List<GameHistoryDto> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<GameHistoryDto> getItems() { return items; }
+    public void setItems(List<GameHistoryDto> items) { this.items = items; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,33 @@
+package com.go.ai.dto;
+
+/**
+ * 리더보드 한 줄. rank는 1부터이며, 반올림한 레이팅이 같으면 같은 순위
+ */
+public class LeaderboardEntryDto {
+    private int rank;
+    private Long userId;
+    private String name;
+    private int rating;
+    private int ratedGames;
+
+    public LeaderboardEntryDto() {}
+
+    public LeaderboardEntryDto(int rank, Long userId, String name, int rating, int ratedGames) {
+        this.rank = rank;
+        this.userId = userId;
+        this.name = name;
+        this.rating = rating;
+        this.ratedGames = ratedGames;
+    }
+
+    public int getRank() { return rank; }
+    public void setRank(int rank) { this.rank = rank; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public int getRating() { return rating; }
+    public void setRating(int rating) { this.rating = rating; }
+    public int getRatedGames() { return ratedGames; }
+    public void setRatedGames(int ratedGames) { this.ratedGames = ratedGames; }
+}
@@ -0,0 +1,33 @@
+package com.go.ai.dto;
+
+/**
+ * 관전할 수 있는 진행 중인 대국
+ */
+public class LiveRoomDto {
+    private Long id;
+    private String hostName; // 흑
+    private String guestName; // 백
+    private int moveCount;
+    private int spectators; // 방 토픽을 구독 중인 관전자 수
+
+    public LiveRoomDto() {}
+
+    public LiveRoomDto(Long id, String hostName, String guestName, int moveCount, int spectators) {
+        this.id = id;
+        this.hostName = hostName;
+        this.guestName = guestName;
+        this.moveCount = moveCount;
+        this.spectators = spectators;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getHostName() { return hostName; }
+    public void setHostName(String hostName) { this.hostName = hostName; }
+    public String getGuestName() { return guestName; }
+    public void setGuestName(String guestName) { this.guestName = guestName; }
+    public int getMoveCount() { return moveCount; }
+    public void setMoveCount(int moveCount) { this.moveCount = moveCount; }
+    public int getSpectators() { return spectators; }
+    public void setSpectators(int spectators) { this.spectators = spectators; }
+}
@@ -0,0 +1,41 @@
+package com.go.ai.dto;
+
+/**
+ * 자동 매칭 대기표 상태. /topic/match/{ticket}으로도 같은 모양으로 보낸다.
+ * status: WAITING(대기 중), MATCHED(방 배정됨), EXPIRED(대기 시간 초과), FAILED(방 생성 실패)
+ */
+public class MatchTicketDto {
+    private String ticket;
+    private String status;
+    private int rating; // 매칭에 쓴 내 레이팅
+    private Long roomId;
+    private String color; // 'b'(방장) 또는 'w'
+    private String opponentName;
+    private Integer opponentRating;
+    private boolean joined; // false면 백은 직접 /api/rooms/{roomId}/join으로 참여해야 함 (다른 노드가 맡은 방)
+
+    public MatchTicketDto() {}
+
+    public MatchTicketDto(String ticket, String status, int rating) {
+        this.ticket = ticket;
+        this.status = status;
+        this.rating = rating;
+    }
+
+    public String getTicket() { return ticket; }
+    public void setTicket(String ticket) { this.ticket = ticket; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public int getRating() { return rating; }
+    public void setRating(int rating) { this.rating = rating; }
+    public Long getRoomId() { return roomId; }
+    public void setRoomId(Long roomId) { this.roomId = roomId; }
+    public String getColor() { return color; }
+    public void setColor(String color) { this.color = color; }
+    public String getOpponentName() { return opponentName; }
+    public void setOpponentName(String opponentName) { this.opponentName = opponentName; }
+    public Integer getOpponentRating() { return opponentRating; }
+    public void setOpponentRating(Integer opponentRating) { this.opponentRating = opponentRating; }
+    public boolean isJoined() { return joined; }
+    public void setJoined(boolean joined) { this.joined = joined; }
+}
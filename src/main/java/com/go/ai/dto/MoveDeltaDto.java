@@ -0,0 +1,33 @@
+package com.go.ai.dto;
+
+/**
+ * 착수 한 번의 변경분. 클라이언트는 seq가 직전 seq + 1일 때만 적용하고, 빠진 번호가 있으면 스냅샷을 요청한다.
+ * 좌표는 row * 보드 크기 + col 형식
+ */
+public class MoveDeltaDto {
+    private int seq; // 이 수의 번호 (스냅샷의 seq와 같은 기준)
+    private int move; // 착수 위치
+    private int[] removed; // 따낸 돌 위치
+    private String turn; // 다음 차례 'b' 또는 'w'
+    private ClockDto clock; // 착수 직후의 대국 시계 (시간 제한이 없으면 null)
+
+    public MoveDeltaDto() {}
+
+    public MoveDeltaDto(int seq, int move, int[] removed, String turn) {
+        this.seq = seq;
+        this.move = move;
+        this.removed = removed;
+        this.turn = turn;
+    }
+
+    public int getSeq() { return seq; }
+    public void setSeq(int seq) { this.seq = seq; }
+    public int getMove() { return move; }
+    public void setMove(int move) { this.move = move; }
+    public int[] getRemoved() { return removed; }
+    public void setRemoved(int[] removed) { this.removed = removed; }
+    public String getTurn() { return turn; }
+    public void setTurn(String turn) { this.turn = turn; }
+    public ClockDto getClock() { return clock; }
+    public void setClock(ClockDto clock) { this.clock = clock; }
+}
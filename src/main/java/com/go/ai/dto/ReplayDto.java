@@ -0,0 +1,43 @@
+package com.go.ai.dto;
+
+public class ReplayDto {
+    private Long gameId;
+    private int moveNo; // 이 수까지 둔 국면 (0이면 빈 판)
+    private int totalMoves; // 기록된 전체 수 (진행 중인 판은 지금까지 기록된 수)
+    private String board; // BoardCodec 형식의 base64
+    private String turn; // 다음 차례 'b' (흑) 또는 'w' (백)
+    private int capturedBlack;
+    private int capturedWhite;
+    private int[] lastMove; // moveNo번째 수 [row, col], 빈 판이거나 패스면 null
+    private String blackName;
+    private String whiteName;
+    private String winner; // 'b', 'w', 'draw', 또는 null
+    private String result; // SGF RE 형식 (예: B+3.5, B+R)
+
+    public ReplayDto() {}
+
+    public Long getGameId() { return gameId; }
+    public void setGameId(Long gameId) { this.gameId = gameId; }
+    public int getMoveNo() { return moveNo; }
+    public void setMoveNo(int moveNo) { this.moveNo = moveNo; }
+    public int getTotalMoves() { return totalMoves; }
+    public void setTotalMoves(int totalMoves) { this.totalMoves = totalMoves; }
+    public String getBoard() { return board; }
+    public void setBoard(String board) { this.board = board; }
+    public String getTurn() { return turn; }
+    public void setTurn(String turn) { this.turn = turn; }
+    public int getCapturedBlack() { return capturedBlack; }
+    public void setCapturedBlack(int capturedBlack) { this.capturedBlack = capturedBlack; }
+    public int getCapturedWhite() { return capturedWhite; }
+    public void setCapturedWhite(int capturedWhite) { this.capturedWhite = capturedWhite; }
+    public int[] getLastMove() { return lastMove; }
+    public void setLastMove(int[] lastMove) { this.lastMove = lastMove; }
+    public String getBlackName() { return blackName; }
+    public void setBlackName(String blackName) { this.blackName = blackName; }
+    public String getWhiteName() { return whiteName; }
+    public void setWhiteName(String whiteName) { this.whiteName = whiteName; }
+    public String getWinner() { return winner; }
+    public void setWinner(String winner) { this.winner = winner; }
+    public String getResult() { return result; }
+    public void setResult(String result) { this.result = result; }
+}
@@ -0,0 +1,34 @@
+package com.go.ai.dto;
+
+import com.go.ai.engine.Score;
+
+public class ScoreDto {
+    private String rule; // AREA (중국식) 또는 TERRITORY (일본/한국식)
+    private double black;
+    private double white; // 덤 포함
+    private String winner; // 'b', 'w' 또는 'draw'
+    private int[] deadStones; // 죽은 돌로 판정한 위치 (row * 19 + col)
+
+    public ScoreDto() {}
+
+    public static ScoreDto of(Score score) {
+        ScoreDto dto = new ScoreDto();
+        dto.rule = score.rule().name();
+        dto.black = score.black();
+        dto.white = score.white();
+        dto.winner = score.winner();
+        dto.deadStones = score.deadStones();
+        return dto;
+    }
+
+    public String getRule() { return rule; }
+    public void setRule(String rule) { this.rule = rule; }
+    public double getBlack() { return black; }
+    public void setBlack(double black) { this.black = black; }
+    public double getWhite() { return white; }
+    public void setWhite(double white) { this.white = white; }
+    public String getWinner() { return winner; }
+    public void setWinner(String winner) { this.winner = winner; }
+    public int[] getDeadStones() { return deadStones; }
+    public void setDeadStones(int[] deadStones) { this.deadStones = deadStones; }
+}
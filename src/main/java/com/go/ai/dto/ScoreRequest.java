@@ -0,0 +1,19 @@
+package com.go.ai.dto;
+
+public class ScoreRequest {
+    private String boardState; // 바둑 상태 (JSON 배열)
+    private String turn; // 다음 차례 'b' 또는 'w' (소유권 추정 시작 차례)
+    private Integer capturedBlack; // 따내진 흑돌 수
+    private Integer capturedWhite; // 따내진 백돌 수
+
+    public ScoreRequest() {}
+
+    public String getBoardState() { return boardState; }
+    public void setBoardState(String boardState) { this.boardState = boardState; }
+    public String getTurn() { return turn; }
+    public void setTurn(String turn) { this.turn = turn; }
+    public Integer getCapturedBlack() { return capturedBlack; }
+    public void setCapturedBlack(Integer capturedBlack) { this.capturedBlack = capturedBlack; }
+    public Integer getCapturedWhite() { return capturedWhite; }
+    public void setCapturedWhite(Integer capturedWhite) { this.capturedWhite = capturedWhite; }
+}
@@ -0,0 +1,59 @@
+package com.go.ai.dto;
+
+import java.time.LocalDateTime;
+
+public class UserStatsDto {
+    private Long userId;
+    private String gameType;
+    private int games;
+    private int wins;
+    private int losses;
+    private int draws;
+    private double winRate; // 0 ~ 1 (무승부 포함한 전체 판 기준)
+    private int currentStreak; // 양수면 연승, 음수면 연패
+    private int longestWinStreak;
+    private LocalDateTime lastPlayedAt;
+    private Integer rating; // 레이팅 대국이 없으면 null
+    private int ratedGames;
+
+    public UserStatsDto() {}
+
+    public UserStatsDto(Long userId, String gameType, int wins, int losses, int draws, int currentStreak,
+            int longestWinStreak, LocalDateTime lastPlayedAt) {
+        this.userId = userId;
+        this.gameType = gameType;
+        this.games = wins + losses + draws;
+        this.wins = wins;
+        this.losses = losses;
+        this.draws = draws;
+        this.winRate = games > 0 ? (double) wins / games : 0;
+        this.currentStreak = currentStreak;
+        this.longestWinStreak = longestWinStreak;
+        this.lastPlayedAt = lastPlayedAt;
+    }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public String getGameType() { return gameType; }
+    public void setGameType(String gameType) { this.gameType = gameType; }
+    public int getGames() { return games; }
+    public void setGames(int games) { this.games = games; }
+    public int getWins() { return wins; }
+    public void setWins(int wins) { this.wins = wins; }
+    public int getLosses() { return losses; }
+    public void setLosses(int losses) { this.losses = losses; }
+    public int getDraws() { return draws; }
+    public void setDraws(int draws) { this.draws = draws; }
+    public double getWinRate() { return winRate; }
+    public void setWinRate(double winRate) { this.winRate = winRate; }
+    public int getCurrentStreak() { return currentStreak; }
+    public void setCurrentStreak(int currentStreak) { this.currentStreak = currentStreak; }
+    public int getLongestWinStreak() { return longestWinStreak; }
+    public void setLongestWinStreak(int longestWinStreak) { this.longestWinStreak = longestWinStreak; }
+    public LocalDateTime getLastPlayedAt() { return lastPlayedAt; }
+    public void setLastPlayedAt(LocalDateTime lastPlayedAt) { this.lastPlayedAt = lastPlayedAt; }
+    public Integer getRating() { return rating; }
+    public void setRating(Integer rating) { this.rating = rating; }
+    public int getRatedGames() { return ratedGames; }
+    public void setRatedGames(int ratedGames) { this.ratedGames = ratedGames; }
+}
@@ -0,0 +1,224 @@
+package com.go.ai.engine;
+
+/**
+ * 바둑판 크기의 비트 집합. 한 줄을 long 하나(하위 비트부터 col 순서)로 저장하므로 63줄까지 다룰 수 있다.
+ * 영역 채우기(flood fill)는 칸 단위 탐색 대신 줄 전체를 좌우·위아래로 한 번에 번지게 하는 비트 연산을
+ * 더 이상 변하지 않을 때까지 반복한다.
+ */
+final class BitBoard {
+
+    static final int MAX_SIZE = 63;
+
+    private final int size;
+    private final long[] rows;
+
+    BitBoard(int size) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Unsupported board size " + size);
+        }
+        this.size = size;
+        this.rows = new long[size];
+    }
+
+    /**
+     * board에서 color가 놓인 칸 (EMPTY면 빈칸)
+     */
+    static BitBoard of(GoBoard board, byte color) {
+        int size = board.getSize();
+        BitBoard bits = new BitBoard(size);
+        for (int row = 0; row < size; row++) {
+            long bitsOfRow = 0;
+            for (int col = 0; col < size; col++) {
+                if (board.get(row, col) == color) {
+                    bitsOfRow |= 1L << col;
+                }
+            }
+            bits.rows[row] = bitsOfRow;
+        }
+        return bits;
+    }
+
+    /**
+     * index(row * size + col) 한 칸만 있는 집합
+     */
+    static BitBoard single(int size, int index) {
+        BitBoard bits = new BitBoard(size);
+        bits.rows[index / size] = 1L << (index % size);
+        return bits;
+    }
+
+    int size() {
+        return size;
+    }
+
+    BitBoard copy() {
+        BitBoard bits = new BitBoard(size);
+        System.arraycopy(rows, 0, bits.rows, 0, size);
+        return bits;
+    }
+
+    boolean get(int row, int col) {
+        return (rows[row] >>> col & 1L) != 0;
+    }
+
+    BitBoard or(BitBoard other) {
+        BitBoard bits = copy();
+        for (int row = 0; row < size; row++) {
+            bits.rows[row] |= other.rows[row];
+        }
+        return bits;
+    }
+
+    BitBoard and(BitBoard other) {
+        BitBoard bits = copy();
+        for (int row = 0; row < size; row++) {
+            bits.rows[row] &= other.rows[row];
+        }
+        return bits;
+    }
+
+    BitBoard andNot(BitBoard other) {
+        BitBoard bits = copy();
+        for (int row = 0; row < size; row++) {
+            bits.rows[row] &= ~other.rows[row];
+        }
+        return bits;
+    }
+
+    boolean isEmpty() {
+        for (long row : rows) {
+            if (row != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean intersects(BitBoard other) {
+        for (int row = 0; row < size; row++) {
+            if ((rows[row] & other.rows[row]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int count() {
+        int count = 0;
+        for (long row : rows) {
+            count += Long.bitCount(row);
+        }
+        return count;
+    }
+
+    /**
+     * 가장 앞의 칸 번호(row * size + col), 비어 있으면 -1
+     */
+    int first() {
+        for (int row = 0; row < size; row++) {
+            if (rows[row] != 0) {
+                return row * size + Long.numberOfTrailingZeros(rows[row]);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * index 다음(포함하지 않음)부터 가장 앞의 칸 번호, 없으면 -1
+     */
+    int next(int index) {
+        int row = (index + 1) / size;
+        int col = (index + 1) % size;
+        if (row >= size) {
+            return -1;
+        }
+        long rest = rows[row] & (-1L << col);
+        while (true) {
+            if (rest != 0) {
+                return row * size + Long.numberOfTrailingZeros(rest);
+            }
+            if (++row >= size) {
+                return -1;
+            }
+            rest = rows[row];
+        }
+    }
+
+    /**
+     * 상하좌우로 한 칸 넓힌 집합 (자기 자신 포함, 바둑판 밖은 제외)
+     */
+    BitBoard dilate() {
+        BitBoard bits = new BitBoard(size);
+        long inside = insideMask();
+        for (int row = 0; row < size; row++) {
+            long grown = rows[row] | rows[row] << 1 | rows[row] >>> 1;
+            if (row > 0) {
+                grown |= rows[row - 1];
+            }
+            if (row < size - 1) {
+                grown |= rows[row + 1];
+            }
+            bits.rows[row] = grown & inside;
+        }
+        return bits;
+    }
+
+    /**
+     * 이 집합과 상하좌우로 맞닿은 칸 (자기 자신 제외)
+     */
+    BitBoard neighbors() {
+        return dilate().andNot(this);
+    }
+
+    /**
+     * 이 집합에서 시작해 mask 안으로 상하좌우 연결된 모든 칸. 위에서 아래, 아래에서 위로 한 번씩 훑으며
+     * 줄 단위로 번지게 하고, 더 이상 늘지 않으면 멈춘다.
+     */
+    BitBoard flood(BitBoard mask) {
+        BitBoard bits = and(mask);
+        long[] r = bits.rows;
+        long[] m = mask.rows;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int row = 0; row < size; row++) {
+                long grown = spread(r, row, m[row]);
+                if (grown != r[row]) {
+                    r[row] = grown;
+                    changed = true;
+                }
+            }
+            for (int row = size - 1; row >= 0; row--) {
+                long grown = spread(r, row, m[row]);
+                if (grown != r[row]) {
+                    r[row] = grown;
+                    changed = true;
+                }
+            }
+        }
+        return bits;
+    }
+
+    private long spread(long[] r, int row, long mask) {
+        long current = r[row];
+        if (row > 0) {
+            current |= r[row - 1] & mask;
+        }
+        if (row < size - 1) {
+            current |= r[row + 1] & mask;
+        }
+        current &= mask;
+        // 한 줄 안에서는 mask가 이어진 구간 끝까지 좌우로 번지게 함
+        while (true) {
+            long grown = (current | current << 1 | current >>> 1) & mask;
+            if (grown == current) {
+                return current;
+            }
+            current = grown;
+        }
+    }
+
+    private long insideMask() {
+        return (1L << size) - 1;
+    }
+}
@@ -0,0 +1,106 @@
+package com.go.ai.engine;
+
+import java.util.Base64;
+
+/**
+ * 바둑판의 압축 표현: 한 칸을 2비트(0 = 빈칸, 1 = 흑, 2 = 백)로 저장한다.
+ * 첫 바이트는 바둑판 크기이고, 이어서 row * size + col 순서로 한 바이트에 4칸씩 하위 비트부터 채운다.
+ * 19줄 바둑판은 1 + 91 = 92바이트이며, DB에는 그대로(BLOB), JSON으로 보낼 때는 base64 문자열로 사용한다.
+ */
+public final class BoardCodec {
+
+    private static final int EMPTY_CODE = 0;
+    private static final int BLACK_CODE = 1;
+    private static final int WHITE_CODE = 2;
+
+    private BoardCodec() {
+    }
+
+    public static int encodedLength(int size) {
+        return 1 + (size * size + 3) / 4;
+    }
+
+    public static byte[] encode(GoBoard board) {
+        int size = board.getSize();
+        byte[] data = new byte[encodedLength(size)];
+        data[0] = (byte) size;
+        int index = 0;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                data[1 + (index >> 2)] |= (byte) (codeOf(board.get(row, col)) << ((index & 3) << 1));
+                index++;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * 클라이언트가 사용하는 2차원 배열(0 = 빈칸, 1 = 흑, -1 = 백)을 압축한다.
+     */
+    public static byte[] encode(int[][] rows) {
+        int size = rows.length;
+        byte[] data = new byte[encodedLength(size)];
+        data[0] = (byte) size;
+        int index = 0;
+        for (int row = 0; row < size; row++) {
+            if (rows[row].length != size) {
+                throw new IllegalArgumentException("Board is not square");
+            }
+            for (int col = 0; col < size; col++) {
+                data[1 + (index >> 2)] |= (byte) (codeOf(rows[row][col]) << ((index & 3) << 1));
+                index++;
+            }
+        }
+        return data;
+    }
+
+    public static int[][] decodeArray(byte[] data) {
+        int size = sizeOf(data);
+        int[][] rows = new int[size][size];
+        int index = 0;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int code = (data[1 + (index >> 2)] >> ((index & 3) << 1)) & 3;
+                if (code == WHITE_CODE) {
+                    rows[row][col] = GoBoard.WHITE;
+                } else if (code == BLACK_CODE) {
+                    rows[row][col] = GoBoard.BLACK;
+                } else if (code != EMPTY_CODE) {
+                    throw new IllegalArgumentException("Invalid point code " + code);
+                }
+                index++;
+            }
+        }
+        return rows;
+    }
+
+    public static GoBoard decode(byte[] data) {
+        return GoBoard.fromArray(decodeArray(data));
+    }
+
+    public static String toBase64(byte[] data) {
+        return Base64.getEncoder().encodeToString(data);
+    }
+
+    public static byte[] fromBase64(String encoded) {
+        return Base64.getDecoder().decode(encoded);
+    }
+
+    private static int sizeOf(byte[] data) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("Empty board data");
+        }
+        int size = data[0] & 0xFF;
+        if (size == 0 || data.length != encodedLength(size)) {
+            throw new IllegalArgumentException("Invalid board data length " + data.length + " for size " + size);
+        }
+        return size;
+    }
+
+    private static int codeOf(int stone) {
+        if (stone == 0) {
+            return EMPTY_CODE;
+        }
+        return stone > 0 ? BLACK_CODE : WHITE_CODE;
+    }
+}
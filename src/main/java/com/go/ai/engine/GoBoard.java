@@ -0,0 +1,473 @@
+package com.go.ai.engine;
+
+/**
+ * 서버 측 바둑 규칙 엔진의 바둑판.
+ *
+ * 바둑판은 테두리(BORDER)로 둘러싼 (size + 2)^2 크기의 1차원 byte 배열로 저장하므로
+ * 이웃 탐색 시 좌표 범위 검사가 필요 없다. 연결된 돌(그룹)은 원형 연결 리스트로 관리하고,
+ * 그룹마다 의사 활로(pseudo-liberty)의 개수/합/제곱합을 누적하여
+ * 포획·자충수·단수 판정을 객체 할당 없이 O(1)에 수행한다.
+ * 착수/포획 시 64비트 Zobrist 해시를 함께 갱신하여 동형 반복(superko) 검사와 캐시 키로 사용한다.
+ */
+public final class GoBoard {
+
+    public static final byte EMPTY = 0;
+    public static final byte BLACK = 1; // 클라이언트 JSON의 1과 동일
+    public static final byte WHITE = -1; // 클라이언트 JSON의 -1과 동일
+    public static final byte BORDER = 2;
+
+    public static final int DEFAULT_SIZE = 19;
+
+    // 0번 칸은 항상 테두리이므로 "없음"을 나타내는 값으로 사용
+    public static final int NO_POINT = 0;
+
+    private final int size;
+    private final int stride;
+    private final int[] directions;
+    private final int[] diagonals;
+
+    private final byte[] stones;
+    private final int[] groupOf; // 돌이 속한 그룹의 대표 칸
+    private final int[] nextStone; // 같은 그룹의 다음 돌 (원형 리스트)
+    private final int[] groupSize;
+    private final int[] libCount; // 의사 활로 개수 (대표 칸 기준)
+    private final int[] libSum; // 의사 활로 칸 번호의 합
+    private final long[] libSumSq; // 의사 활로 칸 번호의 제곱합
+
+    private final int[] captured; // 마지막 착수로 따낸 돌
+    private int capturedCount;
+    private int koPoint = NO_POINT;
+    private long hash; // 현재 국면의 Zobrist 해시 (빈 바둑판 = 0)
+
+    public GoBoard() {
+        this(DEFAULT_SIZE);
+    }
+
+    public GoBoard(int size) {
+        this.size = size;
+        this.stride = size + 2;
+        this.directions = new int[] { -stride, stride, -1, 1 };
+        this.diagonals = new int[] { -stride - 1, -stride + 1, stride - 1, stride + 1 };
+
+        int cells = stride * stride;
+        this.stones = new byte[cells];
+        this.groupOf = new int[cells];
+        this.nextStone = new int[cells];
+        this.groupSize = new int[cells];
+        this.libCount = new int[cells];
+        this.libSum = new int[cells];
+        this.libSumSq = new long[cells];
+        this.captured = new int[size * size];
+
+        for (int p = 0; p < cells; p++) {
+            int row = p / stride;
+            int col = p % stride;
+            if (row == 0 || col == 0 || row == stride - 1 || col == stride - 1) {
+                stones[p] = BORDER;
+            }
+        }
+    }
+
+    /**
+     * 같은 국면의 독립된 복사본
+     */
+    public GoBoard copy() {
+        GoBoard board = new GoBoard(size);
+        board.copyFrom(this);
+        return board;
+    }
+
+    /**
+     * 같은 크기의 다른 바둑판 상태를 그대로 덮어쓴다. 플레이아웃마다 새로 할당하지 않고 배열을 재사용하기 위함
+     */
+    public void copyFrom(GoBoard other) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("Board size mismatch: " + other.size + " != " + size);
+        }
+        int cells = stones.length;
+        System.arraycopy(other.stones, 0, stones, 0, cells);
+        System.arraycopy(other.groupOf, 0, groupOf, 0, cells);
+        System.arraycopy(other.nextStone, 0, nextStone, 0, cells);
+        System.arraycopy(other.groupSize, 0, groupSize, 0, cells);
+        System.arraycopy(other.libCount, 0, libCount, 0, cells);
+        System.arraycopy(other.libSum, 0, libSum, 0, cells);
+        System.arraycopy(other.libSumSq, 0, libSumSq, 0, cells);
+        capturedCount = 0;
+        koPoint = other.koPoint;
+        hash = other.hash;
+    }
+
+    /**
+     * 클라이언트가 사용하는 2차원 배열(0 = 빈칸, 1 = 흑, -1 = 백)로부터 바둑판을 구성한다.
+     * 이미 규칙에 맞게 진행된 국면이라고 가정하므로 포획 처리는 하지 않는다.
+     */
+    public static GoBoard fromArray(int[][] rows) {
+        GoBoard board = new GoBoard(rows.length);
+        for (int row = 0; row < rows.length; row++) {
+            for (int col = 0; col < rows[row].length; col++) {
+                if (rows[row][col] != 0) {
+                    board.putStone(board.point(row, col), rows[row][col] > 0 ? BLACK : WHITE);
+                }
+            }
+        }
+        return board;
+    }
+
+    public int[][] toArray() {
+        int[][] rows = new int[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                rows[row][col] = stones[point(row, col)];
+            }
+        }
+        return rows;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int point(int row, int col) {
+        return (row + 1) * stride + col + 1;
+    }
+
+    public int rowOf(int point) {
+        return point / stride - 1;
+    }
+
+    public int colOf(int point) {
+        return point % stride - 1;
+    }
+
+    public boolean isOnBoard(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+
+    public byte get(int row, int col) {
+        return stones[point(row, col)];
+    }
+
+    public int getKoPoint() {
+        return koPoint;
+    }
+
+    public void setKoPoint(int koPoint) {
+        this.koPoint = koPoint;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    // 테두리를 포함한 1차원 칸 수 (칸 번호는 0 ~ cellCount() - 1)
+    int cellCount() {
+        return stones.length;
+    }
+
+    byte stoneAt(int p) {
+        return stones[p];
+    }
+
+    /**
+     * p가 color의 진짜 눈인지 (상하좌우가 모두 color이고, 대각선 상대 돌이 가운데는 1개 이하, 변/귀는 0개)
+     * 플레이아웃에서 자기 눈을 메우지 않도록 할 때 사용
+     */
+    boolean isEye(int p, byte color) {
+        if (stones[p] != EMPTY) {
+            return false;
+        }
+        for (int d : directions) {
+            byte c = stones[p + d];
+            if (c != color && c != BORDER) {
+                return false;
+            }
+        }
+        int opponentDiagonals = 0;
+        boolean edge = false;
+        for (int d : diagonals) {
+            byte c = stones[p + d];
+            if (c == BORDER) {
+                edge = true;
+            } else if (c == -color) {
+                opponentDiagonals++;
+            }
+        }
+        return opponentDiagonals < (edge ? 1 : 2);
+    }
+
+    // p의 i번째(0~3) 이웃 칸
+    int neighbor(int p, int i) {
+        return p + directions[i];
+    }
+
+    /**
+     * p에 있는 그룹이 단수면 남은 활로, 아니면 NO_POINT
+     */
+    int atariLiberty(int p) {
+        int root = groupOf[p];
+        return isInAtari(root) ? libSum[root] / libCount[root] : NO_POINT;
+    }
+
+    /**
+     * p에 color를 두면 단수인 상대 그룹을 따내는지
+     */
+    boolean capturesAt(int p, byte color) {
+        byte opponent = (byte) -color;
+        for (int d : directions) {
+            int n = p + d;
+            if (stones[n] == opponent && isInAtari(groupOf[n])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 중국식 계가(돌 + 한 색으로만 둘러싸인 빈칸)의 흑 - 백 점수. 플레이아웃이 끝난 국면처럼
+     * 빈칸이 대부분 눈으로만 남은 국면을 빠르게 계산하기 위한 것으로, 덤은 포함하지 않는다.
+     */
+    int areaScore() {
+        int score = 0;
+        for (int p = stride + 1; p < stones.length - stride - 1; p++) {
+            score += areaOwner(p);
+        }
+        return score;
+    }
+
+    /**
+     * 끝난 국면에서 p의 주인: 돌이면 그 색, 빈칸이면 상하좌우가 한 색으로만 막혀 있을 때 그 색, 그 외에는 EMPTY
+     */
+    byte areaOwner(int p) {
+        byte c = stones[p];
+        if (c != EMPTY) {
+            return c == BORDER ? EMPTY : c;
+        }
+        byte owner = EMPTY;
+        for (int d : directions) {
+            byte n = stones[p + d];
+            if (n == BORDER) {
+                continue;
+            }
+            if (n == EMPTY || (owner != EMPTY && owner != n)) {
+                return EMPTY;
+            }
+            owner = n;
+        }
+        return owner;
+    }
+
+    public int getLastCapturedCount() {
+        return capturedCount;
+    }
+
+    public int getLastCaptured(int index) {
+        return captured[index];
+    }
+
+    public MoveLegality check(int row, int col, byte color) {
+        if (!isOnBoard(row, col)) {
+            return MoveLegality.OFF_BOARD;
+        }
+        return check(point(row, col), color);
+    }
+
+    public MoveLegality check(int p, byte color) {
+        if (stones[p] != EMPTY) {
+            return MoveLegality.OCCUPIED;
+        }
+        if (p == koPoint) {
+            return MoveLegality.KO;
+        }
+        for (int d : directions) {
+            int n = p + d;
+            byte c = stones[n];
+            if (c == EMPTY) {
+                return MoveLegality.LEGAL;
+            }
+            if (c == BORDER) {
+                continue;
+            }
+            boolean atari = isInAtari(groupOf[n]);
+            // 내 그룹이 p 외의 활로를 가지고 있거나, 상대 그룹의 마지막 활로가 p라면 둘 수 있음
+            if (c == color ? !atari : atari) {
+                return MoveLegality.LEGAL;
+            }
+        }
+        return MoveLegality.SUICIDE;
+    }
+
+    /**
+     * 기본 규칙 검사에 더해, 착수 후 국면이 history에 이미 있었던 국면이면 SUPERKO를 반환한다.
+     */
+    public MoveLegality check(int row, int col, byte color, LongHashSet history) {
+        MoveLegality legality = check(row, col, color);
+        if (legality == MoveLegality.LEGAL && history.contains(hashAfter(point(row, col), color))) {
+            return MoveLegality.SUPERKO;
+        }
+        return legality;
+    }
+
+    /**
+     * 착수 가능한 p에 color를 두었을 때의 해시를 바둑판을 바꾸지 않고 계산한다.
+     */
+    long hashAfter(int p, byte color) {
+        long h = hash ^ Zobrist.key(color, p);
+        byte opponent = (byte) -color;
+        int r0 = NO_POINT, r1 = NO_POINT, r2 = NO_POINT;
+        for (int d : directions) {
+            int n = p + d;
+            if (stones[n] != opponent) {
+                continue;
+            }
+            int root = groupOf[n];
+            if (root == r0 || root == r1 || root == r2 || !isInAtari(root)) {
+                continue;
+            }
+            // 단수인 상대 그룹의 마지막 활로가 p이므로 이 그룹은 따내진다
+            int s = root;
+            do {
+                h ^= Zobrist.key(opponent, s);
+                s = nextStone[s];
+            } while (s != root);
+
+            if (r0 == NO_POINT) {
+                r0 = root;
+            } else if (r1 == NO_POINT) {
+                r1 = root;
+            } else {
+                r2 = root;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * 돌을 놓고 따낸 돌의 수를 반환한다. 따낸 돌은 {@link #getLastCaptured(int)}로 조회할 수 있다.
+     */
+    public int play(int row, int col, byte color) {
+        MoveLegality legality = check(row, col, color);
+        if (legality != MoveLegality.LEGAL) {
+            throw new IllegalArgumentException("Illegal move: " + legality);
+        }
+        return play(point(row, col), color);
+    }
+
+    int play(int p, byte color) {
+        capturedCount = 0;
+        putStone(p, color);
+
+        byte opponent = (byte) -color;
+        for (int d : directions) {
+            int n = p + d;
+            if (stones[n] == opponent && libCount[groupOf[n]] == 0) {
+                removeGroup(groupOf[n]);
+            }
+        }
+
+        // 한 점을 따내고 놓인 돌이 단수 상태의 외톨이라면 따낸 자리가 코
+        int root = groupOf[p];
+        if (capturedCount == 1 && groupSize[root] == 1 && isInAtari(root)) {
+            koPoint = captured[0];
+        } else {
+            koPoint = NO_POINT;
+        }
+        return capturedCount;
+    }
+
+    public void pass() {
+        capturedCount = 0;
+        koPoint = NO_POINT;
+    }
+
+    private void putStone(int p, byte color) {
+        stones[p] = color;
+        hash ^= Zobrist.key(color, p);
+        groupOf[p] = p;
+        nextStone[p] = p;
+        groupSize[p] = 1;
+        libCount[p] = 0;
+        libSum[p] = 0;
+        libSumSq[p] = 0;
+
+        for (int d : directions) {
+            int n = p + d;
+            byte c = stones[n];
+            if (c == EMPTY) {
+                addLiberty(p, n);
+            } else if (c != BORDER) {
+                removeLiberty(groupOf[n], p);
+            }
+        }
+        for (int d : directions) {
+            int n = p + d;
+            if (stones[n] == color && groupOf[n] != groupOf[p]) {
+                merge(groupOf[p], groupOf[n]);
+            }
+        }
+    }
+
+    private void merge(int a, int b) {
+        if (groupSize[a] < groupSize[b]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        int s = b;
+        do {
+            groupOf[s] = a;
+            s = nextStone[s];
+        } while (s != b);
+
+        int t = nextStone[a];
+        nextStone[a] = nextStone[b];
+        nextStone[b] = t;
+
+        groupSize[a] += groupSize[b];
+        libCount[a] += libCount[b];
+        libSum[a] += libSum[b];
+        libSumSq[a] += libSumSq[b];
+    }
+
+    private void removeGroup(int root) {
+        int start = capturedCount;
+        byte color = stones[root];
+        int s = root;
+        do {
+            hash ^= Zobrist.key(color, s);
+            stones[s] = EMPTY;
+            captured[capturedCount++] = s;
+            s = nextStone[s];
+        } while (s != root);
+
+        for (int i = start; i < capturedCount; i++) {
+            int p = captured[i];
+            for (int d : directions) {
+                int n = p + d;
+                byte c = stones[n];
+                if (c == BLACK || c == WHITE) {
+                    addLiberty(groupOf[n], p);
+                }
+            }
+        }
+    }
+
+    private void addLiberty(int root, int lib) {
+        libCount[root]++;
+        libSum[root] += lib;
+        libSumSq[root] += (long) lib * lib;
+    }
+
+    private void removeLiberty(int root, int lib) {
+        libCount[root]--;
+        libSum[root] -= lib;
+        libSumSq[root] -= (long) lib * lib;
+    }
+
+    /**
+     * 의사 활로가 모두 같은 칸이면 (개수 * 제곱합 == 합^2) 실제 활로가 하나뿐인 단수 상태
+     */
+    private boolean isInAtari(int root) {
+        int count = libCount[root];
+        return count > 0 && count * libSumSq[root] == (long) libSum[root] * libSum[root];
+    }
+}
@@ -0,0 +1,112 @@
+package com.go.ai.engine;
+
+/**
+ * 한 판의 진행 상태: 바둑판, 차례, 따낸 돌 수, 지금까지 나온 국면 해시 기록, 연속 패스 수
+ */
+public final class GoGame {
+
+    private final GoBoard board;
+    private final LongHashSet history = new LongHashSet();
+    private byte turn;
+    private int capturedBlack; // 따내진 흑돌 수
+    private int capturedWhite; // 따내진 백돌 수
+    private int moveCount;
+    private int consecutivePasses;
+
+    public GoGame() {
+        this(new GoBoard(), GoBoard.BLACK, 0, 0);
+    }
+
+    public GoGame(GoBoard board, byte turn, int capturedBlack, int capturedWhite) {
+        this(board, turn, capturedBlack, capturedWhite, 0);
+    }
+
+    /**
+     * 저장된 국면에서 게임을 이어간다. 이전 국면 기록이 없으므로 현재 국면부터 동형 반복을 검사한다.
+     */
+    public GoGame(GoBoard board, byte turn, int capturedBlack, int capturedWhite, int moveCount) {
+        this.board = board;
+        this.turn = turn;
+        this.capturedBlack = capturedBlack;
+        this.capturedWhite = capturedWhite;
+        this.moveCount = moveCount;
+        history.add(board.getHash());
+    }
+
+    public MoveLegality check(int row, int col) {
+        return board.check(row, col, turn, history);
+    }
+
+    /**
+     * 현재 차례의 돌을 두고 따낸 돌의 수를 반환한다.
+     */
+    public int play(int row, int col) {
+        MoveLegality legality = check(row, col);
+        if (legality != MoveLegality.LEGAL) {
+            throw new IllegalArgumentException("Illegal move: " + legality);
+        }
+        int captured = board.play(board.point(row, col), turn);
+        if (turn == GoBoard.BLACK) {
+            capturedWhite += captured;
+        } else {
+            capturedBlack += captured;
+        }
+        history.add(board.getHash());
+        turn = (byte) -turn;
+        moveCount++;
+        consecutivePasses = 0;
+        return captured;
+    }
+
+    public void pass() {
+        board.pass();
+        turn = (byte) -turn;
+        moveCount++;
+        consecutivePasses++;
+    }
+
+    /**
+     * 저장된 국면에서 이어갈 때 그 국면 직전까지의 연속 패스 수를 되살린다. (국면 스냅샷에는 패스가 남지 않음)
+     */
+    public void restoreConsecutivePasses(int passes) {
+        consecutivePasses = passes;
+    }
+
+    /**
+     * 마지막 착수 이후 연달아 나온 패스 수
+     */
+    public int getConsecutivePasses() {
+        return consecutivePasses;
+    }
+
+    /**
+     * 두 대국자가 연달아 패스해 끝난 판인지
+     */
+    public boolean isEndedByPasses() {
+        return consecutivePasses >= 2;
+    }
+
+    public GoBoard getBoard() {
+        return board;
+    }
+
+    public byte getTurn() {
+        return turn;
+    }
+
+    public int getCapturedBlack() {
+        return capturedBlack;
+    }
+
+    public int getCapturedWhite() {
+        return capturedWhite;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public long getHash() {
+        return board.getHash();
+    }
+}
@@ -0,0 +1,98 @@
+package com.go.ai.engine;
+
+import java.util.Arrays;
+
+/**
+ * long 값을 박싱 없이 저장하는 개방 주소법(선형 탐사) 해시 셋.
+ * 국면 해시 기록(동형 반복 검사)에 사용한다.
+ */
+public final class LongHashSet {
+
+    private static final long FREE = 0L;
+
+    private long[] table;
+    private int size;
+    private boolean containsFree; // 0L은 빈 슬롯 표시로 쓰므로 별도로 기록
+
+    public LongHashSet() {
+        this(64);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.table = new long[capacity];
+    }
+
+    public boolean contains(long value) {
+        if (value == FREE) {
+            return containsFree;
+        }
+        int mask = table.length - 1;
+        for (int i = mix(value) & mask;; i = (i + 1) & mask) {
+            long v = table[i];
+            if (v == FREE) {
+                return false;
+            }
+            if (v == value) {
+                return true;
+            }
+        }
+    }
+
+    public boolean add(long value) {
+        if (value == FREE) {
+            if (containsFree) {
+                return false;
+            }
+            containsFree = true;
+            size++;
+            return true;
+        }
+        if ((size + 1) * 2 > table.length) {
+            resize(table.length << 1);
+        }
+        int mask = table.length - 1;
+        for (int i = mix(value) & mask;; i = (i + 1) & mask) {
+            long v = table[i];
+            if (v == FREE) {
+                table[i] = value;
+                size++;
+                return true;
+            }
+            if (v == value) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(table, FREE);
+        size = 0;
+        containsFree = false;
+    }
+
+    private void resize(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        int mask = capacity - 1;
+        for (long v : old) {
+            if (v == FREE) {
+                continue;
+            }
+            int i = mix(v) & mask;
+            while (table[i] != FREE) {
+                i = (i + 1) & mask;
+            }
+            table[i] = v;
+        }
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,250 @@
+package com.go.ai.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 몬테카를로 트리 탐색(UCT) AI.
+ *
+ * 여러 작업자가 하나의 트리를 공유하며(tree parallelization) 동시에 플레이아웃을 수행한다.
+ * 선택 단계에서 방문 수를 먼저 올려 두고 결과는 나중에 더하므로, 진행 중인 경로는 잠시 패배로 보이는
+ * 가상 손실(virtual loss)이 되어 다른 작업자가 같은 경로로 몰리지 않는다.
+ * 작업자마다 바둑판 하나를 재사용하며 플레이아웃 시작 시 루트 국면을 배열 복사로 덮어쓴다.
+ */
+public final class MonteCarloTreeSearch {
+
+    private static final double EXPLORATION = 0.7;
+    // 이 횟수만큼 방문된 노드부터 자식을 펼침 (트리 메모리 절약)
+    private static final int EXPAND_THRESHOLD = 2;
+    // 새 노드에 미리 넣어 두는 가상의 방문 수 (간단한 바둑 지식을 승률 초깃값으로 반영)
+    private static final int PRIOR_VISITS = 10;
+
+    private final ForkJoinPool pool;
+    private final double komi;
+
+    public MonteCarloTreeSearch(ForkJoinPool pool, double komi) {
+        this.pool = pool;
+        this.komi = komi;
+    }
+
+    /**
+     * 현재 차례의 수를 찾는다. playouts번의 플레이아웃을 하거나 timeLimitMillis가 지나면 멈춘다.
+     */
+    public SearchResult search(GoGame game, int playouts, long timeLimitMillis) {
+        GoBoard rootBoard = game.getBoard().copy();
+        byte toPlay = game.getTurn();
+        Node root = new Node(GoBoard.NO_POINT, (byte) -toPlay);
+        root.children = rootChildren(game);
+        if (root.children.length == 0) {
+            return new SearchResult(-1, -1, true, 0, 0.0);
+        }
+
+        long deadline = System.nanoTime() + timeLimitMillis * 1_000_000L;
+        AtomicInteger remaining = new AtomicInteger(playouts);
+        int workers = Math.max(1, Math.min(pool.getParallelism(), playouts));
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            long seed = System.nanoTime() + i;
+            tasks.add(() -> {
+                Worker worker = new Worker(rootBoard, toPlay, new SplittableRandom(seed));
+                while (remaining.getAndDecrement() > 0 && System.nanoTime() < deadline) {
+                    worker.run(root);
+                }
+                return null;
+            });
+        }
+        pool.invokeAll(tasks);
+
+        Node best = root.children[0];
+        for (Node child : root.children) {
+            if (child.visits.get() > best.visits.get()) {
+                best = child;
+            }
+        }
+        int done = root.visits.get();
+        int visits = best.visits.get();
+        double winRate = visits == 0 ? 0.0 : (double) best.wins.get() / visits;
+        if (best.move == GoBoard.NO_POINT) {
+            return new SearchResult(-1, -1, true, done, winRate);
+        }
+        return new SearchResult(rootBoard.rowOf(best.move), rootBoard.colOf(best.move), false, done, winRate);
+    }
+
+    /**
+     * 루트에서는 동형 반복까지 검사한 합법수만 후보로 둔다. 둘 곳이 없을 때만 패스를 후보로 넣는다.
+     */
+    private static Node[] rootChildren(GoGame game) {
+        GoBoard board = game.getBoard();
+        byte color = game.getTurn();
+        List<Node> children = new ArrayList<>();
+        int size = board.getSize();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int p = board.point(row, col);
+                if (!board.isEye(p, color) && game.check(row, col) == MoveLegality.LEGAL) {
+                    children.add(newChild(board, p, color));
+                }
+            }
+        }
+        if (children.isEmpty()) {
+            children.add(new Node(GoBoard.NO_POINT, color));
+        }
+        return children.toArray(new Node[0]);
+    }
+
+    /**
+     * 따내는 수는 높게, 1선의 수는 낮게 시작하고 나머지는 승률 50%로 시작한다.
+     */
+    private static Node newChild(GoBoard board, int p, byte color) {
+        int size = board.getSize();
+        int row = board.rowOf(p);
+        int col = board.colOf(p);
+        int edgeDistance = Math.min(Math.min(row, col), Math.min(size - 1 - row, size - 1 - col));
+        int wins;
+        if (board.capturesAt(p, color)) {
+            wins = PRIOR_VISITS;
+        } else if (edgeDistance == 0) {
+            wins = PRIOR_VISITS / 5;
+        } else {
+            wins = PRIOR_VISITS / 2;
+        }
+        return new Node(p, color, PRIOR_VISITS, wins);
+    }
+
+    private final class Worker {
+
+        private final GoBoard rootBoard;
+        private final byte rootToPlay;
+        private final GoBoard board;
+        private final SplittableRandom random;
+        private final List<Node> path = new ArrayList<>();
+
+        private Worker(GoBoard rootBoard, byte rootToPlay, SplittableRandom random) {
+            this.rootBoard = rootBoard;
+            this.rootToPlay = rootToPlay;
+            this.board = new GoBoard(rootBoard.getSize());
+            this.random = random;
+        }
+
+        private void run(Node root) {
+            board.copyFrom(rootBoard);
+            path.clear();
+
+            // 선택: 방문 수를 미리 올려 가상 손실을 남기며 내려감
+            Node node = root;
+            node.visits.incrementAndGet();
+            path.add(node);
+            byte toPlay = rootToPlay;
+            int passes = 0;
+            int last = GoBoard.NO_POINT;
+            while (true) {
+                Node[] children = node.children;
+                if (children == null) {
+                    if (node.visits.get() - node.prior < EXPAND_THRESHOLD) {
+                        break;
+                    }
+                    children = expand(node, toPlay);
+                }
+                node = select(node, children);
+                node.visits.incrementAndGet();
+                path.add(node);
+                if (node.move == GoBoard.NO_POINT) {
+                    board.pass();
+                    passes++;
+                } else {
+                    board.play(node.move, toPlay);
+                    passes = 0;
+                }
+                last = node.move;
+                toPlay = (byte) -toPlay;
+                if (passes >= 2) {
+                    break;
+                }
+            }
+
+            // 시뮬레이션: 자기 눈을 메우지 않는 무작위 수로 끝까지 둠
+            if (passes < 2) {
+                Playout.run(board, toPlay, passes, last, random);
+            }
+            byte winner = board.areaScore() - komi > 0 ? GoBoard.BLACK : GoBoard.WHITE;
+
+            // 역전파: 방문 수는 이미 올렸으므로 승리만 더함
+            for (Node n : path) {
+                if (n.color == winner) {
+                    n.wins.incrementAndGet();
+                }
+            }
+        }
+
+        private Node[] expand(Node node, byte toPlay) {
+            synchronized (node) {
+                if (node.children != null) {
+                    return node.children;
+                }
+                List<Node> children = new ArrayList<>();
+                for (int p = 0; p < board.cellCount(); p++) {
+                    if (board.stoneAt(p) == GoBoard.EMPTY && !board.isEye(p, toPlay)
+                            && board.check(p, toPlay) == MoveLegality.LEGAL) {
+                        children.add(newChild(board, p, toPlay));
+                    }
+                }
+                children.add(new Node(GoBoard.NO_POINT, toPlay));
+                node.children = children.toArray(new Node[0]);
+                return node.children;
+            }
+        }
+
+        private Node select(Node parent, Node[] children) {
+            double logParent = Math.log(Math.max(1, parent.visits.get()));
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Node child : children) {
+                int visits = Math.max(1, child.visits.get());
+                // 같은 점수라면 무작위로 고르도록 아주 작은 잡음을 더함
+                double score = (double) child.wins.get() / visits + EXPLORATION * Math.sqrt(logParent / visits)
+                        + random.nextDouble() * 1e-6;
+                // 둘 곳이 남아 있는데 패스하는 경로는 가장 나중에 탐색
+                if (child.move == GoBoard.NO_POINT && children.length > 1) {
+                    score -= 1.0;
+                }
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+    }
+
+    private static final class Node {
+
+        private final int move; // 바둑판 칸 번호, 패스는 NO_POINT
+        private final byte color; // 이 수를 둔 쪽
+        private final int prior; // 초깃값으로 넣은 방문 수
+        private final AtomicInteger visits;
+        private final AtomicInteger wins; // color 쪽이 이긴 횟수
+        private volatile Node[] children;
+
+        private Node(int move, byte color) {
+            this(move, color, 0, 0);
+        }
+
+        private Node(int move, byte color, int prior, int priorWins) {
+            this.move = move;
+            this.color = color;
+            this.prior = prior;
+            this.visits = new AtomicInteger(prior);
+            this.wins = new AtomicInteger(priorWins);
+        }
+    }
+
+    /**
+     * 탐색 결과. 패스면 row/col은 -1이고, winRate는 고른 수의 플레이아웃 승률
+     */
+    public record SearchResult(int row, int col, boolean pass, int playouts, double winRate) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.go.ai.engine;
+
+/**
+ * 착수 가능 여부 판정 결과
+ */
+public enum MoveLegality {
+    LEGAL, // 둘 수 있음
+    OFF_BOARD, // 바둑판 밖
+    OCCUPIED, // 이미 돌이 있음
+    SUICIDE, // 자충수
+    KO, // 코(ko) 규칙 위반
+    SUPERKO // 이전에 나왔던 국면의 반복 (동형 반복 금지)
+}
@@ -0,0 +1,64 @@
+package com.go.ai.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * 무작위 플레이아웃 정책: 직전 수에 대한 응수(따내기/달아나기)를 먼저 보고, 없으면 자기 눈을 메우지 않는
+ * 합법수 중 무작위로 둔다. 양쪽이 연속으로 패스하거나 최대 수에 이르면 멈춘다.
+ * MCTS의 시뮬레이션과 계가의 소유권 추정이 같은 정책을 사용한다.
+ */
+final class Playout {
+
+    private Playout() {
+    }
+
+    /**
+     * board를 직접 진행시킨다. passes는 지금까지의 연속 패스 수, last는 직전 수(없으면 NO_POINT)
+     */
+    static void run(GoBoard board, byte toPlay, int passes, int last, SplittableRandom random) {
+        int cells = board.cellCount();
+        int maxMoves = board.getSize() * board.getSize() * 2;
+        for (int moves = 0; moves < maxMoves && passes < 2; moves++) {
+            int chosen = last == GoBoard.NO_POINT ? GoBoard.NO_POINT : replyTo(board, last, toPlay);
+            int start = random.nextInt(cells);
+            for (int i = 0; i < cells && chosen == GoBoard.NO_POINT; i++) {
+                int p = start + i < cells ? start + i : start + i - cells;
+                if (board.stoneAt(p) == GoBoard.EMPTY && !board.isEye(p, toPlay)
+                        && board.check(p, toPlay) == MoveLegality.LEGAL) {
+                    chosen = p;
+                }
+            }
+            if (chosen == GoBoard.NO_POINT) {
+                board.pass();
+                passes++;
+            } else {
+                board.play(chosen, toPlay);
+                passes = 0;
+            }
+            last = chosen;
+            toPlay = (byte) -toPlay;
+        }
+    }
+
+    /**
+     * 직전 수에 대한 응수: 직전 수가 단수면 따내고, 직전 수로 내 돌이 단수가 되었으면 달아난다.
+     * 해당하는 수가 없으면 NO_POINT
+     */
+    private static int replyTo(GoBoard board, int last, byte toPlay) {
+        int capture = board.atariLiberty(last);
+        if (capture != GoBoard.NO_POINT && board.check(capture, toPlay) == MoveLegality.LEGAL) {
+            return capture;
+        }
+        for (int i = 0; i < 4; i++) {
+            int n = board.neighbor(last, i);
+            if (board.stoneAt(n) != toPlay) {
+                continue;
+            }
+            int escape = board.atariLiberty(n);
+            if (escape != GoBoard.NO_POINT && board.check(escape, toPlay) == MoveLegality.LEGAL) {
+                return escape;
+            }
+        }
+        return GoBoard.NO_POINT;
+    }
+}
@@ -0,0 +1,17 @@
+package com.go.ai.engine;
+
+/**
+ * 계가 결과. white에는 덤이 포함되어 있고, deadStones는 죽은 돌로 판정한 위치(row * size + col)
+ */
+public record Score(ScoringRule rule, double black, double white, int[] deadStones) {
+
+    /**
+     * 'b', 'w' 또는 'draw'
+     */
+    public String winner() {
+        if (black == white) {
+            return "draw";
+        }
+        return black > white ? "b" : "w";
+    }
+}
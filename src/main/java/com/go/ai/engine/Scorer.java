@@ -0,0 +1,272 @@
+package com.go.ai.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 끝난 국면의 계가. 연결된 돌과 빈 영역은 BitBoard 영역 채우기로 구하고, 죽은 돌을 가려낸 뒤
+ * 중국식(AREA) 또는 일본/한국식(TERRITORY)으로 점수를 센다.
+ *
+ * 죽은 돌 판정은 두 가지 중 하나를 쓴다.
+ * 기본은 눈 공간 판정으로, 그룹이 상대 돌을 건너지 않고 닿는 빈 영역 중 살아 있는 상대 돌과 닿지 않는 영역을 눈으로 보고
+ * (TWO_EYE_SPACE칸 이상이면 두 눈) 눈이 둘 미만이면서 세키가 아니면 죽은 돌로 본다. 공간이 작은 그룹부터 하나씩 판정하고
+ * 판정할 때마다 다시 계산하므로, 상대 집 안의 죽은 돌이 먼저 빠져 그 집이 눈으로 인정된다.
+ * 다만 살아 있는 상대 돌이 그 그룹을 판의 절반 이하인 영역에 가둔 경우(정리된 국면)에만 죽은 돌로 보므로,
+ * 빈 판에 가까운 판처럼 아직 경계가 정해지지 않은 국면에서는 돌을 죽이지 않는다.
+ * 세키는 공배(공유 활로)가 있고 어느 쪽이 어느 공배를 메워도 스스로 단수가 되는 경우로 판정한다.
+ * 다른 하나는 estimateOwnership으로 구한 몬테카를로 소유권으로, 돌의 평균 소유권이 상대 쪽으로 기울면 죽은 돌로 본다.
+ */
+public final class Scorer {
+
+    // 이 크기 이상인 눈 공간은 두 눈을 만들 수 있다고 봄
+    private static final int TWO_EYE_SPACE = 7;
+    // 평균 소유권이 이 값 이상 상대 쪽이면 죽은 돌
+    private static final float DEAD_OWNERSHIP = 0.5f;
+
+    private final double komi;
+    private final ScoringRule rule;
+
+    public Scorer(double komi, ScoringRule rule) {
+        this.komi = komi;
+        this.rule = rule;
+    }
+
+    public Score score(GoBoard board, int capturedBlack, int capturedWhite) {
+        return score(board, capturedBlack, capturedWhite, null);
+    }
+
+    /**
+     * ownership(estimateOwnership 결과)이 있으면 그것으로, 없으면 눈 공간과 세키로 죽은 돌을 판정해 계가한다.
+     * capturedBlack/capturedWhite는 대국 중 따내진 흑/백 돌 수
+     */
+    public Score score(GoBoard board, int capturedBlack, int capturedWhite, float[] ownership) {
+        int size = board.getSize();
+        BitBoard empty = BitBoard.of(board, GoBoard.EMPTY);
+        List<Chain> chains = new ArrayList<>();
+        addChains(chains, BitBoard.of(board, GoBoard.BLACK), GoBoard.BLACK);
+        addChains(chains, BitBoard.of(board, GoBoard.WHITE), GoBoard.WHITE);
+
+        if (ownership != null) {
+            markDeadByOwnership(chains, ownership);
+        } else {
+            markDeadByEyeSpace(board, chains, empty);
+        }
+
+        BitBoard liveBlack = stonesOf(chains, size, GoBoard.BLACK, false);
+        BitBoard liveWhite = stonesOf(chains, size, GoBoard.WHITE, false);
+        BitBoard deadBlack = stonesOf(chains, size, GoBoard.BLACK, true);
+        BitBoard deadWhite = stonesOf(chains, size, GoBoard.WHITE, true);
+        BitBoard seki = new BitBoard(size);
+        if (rule == ScoringRule.TERRITORY) {
+            for (Chain chain : chains) {
+                if (!chain.dead && isSeki(board, chain, empty, chain.color == GoBoard.BLACK ? liveWhite : liveBlack)) {
+                    seki = seki.or(chain.stones);
+                }
+            }
+        }
+
+        // 죽은 돌을 들어낸 자리까지 포함한 빈 영역을 한 색으로만 둘러싸였는지에 따라 집으로 셈
+        BitBoard open = empty.or(deadBlack).or(deadWhite);
+        double black = 0;
+        double white = 0;
+        BitBoard rest = open;
+        for (int index = rest.first(); index >= 0; index = rest.first()) {
+            BitBoard region = BitBoard.single(size, index).flood(open);
+            rest = rest.andNot(region);
+            BitBoard border = region.neighbors();
+            boolean touchesBlack = border.intersects(liveBlack);
+            boolean touchesWhite = border.intersects(liveWhite);
+            if (touchesBlack == touchesWhite) {
+                continue; // 공배
+            }
+            if (border.intersects(seki)) {
+                continue; // 세키 그룹의 집은 세지 않음 (TERRITORY)
+            }
+            if (touchesBlack) {
+                black += region.count();
+            } else {
+                white += region.count();
+            }
+        }
+
+        if (rule == ScoringRule.AREA) {
+            black += liveBlack.count();
+            white += liveWhite.count();
+        } else {
+            black += capturedWhite + deadWhite.count();
+            white += capturedBlack + deadBlack.count();
+        }
+        white += komi;
+
+        BitBoard dead = deadBlack.or(deadWhite);
+        int[] deadStones = new int[dead.count()];
+        for (int i = 0, index = dead.first(); index >= 0; i++, index = dead.next(index)) {
+            deadStones[i] = index;
+        }
+        return new Score(rule, black, white, deadStones);
+    }
+
+    /**
+     * 현재 국면에서 toPlay부터 무작위 플레이아웃을 playouts번 끝까지 두어 각 칸(row * size + col)의 평균 주인을 구한다.
+     * 1에 가까우면 흑, -1에 가까우면 백의 땅
+     */
+    public static float[] estimateOwnership(GoBoard board, byte toPlay, int playouts, long seed) {
+        int size = board.getSize();
+        float[] ownership = new float[size * size];
+        if (playouts <= 0) {
+            return ownership;
+        }
+        GoBoard work = new GoBoard(size);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < playouts; i++) {
+            work.copyFrom(board);
+            Playout.run(work, toPlay, 0, GoBoard.NO_POINT, random);
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    ownership[row * size + col] += work.areaOwner(work.point(row, col));
+                }
+            }
+        }
+        for (int i = 0; i < ownership.length; i++) {
+            ownership[i] /= playouts;
+        }
+        return ownership;
+    }
+
+    private static void addChains(List<Chain> chains, BitBoard stones, byte color) {
+        BitBoard rest = stones;
+        for (int index = rest.first(); index >= 0; index = rest.first()) {
+            BitBoard chain = BitBoard.single(stones.size(), index).flood(stones);
+            rest = rest.andNot(chain);
+            chains.add(new Chain(color, chain));
+        }
+    }
+
+    private static void markDeadByOwnership(List<Chain> chains, float[] ownership) {
+        for (Chain chain : chains) {
+            float sum = 0;
+            for (int index = chain.stones.first(); index >= 0; index = chain.stones.next(index)) {
+                sum += ownership[index];
+            }
+            chain.dead = sum / chain.stones.count() * chain.color < -DEAD_OWNERSHIP;
+        }
+    }
+
+    private static void markDeadByEyeSpace(GoBoard board, List<Chain> chains, BitBoard empty) {
+        int size = board.getSize();
+        while (true) {
+            BitBoard black = stonesOf(chains, size, GoBoard.BLACK, false).or(stonesOf(chains, size, GoBoard.BLACK, true));
+            BitBoard white = stonesOf(chains, size, GoBoard.WHITE, false).or(stonesOf(chains, size, GoBoard.WHITE, true));
+            BitBoard liveBlack = stonesOf(chains, size, GoBoard.BLACK, false);
+            BitBoard liveWhite = stonesOf(chains, size, GoBoard.WHITE, false);
+            BitBoard all = empty.or(black).or(white);
+
+            Chain victim = null;
+            int victimSpace = Integer.MAX_VALUE;
+            for (Chain chain : chains) {
+                if (chain.dead) {
+                    continue;
+                }
+                boolean isBlack = chain.color == GoBoard.BLACK;
+                BitBoard own = isBlack ? black : white;
+                BitBoard liveOpponent = isBlack ? liveWhite : liveBlack;
+                BitBoard deadOpponent = (isBlack ? white : black).andNot(liveOpponent);
+
+                // 살아 있는 상대 돌을 건너지 않고 닿는 공간과 그 안의 눈
+                BitBoard open = empty.or(deadOpponent);
+                BitBoard space = chain.stones.flood(open.or(own)).andNot(own);
+                int spaceSize = space.count();
+                if (spaceSize > victimSpace
+                        || (spaceSize == victimSpace && chain.stones.count() >= victim.stones.count())) {
+                    continue;
+                }
+                if (eyesOf(space, liveOpponent) >= 2 || isSeki(board, chain, empty, liveOpponent)) {
+                    continue;
+                }
+                if (!isEnclosed(chain, all, liveOpponent)) {
+                    continue;
+                }
+                victim = chain;
+                victimSpace = spaceSize;
+            }
+            if (victim == null) {
+                return;
+            }
+            victim.dead = true;
+        }
+    }
+
+    /**
+     * 살아 있는 상대 돌만 벽으로 두고 chain에서 번질 수 있는 영역이 판의 절반 이하이면 상대에게 갇힌 것으로 본다.
+     * 빈 판에 가까운 국면처럼 벽이 없으면 이 영역이 판 대부분이 되므로 죽은 돌로 보지 않는다.
+     */
+    private static boolean isEnclosed(Chain chain, BitBoard board, BitBoard liveOpponent) {
+        int size = board.size();
+        return chain.stones.flood(board.andNot(liveOpponent)).count() * 2 <= size * size;
+    }
+
+    private static int eyesOf(BitBoard space, BitBoard liveOpponent) {
+        int eyes = 0;
+        BitBoard rest = space;
+        for (int index = rest.first(); index >= 0 && eyes < 2; index = rest.first()) {
+            BitBoard region = BitBoard.single(space.size(), index).flood(space);
+            rest = rest.andNot(region);
+            if (!region.neighbors().intersects(liveOpponent)) {
+                eyes += region.count() >= TWO_EYE_SPACE ? 2 : 1;
+            }
+        }
+        return eyes;
+    }
+
+    /**
+     * 살아 있는 상대 그룹과 공배를 나누고, 어느 쪽이 어느 공배를 메워도 따내지 못한 채 스스로 단수가 되면 세키
+     */
+    private static boolean isSeki(GoBoard board, Chain chain, BitBoard empty, BitBoard liveOpponent) {
+        BitBoard liberties = chain.stones.neighbors().and(empty);
+        if (liberties.count() < 2) {
+            return false;
+        }
+        BitBoard shared = liberties.and(liveOpponent.neighbors());
+        if (shared.isEmpty()) {
+            return false;
+        }
+        int size = board.getSize();
+        for (int index = shared.first(); index >= 0; index = shared.next(index)) {
+            int p = board.point(index / size, index % size);
+            for (byte color : new byte[] { chain.color, (byte) -chain.color }) {
+                if (board.check(p, color) != MoveLegality.LEGAL) {
+                    continue;
+                }
+                GoBoard after = board.copy();
+                after.play(p, color);
+                if (after.getLastCapturedCount() > 0 || after.atariLiberty(p) == GoBoard.NO_POINT) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static BitBoard stonesOf(List<Chain> chains, int size, byte color, boolean dead) {
+        BitBoard stones = new BitBoard(size);
+        for (Chain chain : chains) {
+            if (chain.color == color && chain.dead == dead) {
+                stones = stones.or(chain.stones);
+            }
+        }
+        return stones;
+    }
+
+    private static final class Chain {
+
+        private final byte color;
+        private final BitBoard stones;
+        private boolean dead;
+
+        private Chain(byte color, BitBoard stones) {
+            this.color = color;
+            this.stones = stones;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.go.ai.engine;
+
+public enum ScoringRule {
+    AREA, // 중국식: 살아 있는 돌 + 집
+    TERRITORY // 일본/한국식: 집 + 따낸 돌 (죽은 돌 포함), 세키 안의 집은 세지 않음
+}
@@ -0,0 +1,305 @@
+package com.go.ai.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SGF(FF[4]) 기보 읽기/쓰기. 바둑(GM[1])의 본 수순만 다룬다.
+ * 좌표는 열, 행 순서의 소문자 두 글자(왼쪽 위가 aa)이고, 패스는 빈 값(B[])이다. 읽을 때는 19줄의 tt도 패스로 본다.
+ * 변화도가 있으면 첫 번째 변화만 따라가며, 배치 돌(AB/AW/AE)은 서버 수순 로그로 옮길 수 없으므로 받지 않는다.
+ */
+public final class Sgf {
+
+    public static final int PASS = -1;
+
+    private Sgf() {
+    }
+
+    /**
+     * 한 수. point는 row * size + col, 패스는 PASS
+     */
+    public record Move(byte color, int point) {
+    }
+
+    /**
+     * 읽은 기보. 없는 정보는 null (komi는 KM이 없으면 0)
+     */
+    public record Game(int size, double komi, String blackName, String whiteName, String result, String date,
+            List<Move> moves) {
+
+        /**
+         * RE에서 승자: 'b', 'w', 'draw' 또는 null (무효/미상)
+         */
+        public String winner() {
+            if (result == null) {
+                return null;
+            }
+            String value = result.trim().toUpperCase();
+            if (value.startsWith("B+")) {
+                return "b";
+            }
+            if (value.startsWith("W+")) {
+                return "w";
+            }
+            return value.equals("0") || value.equals("DRAW") ? "draw" : null;
+        }
+    }
+
+    /**
+     * 계가 점수로 RE 값을 만든다. (예: B+3.5, 동점은 0)
+     */
+    public static String scoreResult(double black, double white) {
+        if (black == white) {
+            return "0";
+        }
+        double margin = Math.abs(black - white);
+        String value = margin == Math.rint(margin) ? String.valueOf((long) margin) : String.valueOf(margin);
+        return (black > white ? "B+" : "W+") + value;
+    }
+
+    /**
+     * 기보 하나를 수 단위로 써 나간다. 수순을 한꺼번에 메모리에 올리지 않고 begin, move..., end 순서로 호출한다.
+     */
+    public static final class Writer {
+
+        private static final int MOVES_PER_LINE = 10;
+
+        private final Appendable out;
+        private int size;
+        private int written;
+
+        public Writer(Appendable out) {
+            this.out = out;
+        }
+
+        /**
+         * 루트 노드. result와 date(YYYY-MM-DD), ruleset은 null이면 생략
+         */
+        public void begin(int size, double komi, String ruleset, String blackName, String whiteName, String result,
+                String date) {
+            this.size = size;
+            this.written = 0;
+            StringBuilder root = new StringBuilder("(;GM[1]FF[4]CA[UTF-8]AP[ai-go]");
+            root.append("SZ[").append(size).append("]KM[").append(komiText(komi)).append(']');
+            property(root, "RU", ruleset);
+            property(root, "PB", blackName);
+            property(root, "PW", whiteName);
+            property(root, "DT", date);
+            property(root, "RE", result);
+            append(root.append('\n'));
+        }
+
+        public void move(byte color, int point) {
+            StringBuilder node = new StringBuilder(color == GoBoard.BLACK ? ";B[" : ";W[");
+            if (point != PASS) {
+                node.append((char) ('a' + point % size)).append((char) ('a' + point / size));
+            }
+            node.append(']');
+            if (++written % MOVES_PER_LINE == 0) {
+                node.append('\n');
+            }
+            append(node);
+        }
+
+        public void end() {
+            append(")\n");
+        }
+
+        private static void property(StringBuilder node, String name, String value) {
+            if (value != null && !value.isEmpty()) {
+                node.append(name).append('[').append(escape(value)).append(']');
+            }
+        }
+
+        private void append(CharSequence text) {
+            try {
+                out.append(text);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 기보 모음의 첫 번째 게임을 읽는다. 형식이 잘못되었거나 지원하지 않는 내용이면 IllegalArgumentException
+     */
+    public static Game parse(CharSequence text) {
+        Parser parser = new Parser(text);
+        return parser.parse();
+    }
+
+    private static String komiText(double komi) {
+        return komi == Math.rint(komi) ? String.valueOf((long) komi) : String.valueOf(komi);
+    }
+
+    // SimpleText 값에서는 ]와 \만 이스케이프
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("]", "\\]");
+    }
+
+    private static final class Parser {
+
+        private final CharSequence text;
+        private int pos;
+        private int size = GoBoard.DEFAULT_SIZE;
+        private double komi;
+        private String blackName;
+        private String whiteName;
+        private String result;
+        private String date;
+        private final List<Move> moves = new ArrayList<>();
+
+        Parser(CharSequence text) {
+            this.text = text;
+        }
+
+        Game parse() {
+            skipTo('(');
+            pos++;
+            boolean root = true;
+            // 본 수순은 첫 번째 ')'에서 끝남 (그 뒤는 다른 변화도)
+            while (true) {
+                skipWhitespace();
+                if (pos >= text.length()) {
+                    throw new IllegalArgumentException("SGF ended before the game tree was closed");
+                }
+                char c = text.charAt(pos);
+                if (c == ')') {
+                    break;
+                }
+                pos++;
+                if (c == ';') {
+                    node(root);
+                    root = false;
+                } else if (c != '(') {
+                    throw new IllegalArgumentException("Unexpected '" + c + "' at " + (pos - 1));
+                }
+            }
+            if (root) {
+                throw new IllegalArgumentException("SGF has no nodes");
+            }
+            return new Game(size, komi, blackName, whiteName, result, date, moves);
+        }
+
+        private void node(boolean root) {
+            while (true) {
+                skipWhitespace();
+                if (pos >= text.length() || !Character.isLetter(text.charAt(pos))) {
+                    return;
+                }
+                String name = identifier();
+                List<String> values = new ArrayList<>();
+                skipWhitespace();
+                while (pos < text.length() && text.charAt(pos) == '[') {
+                    pos++;
+                    values.add(value());
+                    skipWhitespace();
+                }
+                if (values.isEmpty()) {
+                    throw new IllegalArgumentException("Property " + name + " has no value");
+                }
+                property(name, values, root);
+            }
+        }
+
+        private void property(String name, List<String> values, boolean root) {
+            String value = values.get(0);
+            switch (name) {
+                case "B" -> moves.add(new Move(GoBoard.BLACK, point(value)));
+                case "W" -> moves.add(new Move(GoBoard.WHITE, point(value)));
+                case "GM" -> {
+                    if (!value.trim().equals("1")) {
+                        throw new IllegalArgumentException("Not a Go game: GM[" + value + "]");
+                    }
+                }
+                case "SZ" -> {
+                    if (!root || !moves.isEmpty()) {
+                        throw new IllegalArgumentException("SZ must be in the root node");
+                    }
+                    // 직사각형(19:19)은 같은 크기일 때만
+                    String[] sides = value.trim().split(":");
+                    size = Integer.parseInt(sides[0].trim());
+                    if (sides.length > 1 && Integer.parseInt(sides[1].trim()) != size) {
+                        throw new IllegalArgumentException("Rectangular boards are not supported");
+                    }
+                    if (size < 2 || size > 25) {
+                        throw new IllegalArgumentException("Unsupported board size: " + size);
+                    }
+                }
+                case "KM" -> komi = value.isBlank() ? 0 : Double.parseDouble(value.trim());
+                case "PB" -> blackName = value;
+                case "PW" -> whiteName = value;
+                case "RE" -> result = value;
+                case "DT" -> date = value;
+                case "AB", "AW", "AE" -> throw new IllegalArgumentException("Setup stones (" + name + ") are not supported");
+                default -> {
+                    // 나머지 속성(코멘트, 표시 등)은 무시
+                }
+            }
+        }
+
+        private int point(String value) {
+            String coord = value.trim();
+            if (coord.isEmpty() || (size <= 19 && coord.equals("tt"))) {
+                return PASS;
+            }
+            if (coord.length() != 2) {
+                throw new IllegalArgumentException("Invalid point: " + value);
+            }
+            int col = coord.charAt(0) - 'a';
+            int row = coord.charAt(1) - 'a';
+            if (col < 0 || col >= size || row < 0 || row >= size) {
+                throw new IllegalArgumentException("Point outside the board: " + value);
+            }
+            return row * size + col;
+        }
+
+        // FF[3]의 소문자가 섞인 이름(예: AddBlack)은 대문자만 남김
+        private String identifier() {
+            StringBuilder name = new StringBuilder();
+            while (pos < text.length() && Character.isLetter(text.charAt(pos))) {
+                char c = text.charAt(pos++);
+                if (Character.isUpperCase(c)) {
+                    name.append(c);
+                }
+            }
+            return name.toString();
+        }
+
+        private String value() {
+            StringBuilder value = new StringBuilder();
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == ']') {
+                    return value.toString();
+                }
+                if (c == '\\' && pos < text.length()) {
+                    c = text.charAt(pos++);
+                    // 이스케이프된 줄바꿈은 이어지는 줄 (없는 것으로 처리)
+                    if (c == '\n' || c == '\r') {
+                        continue;
+                    }
+                }
+                value.append(c);
+            }
+            throw new IllegalArgumentException("Unterminated property value");
+        }
+
+        private void skipTo(char target) {
+            while (pos < text.length() && text.charAt(pos) != target) {
+                pos++;
+            }
+            if (pos >= text.length()) {
+                throw new IllegalArgumentException("Not an SGF game tree");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.go.ai.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist 해시 키 테이블.
+ * 노드가 여러 대여도 같은 국면이 같은 해시를 갖도록 고정된 시드로 생성한다.
+ */
+final class Zobrist {
+
+    private static final int MAX_CELLS = 27 * 27; // 25줄 바둑판 + 테두리까지 지원
+
+    private static final long[] BLACK_KEYS = new long[MAX_CELLS];
+    private static final long[] WHITE_KEYS = new long[MAX_CELLS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_60BAL);
+        for (int i = 0; i < MAX_CELLS; i++) {
+            BLACK_KEYS[i] = random.nextLong();
+            WHITE_KEYS[i] = random.nextLong();
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    static long key(byte color, int point) {
+        return color == GoBoard.BLACK ? BLACK_KEYS[point] : WHITE_KEYS[point];
+    }
+}
@@ -5,7 +5,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "game_history")
+@Table(name = "game_history", indexes = {
+        // 사용자별 기록을 최신순 키셋 페이지로 읽음 (played_at, id 순)
+        @Index(name = "idx_game_history_user_type_played", columnList = "user_id, game_type, played_at, id")
+})
 public class GameHistory {
 
     @Id
@@ -0,0 +1,108 @@
+package com.go.ai.entity;
+
+import com.go.ai.engine.BoardCodec;
+import com.go.ai.engine.GoGame;
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 대국 기록의 일정 수(go.live-game.keyframe-every-moves)마다 남기는 국면. 기보 재생에서 원하는 수 직전의 키프레임부터
+ * 이어 두므로 수 번호와 관계없이 간격만큼만 재생한다. 키는 수순 로그와 같은 (game_id, move_no)이며 move_no 수를 둔 직후의 국면이다.
+ */
+@Entity
+@Table(name = "game_keyframes")
+@IdClass(GameMoveId.class)
+public class GameKeyframe implements Persistable<GameMoveId> {
+
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @Id
+    @Column(name = "move_no")
+    private int moveNo;
+
+    @Column(name = "board_data", columnDefinition = "BLOB", nullable = false)
+    private byte[] boardData; // BoardCodec 형식 (19줄 92바이트)
+
+    @Column(nullable = false)
+    private byte turn; // 다음 차례: 1 = 흑, -1 = 백
+
+    private int capturedBlack;
+
+    private int capturedWhite;
+
+    @Transient
+    private boolean isNew = true;
+
+    public GameKeyframe() {
+    }
+
+    public GameKeyframe(Long gameId, int moveNo, byte[] boardData, byte turn, int capturedBlack, int capturedWhite) {
+        this.gameId = gameId;
+        this.moveNo = moveNo;
+        this.boardData = boardData;
+        this.turn = turn;
+        this.capturedBlack = capturedBlack;
+        this.capturedWhite = capturedWhite;
+    }
+
+    /**
+     * 현재 국면의 키프레임
+     */
+    public static GameKeyframe of(Long gameId, GoGame game) {
+        return new GameKeyframe(gameId, game.getMoveCount(), BoardCodec.encode(game.getBoard()), game.getTurn(),
+                game.getCapturedBlack(), game.getCapturedWhite());
+    }
+
+    /**
+     * 이 국면에서 이어 둘 수 있는 게임
+     */
+    public GoGame toGame() {
+        return new GoGame(BoardCodec.decode(boardData), turn, capturedBlack, capturedWhite, moveNo);
+    }
+
+    @Override
+    public GameMoveId getId() {
+        return new GameMoveId(gameId, moveNo);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public int getMoveNo() {
+        return moveNo;
+    }
+
+    public byte[] getBoardData() {
+        return boardData;
+    }
+
+    public byte getTurn() {
+        return turn;
+    }
+
+    public int getCapturedBlack() {
+        return capturedBlack;
+    }
+
+    public int getCapturedWhite() {
+        return capturedWhite;
+    }
+}
@@ -0,0 +1,87 @@
+package com.go.ai.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 추가만 되는 수순 로그의 한 줄 (몇 번째 수, 색, 위치, 따낸 돌 수).
+ * 키를 직접 지정하므로 Persistable로 새 행임을 알려 SELECT 없이 배치 INSERT 되도록 한다.
+ */
+@Entity
+@Table(name = "game_moves")
+@IdClass(GameMoveId.class)
+public class GameMove implements Persistable<GameMoveId> {
+
+    public static final short PASS = -1;
+
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @Id
+    @Column(name = "move_no")
+    private int moveNo; // 1부터 시작
+
+    @Column(nullable = false)
+    private byte color; // 1 = 흑, -1 = 백
+
+    @Column(nullable = false)
+    private short point; // row * 19 + col, 패스는 -1
+
+    @Column(nullable = false)
+    private short captures;
+
+    @Transient
+    private boolean isNew = true;
+
+    public GameMove() {
+    }
+
+    public GameMove(Long gameId, int moveNo, byte color, short point, short captures) {
+        this.gameId = gameId;
+        this.moveNo = moveNo;
+        this.color = color;
+        this.point = point;
+        this.captures = captures;
+    }
+
+    @Override
+    public GameMoveId getId() {
+        return new GameMoveId(gameId, moveNo);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public int getMoveNo() {
+        return moveNo;
+    }
+
+    public byte getColor() {
+        return color;
+    }
+
+    public short getPoint() {
+        return point;
+    }
+
+    public short getCaptures() {
+        return captures;
+    }
+
+    public boolean isPass() {
+        return point == PASS;
+    }
+}
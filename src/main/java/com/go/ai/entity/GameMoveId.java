@@ -0,0 +1,42 @@
+package com.go.ai.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class GameMoveId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long gameId;
+    private int moveNo;
+
+    public GameMoveId() {
+    }
+
+    public GameMoveId(Long gameId, int moveNo) {
+        this.gameId = gameId;
+        this.moveNo = moveNo;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public int getMoveNo() {
+        return moveNo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof GameMoveId other))
+            return false;
+        return moveNo == other.moveNo && Objects.equals(gameId, other.gameId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(gameId, moveNo);
+    }
+}
@@ -0,0 +1,161 @@
+package com.go.ai.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 한 판의 대국 기록. 같은 방에서 재경기를 하면 새 기록이 생기며, 방이 삭제되어도 남는다.
+ * 수순은 game_moves 테이블에 game_id로 연결된다.
+ */
+@Entity
+@Table(name = "game_records", indexes = {
+        @Index(name = "idx_game_records_black_finished", columnList = "black_user_id, finished_at"),
+        @Index(name = "idx_game_records_white_finished", columnList = "white_user_id, finished_at"),
+        @Index(name = "idx_game_records_finished", columnList = "finished_at")
+})
+public class GameRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Column(name = "black_user_id")
+    private Long blackUserId;
+
+    @Column(name = "white_user_id")
+    private Long whiteUserId;
+
+    @Column(length = 100)
+    private String blackName;
+
+    @Column(length = 100)
+    private String whiteName;
+
+    private int boardSize = 19;
+
+    private int moveCount;
+
+    @Column(length = 10)
+    private String winner; // 'b', 'w', 'draw' 또는 null (진행 중)
+
+    @Column(length = 20)
+    private String result; // 기보(SGF RE) 형식의 결과: B+3.5, W+R(기권), B+T(시간패), 0(무승부)
+
+    @CreationTimestamp
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public GameRecord() {
+    }
+
+    public GameRecord(Long roomId, User black, User white) {
+        this.roomId = roomId;
+        this.blackUserId = black.getId();
+        this.blackName = black.getName();
+        if (white != null) {
+            this.whiteUserId = white.getId();
+            this.whiteName = white.getName();
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public Long getBlackUserId() {
+        return blackUserId;
+    }
+
+    public void setBlackUserId(Long blackUserId) {
+        this.blackUserId = blackUserId;
+    }
+
+    public Long getWhiteUserId() {
+        return whiteUserId;
+    }
+
+    public void setWhiteUserId(Long whiteUserId) {
+        this.whiteUserId = whiteUserId;
+    }
+
+    public String getBlackName() {
+        return blackName;
+    }
+
+    public void setBlackName(String blackName) {
+        this.blackName = blackName;
+    }
+
+    public String getWhiteName() {
+        return whiteName;
+    }
+
+    public void setWhiteName(String whiteName) {
+        this.whiteName = whiteName;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public void setBoardSize(int boardSize) {
+        this.boardSize = boardSize;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public void setMoveCount(int moveCount) {
+        this.moveCount = moveCount;
+    }
+
+    public String getWinner() {
+        return winner;
+    }
+
+    public void setWinner(String winner) {
+        this.winner = winner;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -5,7 +5,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "game_rooms")
+@Table(name = "game_rooms", indexes = {
+        @Index(name = "idx_game_rooms_host_status", columnList = "host_id, status"),
+        @Index(name = "idx_game_rooms_guest_status", columnList = "guest_id, status"),
+        @Index(name = "idx_game_rooms_cleanup", columnList = "status, guest_id, created_at, host_id")
+})
 public class GameRoom {
 
     @Id
@@ -33,6 +37,9 @@ public class GameRoom {
 
     private LocalDateTime startedAt;
 
+    @Embedded
+    private TimeControl timeControl; // 제한 시간 설정, null이면 시간 제한 없음
+
     public GameRoom() {
     }
 
@@ -92,6 +99,14 @@ public class GameRoom {
         this.startedAt = startedAt;
     }
 
+    public TimeControl getTimeControl() {
+        return timeControl;
+    }
+
+    public void setTimeControl(TimeControl timeControl) {
+        this.timeControl = timeControl;
+    }
+
     public enum RoomStatus {
         WAITING, // 대기 중
         PLAYING, // 게임 진행 중
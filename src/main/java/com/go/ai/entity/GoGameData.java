@@ -14,8 +14,11 @@ public class GoGameData {
     @JoinColumn(name = "room_id", nullable = false, unique = true)
     private GameRoom room;
 
+    @Column(name = "board_data", columnDefinition = "BLOB")
+    private byte[] boardData; // 게임 상태 스냅샷 (BoardCodec 형식), 진행 중에는 snapshotMoveNo 시점의 보드
+
     @Column(columnDefinition = "TEXT")
-    private String boardState; // 현재 게임 상태 (JSON 배열 또는 SGF 형식)
+    private String boardState; // 이전 형식(JSON 배열), BoardDataMigration이 boardData로 옮긴 뒤 비움
 
     @Column(length = 10)
     private String turn; // 'b' (흑) 또는 'w' (백)
@@ -23,15 +26,25 @@ public class GoGameData {
     @Column(length = 10)
     private String winner; // 'b', 'w', 'draw' 또는 null
 
+    private Double scoreBlack; // 계가로 끝난 판의 점수 (기권/시간패나 진행 중이면 null)
+    private Double scoreWhite; // 덤 포함
+
     private Integer capturedBlack = 0;
     private Integer capturedWhite = 0;
 
+    private Integer koPoint; // 코(ko)로 착수가 금지된 위치 (row * 19 + col), 없으면 null
+
+    @Column(name = "game_record_id")
+    private Long gameRecordId; // 진행 중인 대국 기록 (수순은 game_moves)
+
+    private int snapshotMoveNo; // 스냅샷에 반영된 마지막 수 번호, 이후 수는 game_moves에서 재생
+
     public GoGameData() {
     }
 
-    public GoGameData(GameRoom room, String boardState, String turn) {
+    public GoGameData(GameRoom room, byte[] boardData, String turn) {
         this.room = room;
-        this.boardState = boardState;
+        this.boardData = boardData;
         this.turn = turn;
         this.capturedBlack = 0;
         this.capturedWhite = 0;
@@ -53,6 +66,14 @@ public class GoGameData {
         this.room = room;
     }
 
+    public byte[] getBoardData() {
+        return boardData;
+    }
+
+    public void setBoardData(byte[] boardData) {
+        this.boardData = boardData;
+    }
+
     public String getBoardState() {
         return boardState;
     }
@@ -92,4 +113,44 @@ public class GoGameData {
     public void setCapturedWhite(Integer capturedWhite) {
         this.capturedWhite = capturedWhite;
     }
+
+    public Integer getKoPoint() {
+        return koPoint;
+    }
+
+    public void setKoPoint(Integer koPoint) {
+        this.koPoint = koPoint;
+    }
+
+    public Long getGameRecordId() {
+        return gameRecordId;
+    }
+
+    public void setGameRecordId(Long gameRecordId) {
+        this.gameRecordId = gameRecordId;
+    }
+
+    public int getSnapshotMoveNo() {
+        return snapshotMoveNo;
+    }
+
+    public void setSnapshotMoveNo(int snapshotMoveNo) {
+        this.snapshotMoveNo = snapshotMoveNo;
+    }
+
+    public Double getScoreBlack() {
+        return scoreBlack;
+    }
+
+    public void setScoreBlack(Double scoreBlack) {
+        this.scoreBlack = scoreBlack;
+    }
+
+    public Double getScoreWhite() {
+        return scoreWhite;
+    }
+
+    public void setScoreWhite(Double scoreWhite) {
+        this.scoreWhite = scoreWhite;
+    }
 }
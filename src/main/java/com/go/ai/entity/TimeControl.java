@@ -0,0 +1,64 @@
+package com.go.ai.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * 방의 제한 시간 설정.
+ * 기본 시간(mainTimeSeconds)을 다 쓰면 초읽기(byoYomiSeconds초 × byoYomiPeriods회)로 넘어가고,
+ * 초읽기 한 번 안에 두면 그 초읽기는 다시 채워진다. incrementSeconds는 수를 둘 때마다 기본 시간에 더해지는 피셔 방식 추가 시간.
+ * 기본 시간과 초읽기가 모두 0이면 시간 제한 없음
+ */
+@Embeddable
+public class TimeControl {
+
+    @Column(name = "main_time_seconds")
+    private Integer mainTimeSeconds;
+
+    @Column(name = "byo_yomi_periods")
+    private Integer byoYomiPeriods;
+
+    @Column(name = "byo_yomi_seconds")
+    private Integer byoYomiSeconds;
+
+    @Column(name = "increment_seconds")
+    private Integer incrementSeconds;
+
+    public TimeControl() {
+    }
+
+    public TimeControl(int mainTimeSeconds, int byoYomiPeriods, int byoYomiSeconds, int incrementSeconds) {
+        if (mainTimeSeconds < 0 || byoYomiPeriods < 0 || byoYomiSeconds < 0 || incrementSeconds < 0) {
+            throw new IllegalArgumentException("Time control values must not be negative");
+        }
+        this.mainTimeSeconds = mainTimeSeconds;
+        this.byoYomiPeriods = byoYomiPeriods;
+        this.byoYomiSeconds = byoYomiSeconds;
+        this.incrementSeconds = incrementSeconds;
+    }
+
+    public boolean isUnlimited() {
+        return valueOf(mainTimeSeconds) == 0 && (valueOf(byoYomiPeriods) == 0 || valueOf(byoYomiSeconds) == 0);
+    }
+
+    public int getMainTimeSeconds() {
+        return valueOf(mainTimeSeconds);
+    }
+
+    public int getByoYomiPeriods() {
+        return valueOf(byoYomiSeconds) == 0 ? 0 : valueOf(byoYomiPeriods);
+    }
+
+    public int getByoYomiSeconds() {
+        return valueOf(byoYomiSeconds);
+    }
+
+    public int getIncrementSeconds() {
+        return valueOf(incrementSeconds);
+    }
+
+    // 컬럼 추가 이전에 만들어진 방은 값이 null
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,124 @@
+package com.go.ai.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자/게임 종류별 전적 카운터. 기록(game_history)을 남길 때 같은 트랜잭션에서 함께 갱신하므로
+ * 통계 조회 때 기록 행을 다시 세지 않는다.
+ */
+@Entity
+@Table(name = "user_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_stats_user_type", columnNames = { "user_id", "game_type" })
+})
+public class UserStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "game_type", nullable = false, length = 20)
+    private GameHistory.GameType gameType;
+
+    private int wins;
+
+    private int losses;
+
+    private int draws;
+
+    private int currentStreak; // 양수면 연승, 음수면 연패 수 (무승부면 0)
+
+    private int longestWinStreak;
+
+    private LocalDateTime lastPlayedAt;
+
+    private Double rating; // Elo 레이팅 (레이팅 대국을 한 번도 두지 않았으면 null)
+
+    private int ratedGames;
+
+    public UserStats() {
+    }
+
+    public UserStats(Long userId, GameHistory.GameType gameType) {
+        this.userId = userId;
+        this.gameType = gameType;
+    }
+
+    /**
+     * 한 판의 결과를 카운터에 반영
+     */
+    public void record(GameHistory.GameResult result, LocalDateTime playedAt) {
+        switch (result) {
+            case WIN -> {
+                wins++;
+                currentStreak = currentStreak > 0 ? currentStreak + 1 : 1;
+                longestWinStreak = Math.max(longestWinStreak, currentStreak);
+            }
+            case LOSS -> {
+                losses++;
+                currentStreak = currentStreak < 0 ? currentStreak - 1 : -1;
+            }
+            case DRAW -> {
+                draws++;
+                currentStreak = 0;
+            }
+        }
+        lastPlayedAt = playedAt;
+    }
+
+    /**
+     * 레이팅 대국 한 판을 반영한 새 레이팅
+     */
+    public void rate(double newRating) {
+        rating = newRating;
+        ratedGames++;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public GameHistory.GameType getGameType() {
+        return gameType;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public int getLongestWinStreak() {
+        return longestWinStreak;
+    }
+
+    public LocalDateTime getLastPlayedAt() {
+        return lastPlayedAt;
+    }
+
+    public Double getRating() {
+        return rating;
+    }
+
+    public int getRatedGames() {
+        return ratedGames;
+    }
+}
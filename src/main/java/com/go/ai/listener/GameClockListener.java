@@ -0,0 +1,25 @@
+package com.go.ai.listener;
+
+import com.go.ai.service.ClockTimeoutEvent;
+import com.go.ai.service.GameRoomService;
+import com.go.ai.service.RoomActors;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GameClockListener {
+
+    private final GameRoomService gameRoomService;
+    private final RoomActors roomActors;
+
+    public GameClockListener(GameRoomService gameRoomService, RoomActors roomActors) {
+        this.gameRoomService = gameRoomService;
+        this.roomActors = roomActors;
+    }
+
+    @EventListener
+    public void handleClockTimeout(ClockTimeoutEvent event) {
+        // 타이머 스레드는 넘기기만 하고, 시간패 처리는 착수와 같은 방의 메일박스에서 순서대로 처리
+        roomActors.execute(event.roomId(), () -> gameRoomService.handleTimeout(event.roomId(), event.seq()));
+    }
+}
@@ -1,6 +1,10 @@
 package com.go.ai.listener;
 
+import com.go.ai.service.GameMetrics;
 import com.go.ai.service.GameRoomService;
+import com.go.ai.service.Matchmaker;
+import com.go.ai.service.RoomBroadcaster;
+import com.go.ai.service.RoomActors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -9,6 +13,8 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,31 +23,80 @@ public class WebSocketEventListener {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketEventListener.class);
     private final GameRoomService gameRoomService;
+    private final RoomActors roomActors;
+    private final RoomBroadcaster roomBroadcaster;
+    private final Matchmaker matchmaker;
+    private final GameMetrics gameMetrics;
 
-    public WebSocketEventListener(GameRoomService gameRoomService) {
+    public WebSocketEventListener(GameRoomService gameRoomService, RoomActors roomActors,
+            RoomBroadcaster roomBroadcaster, Matchmaker matchmaker, GameMetrics gameMetrics) {
         this.gameRoomService = gameRoomService;
+        this.roomActors = roomActors;
+        this.roomBroadcaster = roomBroadcaster;
+        this.matchmaker = matchmaker;
+        this.gameMetrics = gameMetrics;
     }
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        gameMetrics.sessionOpened(headerAccessor.getSessionId());
         String userId = headerAccessor.getFirstNativeHeader("userId");
         if (userId != null) {
             headerAccessor.getSessionAttributes().put("userId", userId);
             log.info("WebSocket Session Connected for userId: {}", userId);
         }
+        // 자동 매칭 결과만 받는 연결은 userId 대신 대기표를 보냄 (끊겨도 방 이탈로 처리하지 않음)
+        String matchTicket = headerAccessor.getFirstNativeHeader("matchTicket");
+        if (matchTicket != null) {
+            headerAccessor.getSessionAttributes().put("matchTicket", matchTicket);
+        }
+    }
+
+    // 방 토픽 구독을 세어 관전자 수와 스냅샷 캐시 유지에 사용
+    @EventListener
+    public void handleSubscribeListener(SessionSubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = RoomBroadcaster.roomIdOf(headerAccessor.getDestination());
+        if (roomId == null) {
+            return;
+        }
+        String userIdStr = (String) headerAccessor.getSessionAttributes().get("userId");
+        Long userId = null;
+        try {
+            userId = userIdStr != null ? Long.parseLong(userIdStr) : null;
+        } catch (NumberFormatException e) {
+            log.error("Invalid userId in session: {}", userIdStr);
+        }
+        roomBroadcaster.subscribed(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId(), roomId, userId);
+    }
+
+    @EventListener
+    public void handleUnsubscribeListener(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        roomBroadcaster.unsubscribed(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId());
     }
 
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        roomBroadcaster.disconnected(event.getSessionId());
+        gameMetrics.sessionClosed(event.getSessionId());
+        String matchTicket = (String) headerAccessor.getSessionAttributes().get("matchTicket");
+        if (matchTicket != null) {
+            // 매칭을 기다리다 나간 사용자는 대기열에서 뺌 (이미 짝이 지어졌으면 그대로)
+            matchmaker.cancel(matchTicket);
+        }
         String userIdStr = (String) headerAccessor.getSessionAttributes().get("userId");
         
         if (userIdStr != null) {
             try {
                 Long userId = Long.parseLong(userIdStr);
                 log.info("WebSocket Session Disconnected for userId: {}", userId);
-                gameRoomService.handleUserDisconnect(userId);
+                // 방마다 해당 방의 메일박스에서 처리하여 착수/상태 변경과 경쟁하지 않도록 함
+                for (Long roomId : gameRoomService.findRoomIdsByUser(userId)) {
+                    roomActors.execute(roomId, () -> gameRoomService.handleUserDisconnect(roomId, userId));
+                }
             } catch (NumberFormatException e) {
                 log.error("Invalid userId in session: {}", userIdStr);
             }
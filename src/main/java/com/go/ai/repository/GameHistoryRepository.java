@@ -1,12 +1,45 @@
 package com.go.ai.repository;
 
+import com.go.ai.dto.GameHistoryDto;
 import com.go.ai.entity.GameHistory;
 import com.go.ai.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface GameHistoryRepository extends JpaRepository<GameHistory, Long> {
     List<GameHistory> findByUserOrderByPlayedAtDesc(User user);
 
     List<GameHistory> findByUserAndGameTypeOrderByPlayedAtDesc(User user, GameHistory.GameType gameType);
+
+    // 최신순 첫 페이지: (user_id, game_type, played_at, id) 인덱스를 역순으로 읽고 필요한 컬럼만 DTO로 조회
+    @Query("select new com.go.ai.dto.GameHistoryDto(h.id, h.result, h.gameType, h.movesCount, h.opponentName, h.playedAt) "
+            + "from GameHistory h where h.user.id = :userId and h.gameType = :gameType "
+            + "order by h.playedAt desc, h.id desc")
+    List<GameHistoryDto> findPage(@Param("userId") Long userId, @Param("gameType") GameHistory.GameType gameType,
+            Pageable pageable);
+
+    // 다음 페이지: 이전 페이지 마지막 행 (playedAt, id)보다 앞선 행부터 (OFFSET 없이 인덱스에서 바로 이어 읽음)
+    @Query("select new com.go.ai.dto.GameHistoryDto(h.id, h.result, h.gameType, h.movesCount, h.opponentName, h.playedAt) "
+            + "from GameHistory h where h.user.id = :userId and h.gameType = :gameType "
+            + "and (h.playedAt < :playedAt or (h.playedAt = :playedAt and h.id < :id)) "
+            + "order by h.playedAt desc, h.id desc")
+    List<GameHistoryDto> findPageBefore(@Param("userId") Long userId,
+            @Param("gameType") GameHistory.GameType gameType, @Param("playedAt") LocalDateTime playedAt,
+            @Param("id") Long id, Pageable pageable);
+
+    // 전적 카운터를 처음 만들 때 한 번만 사용 (오래된 순)
+    @Query("select h.result as result, h.playedAt as playedAt from GameHistory h "
+            + "where h.user.id = :userId and h.gameType = :gameType order by h.playedAt, h.id")
+    List<ResultRow> findResults(@Param("userId") Long userId, @Param("gameType") GameHistory.GameType gameType);
+
+    interface ResultRow {
+        GameHistory.GameResult getResult();
+
+        LocalDateTime getPlayedAt();
+    }
 }
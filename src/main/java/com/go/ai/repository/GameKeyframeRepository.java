@@ -0,0 +1,18 @@
+package com.go.ai.repository;
+
+import com.go.ai.entity.GameKeyframe;
+import com.go.ai.entity.GameMoveId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GameKeyframeRepository extends JpaRepository<GameKeyframe, GameMoveId> {
+    // moveNo 이하에서 가장 가까운 키프레임
+    Optional<GameKeyframe> findTopByGameIdAndMoveNoLessThanEqualOrderByMoveNoDesc(Long gameId, int moveNo);
+
+    @Query("select k.moveNo from GameKeyframe k where k.gameId = :gameId")
+    List<Integer> findMoveNosByGameId(@Param("gameId") Long gameId);
+}
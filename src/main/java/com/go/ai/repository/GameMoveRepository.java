@@ -0,0 +1,16 @@
+package com.go.ai.repository;
+
+import com.go.ai.entity.GameMove;
+import com.go.ai.entity.GameMoveId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
+public interface GameMoveRepository extends JpaRepository<GameMove, GameMoveId> {
+    List<GameMove> findByGameIdAndMoveNoGreaterThanOrderByMoveNo(Long gameId, int moveNo);
+
+    List<GameMove> findByGameIdOrderByMoveNo(Long gameId);
+
+    List<GameMove> findByGameIdAndMoveNoBetweenOrderByMoveNo(Long gameId, int fromMoveNo, int toMoveNo);
+
+    long countByGameId(Long gameId);
+}
@@ -0,0 +1,17 @@
+package com.go.ai.repository;
+
+import com.go.ai.entity.GameRecord;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface GameRecordRepository extends JpaRepository<GameRecord, Long> {
+    // 같은 판의 키프레임 채우기를 인스턴스가 여러 개여도 한 번에 하나만 하도록 기록 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from GameRecord r where r.id = :id")
+    Optional<GameRecord> findForUpdate(@Param("id") Long id);
+}
@@ -2,7 +2,12 @@ package com.go.ai.repository;
 
 import com.go.ai.entity.GameRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface GameRoomRepository extends JpaRepository<GameRoom, Long> {
@@ -11,4 +16,33 @@ public interface GameRoomRepository extends JpaRepository<GameRoom, Long> {
     List<GameRoom> findByStatus(GameRoom.RoomStatus status);
 
     List<GameRoom> findByStatusAndGameTypeOrderByCreatedAtDesc(GameRoom.RoomStatus status, GameRoom.GameType gameType);
+
+    // OR 조건 대신 두 쿼리로 나눠 각각 (host_id, status) / (guest_id, status) 인덱스의 앞 열로 찾음
+    // (상태와 관계없이 모든 방, id는 보조 인덱스에 들어 있으므로 테이블 행은 읽지 않음)
+    @Query("select r.id from GameRoom r where r.host.id = :userId")
+    List<Long> findIdsByHostId(@Param("userId") Long userId);
+
+    @Query("select r.id from GameRoom r where r.guest.id = :userId")
+    List<Long> findIdsByGuestId(@Param("userId") Long userId);
+
+    // 정리 대상(게스트 없이 오래된 방): (status, guest_id, created_at, host_id) 인덱스만으로 처리
+    // 고른 행은 트랜잭션이 끝날 때까지 잠가 그 사이 입장(joinRoom)이 커밋되지 않게 하고, 다른 트랜잭션이 잠근 행은 건너뜀
+    @Query(value = "SELECT id, host_id AS hostId FROM game_rooms "
+            + "WHERE status = :status AND guest_id IS NULL AND created_at < :before "
+            + "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ExpiredRoom> lockExpiredRooms(@Param("status") String status, @Param("before") LocalDateTime before,
+            @Param("limit") int limit);
+
+    // 잠근 뒤에도 조건을 다시 확인해 정리 대상인 방만 지움
+    @Modifying
+    @Query("delete from GameRoom r where r.id in :ids "
+            + "and r.status = :status and r.guest is null and r.createdAt < :before")
+    int deleteExpiredByIds(@Param("ids") Collection<Long> ids, @Param("status") GameRoom.RoomStatus status,
+            @Param("before") LocalDateTime before);
+
+    interface ExpiredRoom {
+        Long getId();
+
+        Long getHostId();
+    }
 }
@@ -2,9 +2,29 @@ package com.go.ai.repository;
 
 import com.go.ai.entity.GameRoom;
 import com.go.ai.entity.GoGameData;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GoGameDataRepository extends JpaRepository<GoGameData, Long> {
     Optional<GoGameData> findByRoom(GameRoom room);
+
+    @Query("select g from GoGameData g join fetch g.room r join fetch r.host left join fetch r.guest where r.id = :roomId")
+    Optional<GoGameData> findWithRoomByRoomId(@Param("roomId") Long roomId);
+
+    @Query("select g from GoGameData g join fetch g.room r join fetch r.host left join fetch r.guest where r.status = :status")
+    List<GoGameData> findAllWithRoomByStatus(@Param("status") GameRoom.RoomStatus status);
+
+    // 이전 형식(JSON)으로만 저장된 보드 (BoardDataMigration에서 사용)
+    List<GoGameData> findByBoardDataIsNullAndBoardStateIsNotNull(Pageable pageable);
+
+    // room_id는 unique 인덱스가 있으므로 방 ID 목록으로 바로 지움
+    @Modifying
+    @Query("delete from GoGameData g where g.room.id in :roomIds")
+    int deleteByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
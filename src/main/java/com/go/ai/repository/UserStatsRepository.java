@@ -0,0 +1,37 @@
+package com.go.ai.repository;
+
+import com.go.ai.entity.GameHistory;
+import com.go.ai.entity.UserStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+    Optional<UserStats> findByUserIdAndGameType(Long userId, GameHistory.GameType gameType);
+
+    // 같은 사용자의 결과가 동시에 들어와도 카운터가 어긋나지 않도록 행 잠금 후 갱신
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserStats s where s.userId = :userId and s.gameType = :gameType")
+    Optional<UserStats> findForUpdate(@Param("userId") Long userId, @Param("gameType") GameHistory.GameType gameType);
+
+    // 리더보드를 메모리에 올릴 때만 사용 (레이팅이 있는 행 전체)
+    @Query("select s.userId as userId, u.name as name, s.rating as rating, s.ratedGames as ratedGames "
+            + "from UserStats s join User u on u.id = s.userId "
+            + "where s.gameType = :gameType and s.rating is not null")
+    List<RatingRow> findRatings(@Param("gameType") GameHistory.GameType gameType);
+
+    interface RatingRow {
+        Long getUserId();
+
+        String getName();
+
+        Double getRating();
+
+        int getRatedGames();
+    }
+}
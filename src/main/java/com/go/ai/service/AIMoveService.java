@@ -0,0 +1,121 @@
+package com.go.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.go.ai.dto.AIMoveRequest;
+import com.go.ai.dto.AIMoveResponse;
+import com.go.ai.engine.GoBoard;
+import com.go.ai.engine.GoGame;
+import com.go.ai.engine.MonteCarloTreeSearch;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 혼자하기 모드의 AI 착수. 난이도를 플레이아웃 수로 환산해 몬테카를로 트리 탐색을 수행한다.
+ * 탐색은 전용 ForkJoinPool에서 실행되며, 요청이 몰려도 시간 제한을 넘기지 않도록 제한 시간은 요청 시점부터 잰다.
+ */
+@Service
+public class AIMoveService {
+
+    private static final Logger log = LoggerFactory.getLogger(AIMoveService.class);
+
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+    private final MonteCarloTreeSearch search;
+
+    @Value("${go.ai.mcts.playouts-per-level:500}")
+    private int playoutsPerLevel;
+
+    @Value("${go.ai.mcts.min-playouts:200}")
+    private int minPlayouts;
+
+    @Value("${go.ai.mcts.max-playouts:20000}")
+    private int maxPlayouts;
+
+    @Value("${go.ai.mcts.time-limit-ms:3000}")
+    private long timeLimitMillis;
+
+    public AIMoveService(ObjectMapper objectMapper,
+            @Value("${go.ai.mcts.threads:0}") int threads,
+            @Value("${go.ai.mcts.komi:6.5}") double komi) {
+        this.objectMapper = objectMapper;
+        this.pool = new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        this.search = new MonteCarloTreeSearch(pool, komi);
+    }
+
+    public AIMoveResponse findMove(AIMoveRequest request) {
+        if (request.getBoardState() == null) {
+            throw new IllegalArgumentException("boardState is required");
+        }
+        int[][] rows = BoardStates.parse(objectMapper, request.getBoardState());
+        GoBoard board = GoBoard.fromArray(rows);
+        byte turn = "w".equals(request.getTurn()) ? GoBoard.WHITE : GoBoard.BLACK;
+        int ko = koPointOf(rows, request.getLastMove(), request.getLastCaptured());
+        if (ko >= 0) {
+            board.setKoPoint(board.point(ko / rows.length, ko % rows.length));
+        }
+
+        int playouts = playoutsFor(request.getDifficulty());
+        long start = System.nanoTime();
+        MonteCarloTreeSearch.SearchResult result = search.search(new GoGame(board, turn, 0, 0), playouts,
+                timeLimitMillis);
+        log.debug("MCTS {} playouts (budget {}) in {} ms, winRate={}", result.playouts(), playouts,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), result.winRate());
+
+        if (result.pass()) {
+            return new AIMoveResponse(null, null, true, result.playouts(), result.winRate());
+        }
+        return new AIMoveResponse(result.row(), result.col(), false, result.playouts(), result.winRate());
+    }
+
+    private int playoutsFor(Integer difficulty) {
+        int level = difficulty != null ? Math.max(0, difficulty) : 0;
+        return Math.min(maxPlayouts, Math.max(minPlayouts, level * playoutsPerLevel));
+    }
+
+    /**
+     * 상대의 마지막 수가 돌 하나를 따냈고 그 돌이 단수인 외톨이 돌이면 유일한 활로(방금 따낸 자리)를 코 자리로 본다. (없으면 -1)
+     * 따낸 돌이 없는 단수(자충)는 코가 아니므로 그 돌을 따내는 수는 막지 않는다.
+     */
+    private static int koPointOf(int[][] rows, int[] lastMove, Integer lastCaptured) {
+        if (lastMove == null || lastMove.length != 2 || lastCaptured == null || lastCaptured != 1) {
+            return -1;
+        }
+        int size = rows.length;
+        int row = lastMove[0];
+        int col = lastMove[1];
+        if (row < 0 || col < 0 || row >= size || col >= size || rows[row][col] == 0) {
+            return -1;
+        }
+        int color = rows[row][col];
+        int liberty = -1;
+        int[][] offsets = { { -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 } };
+        for (int[] offset : offsets) {
+            int r = row + offset[0];
+            int c = col + offset[1];
+            if (r < 0 || c < 0 || r >= size || c >= size) {
+                continue;
+            }
+            if (rows[r][c] == color) {
+                return -1;
+            }
+            if (rows[r][c] == 0) {
+                if (liberty >= 0) {
+                    return -1;
+                }
+                liberty = r * size + c;
+            }
+        }
+        return liberty;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
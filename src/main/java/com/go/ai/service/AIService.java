@@ -2,34 +2,54 @@ package com.go.ai.service;
 
 import com.go.ai.dto.AIRequest;
 import com.go.ai.dto.AIResponse;
+import com.go.ai.engine.GoBoard;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * OpenAI 코멘트 요청. HttpClient의 비동기 호출로 보내므로 응답을 기다리는 동안 요청 스레드를 붙잡지 않는다.
+ * 동시에 나가는 호출 수는 세마포어(bulkhead)로 제한하고, 자리가 없거나 시간 초과/오류가 나면 바로 기본 멘트로 응답한다.
+ */
 @Service
 public class AIService {
 
     private static final Logger log = LoggerFactory.getLogger(AIService.class);
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    // 호출할 수 없을 때 보내는 기본 멘트
+    private static final String[] FALLBACK_COMMENTS = {
+            "좋은 수를 두고 있네요!",
+            "바둑판이 점점 흥미로워지고 있어요!",
+            "계속 집중해서 좋은 수를 찾아보세요!",
+            "음, 저도 곰곰이 생각해 볼게요!"
+    };
 
-    public AIService(RestTemplate restTemplate, ObjectMapper objectMapper) {
-        this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
-    }
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Semaphore bulkhead;
+    private final CommentCache commentCache;
+    private final GameMetrics gameMetrics;
 
     @Value("${openai.api.key}")
     private String apiKey;
@@ -37,11 +57,99 @@ public class AIService {
     @Value("${openai.api.url}")
     private String apiUrl;
 
-    public AIResponse getComment(AIRequest request) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
+    // 요청을 보낸 뒤 응답 전체를 받을 때까지의 제한 시간
+    @Value("${openai.api.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    public AIService(HttpClient httpClient, ObjectMapper objectMapper, CommentCache commentCache,
+            GameMetrics gameMetrics, @Value("${openai.api.max-concurrent:32}") int maxConcurrent) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.commentCache = commentCache;
+        this.gameMetrics = gameMetrics;
+        this.bulkhead = new Semaphore(maxConcurrent);
+    }
+
+    public CompletableFuture<AIResponse> getComment(AIRequest request) {
+        CommentCache.Key cacheKey = cacheKeyOf(request);
+        if (cacheKey != null) {
+            AIResponse cached = commentCache.get(cacheKey);
+            gameMetrics.countAiCache(cached != null);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
 
+        if (!bulkhead.tryAcquire()) {
+            log.warn("OpenAI bulkhead full, returning fallback comment");
+            gameMetrics.countAiFallback("bulkhead");
+            return CompletableFuture.completedFuture(fallback());
+        }
+
+        long started = System.nanoTime();
+        CompletableFuture<AIResponse> result;
+        try {
+            HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(apiUrl))
+                    .timeout(Duration.ofMillis(timeoutMillis))
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + apiKey)
+                    .POST(HttpRequest.BodyPublishers.ofString(buildBody(request)))
+                    .build();
+            result = httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                    .thenApply(this::parseResponse);
+            if (cacheKey != null) {
+                // 정상 응답만 캐시 (기본 멘트는 캐시하지 않음)
+                result = result.thenApply(response -> {
+                    commentCache.put(cacheKey, response);
+                    return response;
+                });
+            }
+        } catch (RuntimeException | JsonProcessingException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        return result
+                // 연결이 늦게 끊기는 경우까지 포함한 전체 제한 시간
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((response, e) -> {
+                    if (e == null) {
+                        gameMetrics.recordAiCall(System.nanoTime() - started, "success");
+                        return response;
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    boolean timedOut = cause instanceof TimeoutException || cause instanceof HttpTimeoutException;
+                    gameMetrics.recordAiCall(System.nanoTime() - started, timedOut ? "timeout" : "error");
+                    gameMetrics.countAiFallback(timedOut ? "timeout" : "error");
+                    log.error("Error calling OpenAI API: {}", e.toString());
+                    return fallback();
+                })
+                .whenComplete((response, e) -> bulkhead.release());
+    }
+
+    /**
+     * 국면 해시 + 차례 + 상황 플래그. 보드를 읽을 수 없으면 null (캐시 사용 안 함)
+     * 코멘트와 move 필드가 바둑판 좌표를 가리킬 수 있으므로 회전·대칭 국면끼리는 묶지 않고 국면 그대로의 해시를 쓴다.
+     */
+    private CommentCache.Key cacheKeyOf(AIRequest request) {
+        if (request.getBoardState() == null) {
+            return null;
+        }
+        long positionHash;
+        try {
+            positionHash = GoBoard.fromArray(BoardStates.parse(objectMapper, request.getBoardState())).getHash();
+        } catch (RuntimeException e) {
+            return null;
+        }
+        int flags = (Boolean.TRUE.equals(request.getIsGameStart()) ? 1 : 0)
+                | (Boolean.TRUE.equals(request.getIsGameEnd()) ? 2 : 0)
+                | (Boolean.TRUE.equals(request.getHasCapture()) ? 4 : 0)
+                | (Boolean.TRUE.equals(request.getIsImportantMove()) ? 8 : 0);
+        // 상황 플래그가 있으면 코멘트에 아이 이름이 들어가므로 이름까지 키에 포함
+        String userName = flags != 0 ? request.getUserName() : null;
+        return new CommentCache.Key(positionHash, request.getTurn(), flags, userName);
+    }
+
+    private String buildBody(AIRequest request) throws JsonProcessingException {
         String systemPrompt = "당신은 세계 최고의 바둑 프로이자 아이들을 가르치는 선생님입니다. " +
                 "현재 바둑판 상태를 분석하여 아이의 수에 대해 친절하게 코멘트해주세요. " +
                 "아이의 실력에 상관없이 절대로 봐주지 말고 승리하기 위한 전략을 세우세요. " +
@@ -95,18 +203,29 @@ public class AIService {
         body.put("messages", messages);
         body.put("response_format", Map.of("type", "json_object"));
 
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
+        return objectMapper.writeValueAsString(body);
+    }
 
+    private AIResponse parseResponse(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("OpenAI API returned status " + response.statusCode());
+        }
         try {
-            String responseStr = restTemplate.postForObject(apiUrl, entity, String.class);
-            JsonNode root = objectMapper.readTree(responseStr);
+            JsonNode root = objectMapper.readTree(response.body());
+            JsonNode usage = root.path("usage");
+            if (!usage.isMissingNode()) {
+                gameMetrics.countAiTokens(usage.path("prompt_tokens").asLong(), usage.path("completion_tokens").asLong());
+            }
             String content = root.path("choices").get(0).path("message").path("content").asText();
-
             return objectMapper.readValue(content, AIResponse.class);
-        } catch (Exception e) {
-            log.error("Error calling OpenAI API", e);
-            return new AIResponse("", "미안해요, 잠시 생각 중 오류가 발생했어요. 다시 한번만 두어 볼래요?");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid OpenAI response", e);
         }
     }
+
+    private static AIResponse fallback() {
+        String comment = FALLBACK_COMMENTS[ThreadLocalRandom.current().nextInt(FALLBACK_COMMENTS.length)];
+        return new AIResponse("", comment);
+    }
 }
 
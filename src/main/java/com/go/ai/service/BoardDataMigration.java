@@ -0,0 +1,75 @@
+package com.go.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.go.ai.entity.GoGameData;
+import com.go.ai.repository.GoGameDataRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * 이전 형식(board_state TEXT, JSON 배열)으로 저장된 보드를 board_data(BoardCodec 형식)로 옮긴다.
+ * 서버 시작 시 한 번, 배치 단위 트랜잭션으로 실행되며 옮긴 행의 board_state는 비운다.
+ * 옮기기 전에 읽히는 행은 BoardStates가 JSON에서 바로 변환하므로 순서에 의존하지 않는다.
+ */
+@Component
+public class BoardDataMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardDataMigration.class);
+
+    private final GoGameDataRepository goGameDataRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${go.board-migration.batch-size:500}")
+    private int batchSize;
+
+    public BoardDataMigration(GoGameDataRepository goGameDataRepository, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.goGameDataRepository = goGameDataRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        int total = 0;
+        while (true) {
+            Integer migrated = transactionTemplate.execute(status -> migrateBatch());
+            if (migrated == null || migrated == 0) {
+                break;
+            }
+            total += migrated;
+        }
+        if (total > 0) {
+            log.info("Migrated {} board states to compact format", total);
+        }
+    }
+
+    private int migrateBatch() {
+        List<GoGameData> rows = goGameDataRepository
+                .findByBoardDataIsNullAndBoardStateIsNotNull(PageRequest.of(0, batchSize));
+        for (GoGameData goData : rows) {
+            try {
+                goData.setBoardData(BoardStates.fromJson(objectMapper, goData.getBoardState()));
+            } catch (RuntimeException e) {
+                // 읽을 수 없는 보드는 어차피 불러올 수 없으므로 빈 보드로 바꿔 다시 조회되지 않게 함
+                log.warn("Invalid board state in go_game_data {}, resetting: {}", goData.getId(), e.getMessage());
+                goData.setBoardData(BoardStates.initial());
+            }
+            goData.setBoardState(null);
+        }
+        return rows.size();
+    }
+}
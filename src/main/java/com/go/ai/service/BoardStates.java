@@ -0,0 +1,67 @@
+package com.go.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.go.ai.engine.BoardCodec;
+import com.go.ai.engine.GoBoard;
+import com.go.ai.engine.GoGame;
+import com.go.ai.entity.GoGameData;
+
+/**
+ * GoGameData에 저장된 보드 상태(BoardCodec 형식, 이전 행은 JSON 배열)와 엔진 객체 사이의 변환
+ */
+final class BoardStates {
+
+    private static final byte[] INITIAL = BoardCodec.encode(new int[GoBoard.DEFAULT_SIZE][GoBoard.DEFAULT_SIZE]);
+
+    private BoardStates() {
+    }
+
+    // 바둑 초기 상태: 빈 보드 (19x19, 모두 0)
+    static byte[] initial() {
+        return INITIAL.clone();
+    }
+
+    static int[][] parse(ObjectMapper objectMapper, String boardState) {
+        try {
+            return objectMapper.readValue(boardState, int[][].class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid board state", e);
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 JSON 배열을 저장 형식으로 변환
+     */
+    static byte[] fromJson(ObjectMapper objectMapper, String boardState) {
+        return BoardCodec.encode(parse(objectMapper, boardState));
+    }
+
+    /**
+     * 저장된 보드. 아직 옮기지 않은 이전 행은 JSON 배열에서 변환한다.
+     */
+    static byte[] boardDataOf(ObjectMapper objectMapper, GoGameData goData) {
+        if (goData.getBoardData() != null) {
+            return goData.getBoardData();
+        }
+        if (goData.getBoardState() != null) {
+            return fromJson(objectMapper, goData.getBoardState());
+        }
+        return initial();
+    }
+
+    static GoGame toGame(ObjectMapper objectMapper, GoGameData goData) {
+        GoBoard board = BoardCodec.decode(boardDataOf(objectMapper, goData));
+        if (goData.getKoPoint() != null) {
+            int ko = goData.getKoPoint();
+            board.setKoPoint(board.point(ko / board.getSize(), ko % board.getSize()));
+        }
+        byte turn = "w".equals(goData.getTurn()) ? GoBoard.WHITE : GoBoard.BLACK;
+        return new GoGame(board, turn, goData.getCapturedBlack(), goData.getCapturedWhite(),
+                goData.getSnapshotMoveNo());
+    }
+
+    static String turnOf(GoGame game) {
+        return game.getTurn() == GoBoard.BLACK ? "b" : "w";
+    }
+}
@@ -0,0 +1,8 @@
+package com.go.ai.service;
+
+/**
+ * 대국 시계 타이머가 만료되었음을 알리는 이벤트. seq는 타이머를 건 시점의 수 번호이며,
+ * 그 사이 수가 두어졌다면 처리하는 쪽에서 무시한다.
+ */
+public record ClockTimeoutEvent(Long roomId, int seq) {
+}
@@ -0,0 +1,82 @@
+package com.go.ai.service;
+
+import com.go.ai.dto.AIResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 코멘트 캐시. 같은 국면 + 차례 + 상황 플래그면 같은 코멘트를 재사용해 OpenAI 호출을 줄인다.
+ * 최대 크기를 넘으면 가장 오래 쓰지 않은 항목부터, TTL이 지난 항목은 조회 시점에 제거한다.
+ */
+@Component
+public class CommentCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CommentCache(@Value("${go.ai.comment-cache.max-size:10000}") int maxSize,
+            @Value("${go.ai.comment-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+
+    /**
+     * 캐시 키. 이름이 들어가는 상황(플래그가 하나라도 있으면)에만 userName을 포함하고, 그 외에는 null로 두어 사용자 간에 공유한다.
+     */
+    public record Key(long positionHash, String turn, int flags, String userName) {
+    }
+
+    public synchronized AIResponse get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.response;
+    }
+
+    public synchronized void put(Key key, AIResponse response) {
+        entries.put(key, new Entry(response, System.currentTimeMillis() + ttlMillis));
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("size", entries.size());
+        }
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.get());
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    private record Entry(AIResponse response, long expiresAt) {
+    }
+}
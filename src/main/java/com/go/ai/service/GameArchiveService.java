@@ -0,0 +1,256 @@
+package com.go.ai.service;
+
+import com.go.ai.engine.GoBoard;
+import com.go.ai.engine.GoGame;
+import com.go.ai.engine.ScoringRule;
+import com.go.ai.engine.Sgf;
+import com.go.ai.entity.GameKeyframe;
+import com.go.ai.entity.GameMove;
+import com.go.ai.entity.GameRecord;
+import com.go.ai.repository.GameKeyframeRepository;
+import com.go.ai.repository.GameMoveRepository;
+import com.go.ai.repository.GameRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대국 기록(game_records + game_moves)과 SGF 기보 사이의 변환.
+ * 여러 판 내보내기는 기록과 수순을 한 쿼리로 순서대로 읽으며 바로 써 내보내므로 판 수와 관계없이 메모리를 일정하게 쓴다.
+ */
+@Service
+public class GameArchiveService {
+
+    // 내보내기 쿼리에서 한 번에 받아 오는 행 수 (MariaDB 드라이버는 fetch size가 있으면 결과를 나누어 받음)
+    private static final int FETCH_SIZE = 500;
+    private static final int MAX_IMPORT_LENGTH = 1 << 20;
+    private static final int NAME_LENGTH = 100;
+    private static final int RESULT_LENGTH = 20;
+
+    private static final String EXPORT_SQL = """
+            SELECT r.id, r.board_size, r.black_name, r.white_name, r.result, r.started_at, m.color, m.point
+            FROM game_records r
+            LEFT JOIN game_moves m ON m.game_id = r.id
+            WHERE r.finished_at IS NOT NULL""";
+
+    private final GameRecordRepository gameRecordRepository;
+    private final GameMoveRepository gameMoveRepository;
+    private final GameKeyframeRepository gameKeyframeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final double komi;
+    private final String ruleset;
+    private final int keyframeEveryMoves;
+
+    public GameArchiveService(GameRecordRepository gameRecordRepository, GameMoveRepository gameMoveRepository,
+            GameKeyframeRepository gameKeyframeRepository, JdbcTemplate jdbcTemplate,
+            @Value("${go.scoring.rule:TERRITORY}") ScoringRule rule,
+            @Value("${go.scoring.komi:6.5}") double komi,
+            @Value("${go.live-game.keyframe-every-moves:20}") int keyframeEveryMoves) {
+        this.gameRecordRepository = gameRecordRepository;
+        this.gameMoveRepository = gameMoveRepository;
+        this.gameKeyframeRepository = gameKeyframeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.komi = komi;
+        this.ruleset = rule == ScoringRule.AREA ? "Chinese" : "Japanese";
+        this.keyframeEveryMoves = keyframeEveryMoves;
+    }
+
+    /**
+     * 대국 기록 하나를 SGF로 (진행 중인 판은 지금까지 기록된 수까지)
+     */
+    @Transactional(readOnly = true)
+    public String toSgf(Long gameId) {
+        GameRecord record = gameRecordRepository.findById(gameId)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        StringBuilder sgf = new StringBuilder();
+        Sgf.Writer writer = new Sgf.Writer(sgf);
+        writer.begin(record.getBoardSize(), komi, ruleset, record.getBlackName(), record.getWhiteName(),
+                record.getResult(), dateOf(record.getStartedAt()));
+        for (GameMove move : gameMoveRepository.findByGameIdOrderByMoveNo(gameId)) {
+            writer.move(move.getColor(), move.getPoint());
+        }
+        writer.end();
+        return sgf.toString();
+    }
+
+    /**
+     * 끝난 판들을 SGF 모음 하나로 내보낸다. userId가 있으면 그 사용자가 둔 판만, from/to가 있으면 끝난 날짜가 [from, to]인 판만
+     */
+    public void exportSgf(Long userId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        if (userId == null && from == null && to == null) {
+            throw new IllegalArgumentException("userId, from or to is required");
+        }
+        // 지정한 조건만 붙여 인덱스(사용자/끝난 시각)를 탈 수 있게 함
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        List<Object> params = new ArrayList<>();
+        if (userId != null) {
+            sql.append(" AND (r.black_user_id = ? OR r.white_user_id = ?)");
+            params.add(userId);
+            params.add(userId);
+        }
+        if (from != null) {
+            sql.append(" AND r.finished_at >= ?");
+            params.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            sql.append(" AND r.finished_at < ?");
+            params.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        sql.append(" ORDER BY r.id, m.move_no");
+
+        Writer text = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ExportHandler handler = new ExportHandler(new Sgf.Writer(text));
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, handler);
+        handler.finish();
+        text.flush();
+    }
+
+    /**
+     * SGF 기보를 대국 기록으로 저장한다. 서버 규칙 엔진으로 수순을 다시 두어 합법 여부와 따낸 돌 수를 확인한다.
+     * 19줄, 흑백이 번갈아 두는 기보만 받는다. 재생용 키프레임도 대국 중과 같은 간격으로 함께 저장한다.
+     */
+    @Transactional
+    public GameRecord importSgf(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("SGF is empty");
+        }
+        if (text.length() > MAX_IMPORT_LENGTH) {
+            throw new IllegalArgumentException("SGF is too large");
+        }
+        Sgf.Game game = Sgf.parse(text);
+        if (game.size() != GoBoard.DEFAULT_SIZE) {
+            throw new IllegalArgumentException("Only " + GoBoard.DEFAULT_SIZE + "x" + GoBoard.DEFAULT_SIZE
+                    + " games are supported");
+        }
+
+        GoGame replay = new GoGame();
+        int[] captures = new int[game.moves().size()];
+        List<GameKeyframe> keyframes = new ArrayList<>();
+        for (int i = 0; i < captures.length; i++) {
+            Sgf.Move move = game.moves().get(i);
+            if (move.color() != replay.getTurn()) {
+                throw new IllegalArgumentException("Move " + (i + 1) + " is out of turn");
+            }
+            if (move.point() == Sgf.PASS) {
+                replay.pass();
+            } else {
+                try {
+                    captures[i] = replay.play(move.point() / game.size(), move.point() % game.size());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Move " + (i + 1) + ": " + e.getMessage());
+                }
+            }
+            if (keyframeEveryMoves > 0 && replay.getMoveCount() % keyframeEveryMoves == 0) {
+                // 기록 id는 저장한 뒤에 정해짐
+                keyframes.add(GameKeyframe.of(null, replay));
+            }
+        }
+
+        GameRecord record = new GameRecord();
+        record.setBlackName(truncate(game.blackName(), NAME_LENGTH));
+        record.setWhiteName(truncate(game.whiteName(), NAME_LENGTH));
+        record.setBoardSize(game.size());
+        record.setMoveCount(captures.length);
+        record.setWinner(game.winner());
+        record.setResult(truncate(game.result(), RESULT_LENGTH));
+        record.setFinishedAt(finishedAtOf(game.date()));
+        gameRecordRepository.save(record);
+
+        List<GameMove> moves = new ArrayList<>(captures.length);
+        for (int i = 0; i < captures.length; i++) {
+            Sgf.Move move = game.moves().get(i);
+            moves.add(new GameMove(record.getId(), i + 1, move.color(), (short) move.point(), (short) captures[i]));
+        }
+        gameMoveRepository.saveAll(moves);
+        for (GameKeyframe keyframe : keyframes) {
+            keyframe.setGameId(record.getId());
+        }
+        gameKeyframeRepository.saveAll(keyframes);
+        return record;
+    }
+
+    private static String dateOf(LocalDateTime time) {
+        return time != null ? time.toLocalDate().toString() : null;
+    }
+
+    // DT의 첫 날짜(YYYY-MM-DD)를 끝난 날짜로 사용, 읽을 수 없으면 가져온 시각
+    private static LocalDateTime finishedAtOf(String date) {
+        if (date != null && date.length() >= 10) {
+            try {
+                return LocalDate.parse(date.substring(0, 10)).atStartOfDay();
+            } catch (DateTimeParseException e) {
+                // 형식이 다르면 무시
+            }
+        }
+        return LocalDateTime.now();
+    }
+
+    private static String truncate(String value, int length) {
+        return value != null && value.length() > length ? value.substring(0, length) : value;
+    }
+
+    /**
+     * (기록, 수) 행을 기록 id 순서로 받아 기록이 바뀔 때마다 새 게임 트리를 시작한다.
+     */
+    private final class ExportHandler implements RowCallbackHandler {
+
+        private final Sgf.Writer writer;
+        private long currentId = -1;
+
+        ExportHandler(Sgf.Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (id != currentId) {
+                if (currentId != -1) {
+                    writer.end();
+                }
+                currentId = id;
+                Timestamp startedAt = rs.getTimestamp("started_at");
+                writer.begin(rs.getInt("board_size"), komi, ruleset, rs.getString("black_name"),
+                        rs.getString("white_name"), rs.getString("result"),
+                        dateOf(startedAt != null ? startedAt.toLocalDateTime() : null));
+            }
+            byte color = rs.getByte("color");
+            // 수가 없는 판은 LEFT JOIN으로 수 컬럼이 NULL인 행 하나
+            if (!rs.wasNull()) {
+                writer.move(color, rs.getShort("point"));
+            }
+        }
+
+        void finish() {
+            if (currentId != -1) {
+                writer.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.go.ai.service;
+
+import com.go.ai.dto.ClockDto;
+import com.go.ai.entity.TimeControl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 판의 대국 시계 (흑 = 0, 백 = 1). 시간 계산은 System.nanoTime() 기준이고,
+ * 접근은 LiveGame과 같은 잠금 안에서 이루어진다. 만료 감지는 GameClocks의 타이머가 맡는다.
+ */
+public class GameClock {
+
+    private static final int BLACK = 0;
+    private static final int WHITE = 1;
+
+    private final long periodMillis;
+    private final long incrementMillis;
+    private final long[] mainMillis = new long[2];
+    private final int[] periods = new int[2];
+    private int running = BLACK;
+    private long turnStartedNanos;
+    private HashedWheelTimer.Timeout timeout; // 현재 차례의 만료 타이머
+
+    public GameClock(TimeControl timeControl, long nowNanos) {
+        this.periodMillis = TimeUnit.SECONDS.toMillis(timeControl.getByoYomiSeconds());
+        this.incrementMillis = TimeUnit.SECONDS.toMillis(timeControl.getIncrementSeconds());
+        for (int side = BLACK; side <= WHITE; side++) {
+            mainMillis[side] = TimeUnit.SECONDS.toMillis(timeControl.getMainTimeSeconds());
+            periods[side] = timeControl.getByoYomiPeriods();
+        }
+        this.turnStartedNanos = nowNanos;
+    }
+
+    /**
+     * 현재 차례가 쓸 수 있는 남은 시간 전체 (기본 시간 + 남은 초읽기)
+     */
+    public long remainingMillis(long nowNanos) {
+        return mainMillis[running] + periods[running] * periodMillis - elapsedMillis(nowNanos);
+    }
+
+    public boolean isExpired(long nowNanos) {
+        return remainingMillis(nowNanos) <= 0;
+    }
+
+    /**
+     * 현재 차례가 수를 두었을 때 쓴 시간을 빼고 상대에게 시계를 넘긴다.
+     * 초읽기 안에 둔 경우 그 초읽기는 다시 채워지고, 지나간 초읽기만 줄어든다. 시간을 넘겼으면 false
+     */
+    public boolean switchTurn(long nowNanos) {
+        long elapsed = elapsedMillis(nowNanos);
+        int side = running;
+        if (elapsed <= mainMillis[side]) {
+            mainMillis[side] -= elapsed;
+        } else {
+            long over = elapsed - mainMillis[side];
+            mainMillis[side] = 0;
+            long used = periodMillis == 0 ? Long.MAX_VALUE : over / periodMillis;
+            if (used >= periods[side]) {
+                periods[side] = 0;
+                return false;
+            }
+            periods[side] -= (int) used;
+        }
+        mainMillis[side] += incrementMillis;
+        running = 1 - side;
+        turnStartedNanos = nowNanos;
+        return true;
+    }
+
+    public ClockDto toDto(long nowNanos) {
+        ClockDto dto = new ClockDto();
+        dto.setPeriodMillis(periodMillis);
+        dto.setRunning(running == BLACK ? "b" : "w");
+        for (int side = BLACK; side <= WHITE; side++) {
+            long elapsed = side == running ? elapsedMillis(nowNanos) : 0;
+            long millis;
+            int left;
+            boolean byoYomi;
+            if (elapsed < mainMillis[side]) {
+                millis = mainMillis[side] - elapsed;
+                left = periods[side];
+                byoYomi = false;
+            } else {
+                long over = elapsed - mainMillis[side];
+                long used = periodMillis == 0 ? periods[side] : Math.min(periods[side], over / periodMillis);
+                left = periods[side] - (int) used;
+                millis = left > 0 ? periodMillis - over % periodMillis : 0;
+                byoYomi = true;
+            }
+            if (side == BLACK) {
+                dto.setBlackMillis(millis);
+                dto.setBlackPeriods(left);
+                dto.setBlackByoYomi(byoYomi);
+            } else {
+                dto.setWhiteMillis(millis);
+                dto.setWhitePeriods(left);
+                dto.setWhiteByoYomi(byoYomi);
+            }
+        }
+        return dto;
+    }
+
+    HashedWheelTimer.Timeout getTimeout() {
+        return timeout;
+    }
+
+    void setTimeout(HashedWheelTimer.Timeout timeout) {
+        this.timeout = timeout;
+    }
+
+    private long elapsedMillis(long nowNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nowNanos - turnStartedNanos);
+    }
+}
@@ -0,0 +1,96 @@
+package com.go.ai.service;
+
+import com.go.ai.entity.TimeControl;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 방의 대국 시계를 하나의 해시 휠 타이머로 관리한다.
+ * 방마다 예약 작업을 두지 않고, 차례가 바뀔 때 현재 차례의 만료 시각 하나만 휠에 걸어 두므로
+ * 동시에 진행되는 판이 수만 개여도 타이머 스레드는 하나다. 만료되면 ClockTimeoutEvent를 발행하고,
+ * 실제 시간패 처리는 방의 메일박스에서 이루어진다.
+ */
+@Component
+public class GameClocks {
+
+    private final HashedWheelTimer timer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimeControl defaultTimeControl;
+
+    public GameClocks(ApplicationEventPublisher eventPublisher,
+            @Value("${go.clock.tick-ms:100}") long tickMillis,
+            @Value("${go.clock.wheel-size:512}") int wheelSize,
+            @Value("${go.clock.default.main-time-seconds:600}") int mainTimeSeconds,
+            @Value("${go.clock.default.byo-yomi-periods:3}") int byoYomiPeriods,
+            @Value("${go.clock.default.byo-yomi-seconds:30}") int byoYomiSeconds,
+            @Value("${go.clock.default.increment-seconds:0}") int incrementSeconds) {
+        this.eventPublisher = eventPublisher;
+        this.timer = new HashedWheelTimer("game-clock", tickMillis, wheelSize);
+        this.defaultTimeControl = new TimeControl(mainTimeSeconds, byoYomiPeriods, byoYomiSeconds, incrementSeconds);
+    }
+
+    /**
+     * 방을 만들 때 따로 지정하지 않으면 사용하는 제한 시간
+     */
+    public TimeControl getDefaultTimeControl() {
+        return defaultTimeControl;
+    }
+
+    /**
+     * 새 시계를 만든다. 시간 제한이 없으면 null
+     */
+    public GameClock create(TimeControl timeControl) {
+        if (timeControl == null || timeControl.isUnlimited()) {
+            return null;
+        }
+        return new GameClock(timeControl, System.nanoTime());
+    }
+
+    /**
+     * 현재 차례의 만료 시각에 타이머를 건다 (이전 타이머는 취소). LiveGame을 잠근 상태에서 호출
+     */
+    public void arm(LiveGame live) {
+        GameClock clock = live.getClock();
+        if (clock == null) {
+            return;
+        }
+        cancel(clock);
+        Long roomId = live.getRoomId();
+        int seq = live.getSeq();
+        // tick 정밀도 때문에 조금 일찍 울리지 않도록 1ms 여유를 둠 (일찍 울리면 받는 쪽에서 다시 건다)
+        long delay = Math.max(0, clock.remainingMillis(System.nanoTime())) + 1;
+        clock.setTimeout(timer.schedule(() -> eventPublisher.publishEvent(new ClockTimeoutEvent(roomId, seq)),
+                delay, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * 판이 끝나거나 메모리에서 내려갈 때 타이머를 취소
+     */
+    public void disarm(LiveGame live) {
+        GameClock clock = live.getClock();
+        if (clock != null) {
+            cancel(clock);
+        }
+    }
+
+    public int getPendingCount() {
+        return timer.pendingCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.stop();
+    }
+
+    private static void cancel(GameClock clock) {
+        HashedWheelTimer.Timeout timeout = clock.getTimeout();
+        if (timeout != null) {
+            timeout.cancel();
+            clock.setTimeout(null);
+        }
+    }
+}
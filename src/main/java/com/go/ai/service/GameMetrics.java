@@ -0,0 +1,121 @@
+package com.go.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 서버 지표 (Micrometer). /actuator/prometheus로 노출된다.
+ *
+ * go.ws.command: WebSocket 명령(move, state, nudge)의 메일박스 실행 시간, go.ws.command.wait: 메일박스에서 기다린 시간
+ * go.broadcast.frame.bytes: 방 토픽으로 나간 프레임 크기 (type: delta, state, snapshot, notice)
+ * go.ai.upstream: OpenAI 호출 시간 (outcome: success, error, timeout), go.ai.tokens: 사용한 토큰 수
+ * go.ai.fallback: 기본 멘트로 응답한 수 (reason: bulkhead, timeout, error), go.ai.cache: 코멘트 캐시 조회 (result: hit, miss)
+ * 게이지(진행 중인 방, 세션 수, 메일박스 대기 명령)는 MetricsConfig에서 등록한다.
+ */
+@Component
+public class GameMetrics {
+
+    private final MeterRegistry registry;
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final DistributionSummary deltaFrames;
+    private final DistributionSummary stateFrames;
+    private final DistributionSummary snapshotFrames;
+    private final DistributionSummary noticeFrames;
+    private final Counter promptTokens;
+    private final Counter completionTokens;
+
+    public GameMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.deltaFrames = frameSummary("delta");
+        this.stateFrames = frameSummary("state");
+        this.snapshotFrames = frameSummary("snapshot");
+        this.noticeFrames = frameSummary("notice");
+        this.promptTokens = Counter.builder("go.ai.tokens").tag("type", "prompt").register(registry);
+        this.completionTokens = Counter.builder("go.ai.tokens").tag("type", "completion").register(registry);
+    }
+
+    /**
+     * 메일박스에서 실행한 명령. receivedNanos는 메시지를 받은 시각, startedNanos는 실행을 시작한 시각
+     */
+    public void recordCommand(String command, long receivedNanos, long startedNanos, boolean success) {
+        long now = System.nanoTime();
+        Timer.builder("go.ws.command.wait")
+                .tag("command", command)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(registry)
+                .record(startedNanos - receivedNanos, TimeUnit.NANOSECONDS);
+        Timer.builder("go.ws.command")
+                .tag("command", command)
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(registry)
+                .record(now - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFrame(String type, int bytes) {
+        DistributionSummary summary = switch (type) {
+            case "delta" -> deltaFrames;
+            case "state" -> stateFrames;
+            case "snapshot" -> snapshotFrames;
+            default -> noticeFrames;
+        };
+        summary.record(bytes);
+    }
+
+    public void recordAiCall(long nanos, String outcome) {
+        Timer.builder("go.ai.upstream")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(50))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void countAiFallback(String reason) {
+        registry.counter("go.ai.fallback", "reason", reason).increment();
+    }
+
+    public void countAiCache(boolean hit) {
+        registry.counter("go.ai.cache", "result", hit ? "hit" : "miss").increment();
+    }
+
+    public void countAiTokens(long prompt, long completion) {
+        promptTokens.increment(prompt);
+        completionTokens.increment(completion);
+    }
+
+    public void sessionOpened(String sessionId) {
+        sessions.add(sessionId);
+    }
+
+    public void sessionClosed(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private DistributionSummary frameSummary(String type) {
+        return DistributionSummary.builder("go.broadcast.frame.bytes")
+                .baseUnit("bytes")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(16.0)
+                .maximumExpectedValue(65536.0)
+                .register(registry);
+    }
+}
@@ -0,0 +1,143 @@
+package com.go.ai.service;
+
+import com.go.ai.dto.ReplayDto;
+import com.go.ai.engine.BoardCodec;
+import com.go.ai.engine.GoGame;
+import com.go.ai.entity.GameKeyframe;
+import com.go.ai.entity.GameMove;
+import com.go.ai.entity.GameRecord;
+import com.go.ai.repository.GameKeyframeRepository;
+import com.go.ai.repository.GameMoveRepository;
+import com.go.ai.repository.GameRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대국 기록의 임의 수 국면 조회(기보 재생).
+ * 원하는 수 이하의 가장 가까운 키프레임에서 시작해 그 뒤의 수만 다시 두므로, 몇 번째 수든 키프레임 간격 이하만 재생한다.
+ * 키프레임 도입 이전에 끝난 판은 처음 조회할 때 전체 수순을 한 번 재생해 키프레임을 채운다.
+ * 채우기는 기록 행을 잠근 별도 트랜잭션에서 하므로 같은 판을 동시에 조회해도 키프레임이 중복 삽입되지 않는다.
+ */
+@Service
+public class GameReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(GameReplayService.class);
+
+    private final GameRecordRepository gameRecordRepository;
+    private final GameMoveRepository gameMoveRepository;
+    private final GameKeyframeRepository gameKeyframeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int keyframeEveryMoves;
+
+    public GameReplayService(GameRecordRepository gameRecordRepository, GameMoveRepository gameMoveRepository,
+            GameKeyframeRepository gameKeyframeRepository, PlatformTransactionManager transactionManager,
+            @Value("${go.live-game.keyframe-every-moves:20}") int keyframeEveryMoves) {
+        this.gameRecordRepository = gameRecordRepository;
+        this.gameMoveRepository = gameMoveRepository;
+        this.gameKeyframeRepository = gameKeyframeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.keyframeEveryMoves = keyframeEveryMoves;
+    }
+
+    /**
+     * moveNo번째 수까지 둔 국면 (0이면 빈 판). 진행 중인 판은 지금까지 기록된 수까지 조회할 수 있다.
+     * 조회 전체를 한 트랜잭션으로 묶지 않음 - 묶으면 채우기가 커밋한 키프레임이 앞서 잡힌 스냅샷에 보이지 않는다.
+     */
+    public ReplayDto replay(Long gameId, int moveNo) {
+        GameRecord record = gameRecordRepository.findById(gameId)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        if (moveNo < 0) {
+            throw new IllegalArgumentException("move must not be negative");
+        }
+        boolean finished = record.getFinishedAt() != null;
+        int totalMoves = finished ? record.getMoveCount() : (int) gameMoveRepository.countByGameId(gameId);
+        if (moveNo > totalMoves) {
+            throw new IllegalArgumentException("Game has only " + totalMoves + " moves");
+        }
+
+        GameKeyframe keyframe = nearestKeyframe(gameId, moveNo);
+        int start = keyframe != null ? keyframe.getMoveNo() : 0;
+        // 끝난 판에서 간격보다 멀리 떨어져 있으면 빠진 키프레임을 채움 (이후 조회는 간격 이하만 재생)
+        if (finished && keyframeEveryMoves > 0 && moveNo - start >= keyframeEveryMoves) {
+            transactionTemplate.executeWithoutResult(status -> backfill(gameId));
+            keyframe = nearestKeyframe(gameId, moveNo);
+        }
+
+        GoGame game = keyframe != null ? keyframe.toGame() : new GoGame();
+        // 키프레임의 수도 함께 읽어 마지막 수 표시에 사용 (재생은 그 다음 수부터)
+        List<GameMove> moves = gameMoveRepository.findByGameIdAndMoveNoBetweenOrderByMoveNo(
+                gameId, game.getMoveCount(), moveNo);
+        int size = game.getBoard().getSize();
+        GameMove last = null;
+        for (GameMove move : moves) {
+            if (move.getMoveNo() > game.getMoveCount()) {
+                apply(game, move);
+            }
+            last = move;
+        }
+        if (game.getMoveCount() != moveNo) {
+            throw new IllegalStateException("Move log of game " + gameId + " is incomplete at move " + moveNo);
+        }
+
+        ReplayDto replay = new ReplayDto();
+        replay.setGameId(gameId);
+        replay.setMoveNo(moveNo);
+        replay.setTotalMoves(totalMoves);
+        replay.setBoard(BoardCodec.toBase64(BoardCodec.encode(game.getBoard())));
+        replay.setTurn(BoardStates.turnOf(game));
+        replay.setCapturedBlack(game.getCapturedBlack());
+        replay.setCapturedWhite(game.getCapturedWhite());
+        if (moveNo > 0 && last != null && last.getMoveNo() == moveNo && !last.isPass()) {
+            replay.setLastMove(new int[] { last.getPoint() / size, last.getPoint() % size });
+        }
+        replay.setBlackName(record.getBlackName());
+        replay.setWhiteName(record.getWhiteName());
+        replay.setWinner(record.getWinner());
+        replay.setResult(record.getResult());
+        return replay;
+    }
+
+    private GameKeyframe nearestKeyframe(Long gameId, int moveNo) {
+        if (keyframeEveryMoves <= 0 || moveNo < keyframeEveryMoves) {
+            return null;
+        }
+        return gameKeyframeRepository.findTopByGameIdAndMoveNoLessThanEqualOrderByMoveNoDesc(gameId, moveNo)
+                .orElse(null);
+    }
+
+    // 전체 수순을 한 번 재생하며 간격마다 없는 키프레임만 추가.
+    // 기록 행 잠금을 먼저 잡은 뒤 기존 키프레임을 읽으므로, 먼저 채운 쪽이 커밋한 행은 건너뛴다.
+    private void backfill(Long gameId) {
+        gameRecordRepository.findForUpdate(gameId)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        Set<Integer> existing = new HashSet<>(gameKeyframeRepository.findMoveNosByGameId(gameId));
+        List<GameKeyframe> keyframes = new ArrayList<>();
+        GoGame game = new GoGame();
+        for (GameMove move : gameMoveRepository.findByGameIdOrderByMoveNo(gameId)) {
+            apply(game, move);
+            if (game.getMoveCount() % keyframeEveryMoves == 0 && !existing.contains(game.getMoveCount())) {
+                keyframes.add(GameKeyframe.of(gameId, game));
+            }
+        }
+        gameKeyframeRepository.saveAll(keyframes);
+        log.info("Backfilled {} keyframes for game {}", keyframes.size(), gameId);
+    }
+
+    private static void apply(GoGame game, GameMove move) {
+        if (move.isPass()) {
+            game.pass();
+        } else {
+            int size = game.getBoard().getSize();
+            game.play(move.getPoint() / size, move.getPoint() % size);
+        }
+    }
+}
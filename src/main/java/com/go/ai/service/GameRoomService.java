@@ -1,23 +1,34 @@
 package com.go.ai.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.go.ai.dto.GameStateDto;
+import com.go.ai.dto.LiveRoomDto;
+import com.go.ai.dto.MoveDeltaDto;
 import com.go.ai.dto.RoomDto;
 import com.go.ai.entity.GameHistory;
 import com.go.ai.entity.GameRoom;
 import com.go.ai.entity.GoGameData;
+import com.go.ai.entity.TimeControl;
 import com.go.ai.entity.User;
+import com.go.ai.engine.BoardCodec;
+import com.go.ai.engine.GoBoard;
+import com.go.ai.engine.GoGame;
+import com.go.ai.engine.MoveLegality;
+import com.go.ai.engine.Score;
+import com.go.ai.engine.Sgf;
 import com.go.ai.repository.GameHistoryRepository;
+import com.go.ai.repository.GameRecordRepository;
 import com.go.ai.repository.GameRoomRepository;
 import com.go.ai.repository.GoGameDataRepository;
 import com.go.ai.repository.UserRepository;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,43 +43,47 @@ public class GameRoomService {
     private final GoGameDataRepository goGameDataRepository;
     private final UserRepository userRepository;
     private final GameHistoryRepository gameHistoryRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomBroadcaster roomBroadcaster;
+    private final GameRecordRepository gameRecordRepository;
+    private final LiveGameRegistry liveGameRegistry;
+    private final ObjectMapper objectMapper;
+    private final UserRoomIndex userRoomIndex;
+    private final GameClocks gameClocks;
+    private final GameScoring gameScoring;
+    private final UserStatsService userStatsService;
+    private final RatingService ratingService;
 
     public GameRoomService(GameRoomRepository gameRoomRepository, GoGameDataRepository goGameDataRepository,
             UserRepository userRepository, GameHistoryRepository gameHistoryRepository,
-            SimpMessagingTemplate messagingTemplate) {
+            GameRecordRepository gameRecordRepository, RoomBroadcaster roomBroadcaster,
+            LiveGameRegistry liveGameRegistry, ObjectMapper objectMapper, UserRoomIndex userRoomIndex,
+            GameClocks gameClocks, GameScoring gameScoring,
+            UserStatsService userStatsService, RatingService ratingService) {
         this.gameRoomRepository = gameRoomRepository;
         this.goGameDataRepository = goGameDataRepository;
         this.userRepository = userRepository;
         this.gameHistoryRepository = gameHistoryRepository;
-        this.messagingTemplate = messagingTemplate;
+        this.gameRecordRepository = gameRecordRepository;
+        this.roomBroadcaster = roomBroadcaster;
+        this.liveGameRegistry = liveGameRegistry;
+        this.objectMapper = objectMapper;
+        this.userRoomIndex = userRoomIndex;
+        this.gameClocks = gameClocks;
+        this.gameScoring = gameScoring;
+        this.userStatsService = userStatsService;
+        this.ratingService = ratingService;
     }
 
-    // 바둑 초기 상태: 빈 보드 (19x19, 모두 0)
-    private static String getInitialBoardState() {
-        int[][] board = new int[19][19];
-        return boardToJson(board);
-    }
-
-    private static String boardToJson(int[][] board) {
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < board.length; i++) {
-            if (i > 0)
-                sb.append(",");
-            sb.append("[");
-            for (int j = 0; j < board[i].length; j++) {
-                if (j > 0)
-                    sb.append(",");
-                sb.append(board[i][j]);
-            }
-            sb.append("]");
-        }
-        sb.append("]");
-        return sb.toString();
+    @Transactional
+    public GameRoom createRoom(Long hostId) {
+        return createRoom(hostId, null);
     }
 
+    /**
+     * 방을 만든다. timeControl이 null이면 기본 제한 시간(go.clock.default)을 사용
+     */
     @Transactional
-    public GameRoom createRoom(Long hostId) {
+    public GameRoom createRoom(Long hostId, TimeControl timeControl) {
         User host = userRepository.findById(hostId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
@@ -76,70 +91,87 @@ public class GameRoomService {
         room.setHost(host);
         room.setStatus(GameRoom.RoomStatus.WAITING);
         room.setGameType(GameRoom.GameType.GO);
+        room.setTimeControl(timeControl != null ? timeControl : gameClocks.getDefaultTimeControl());
 
         GameRoom savedRoom = gameRoomRepository.save(room);
 
         // GoGameData 생성
-        GoGameData goData = new GoGameData(savedRoom, getInitialBoardState(), "b");
+        GoGameData goData = new GoGameData(savedRoom, BoardStates.initial(), "b");
         goGameDataRepository.save(goData);
+        userRoomIndex.add(hostId, savedRoom.getId());
 
         return savedRoom;
     }
 
+    /**
+     * 유저가 방장 또는 게스트로 들어가 있는 방 ID 목록
+     */
+    public List<Long> findRoomIdsByUser(Long userId) {
+        return userRoomIndex.roomsOf(userId);
+    }
+
+    /**
+     * 접속이 끊긴 유저를 방에서 처리 (방의 메일박스에서 호출)
+     */
     @Transactional
-    public void handleUserDisconnect(Long userId) {
-        // 모든 상태의 방을 확인하여 유저가 참여 중인 방 처리
-        List<GameRoom> allRooms = gameRoomRepository.findAll();
-        for (GameRoom room : allRooms) {
-            boolean isHost = room.getHost().getId().equals(userId);
-            boolean isGuest = room.getGuest() != null && room.getGuest().getId().equals(userId);
-
-            if (!isHost && !isGuest)
-                continue;
-
-            if (room.getStatus() == GameRoom.RoomStatus.PLAYING) {
-                processDisconnectWin(room, isHost);
-            } else if (room.getStatus() == GameRoom.RoomStatus.WAITING) {
-                if (isHost) {
-                    // WAITING 상태의 방에서 방장이 나가면 방을 완전히 삭제
+    public void handleUserDisconnect(Long roomId, Long userId) {
+        GameRoom room = gameRoomRepository.findById(roomId).orElse(null);
+        if (room == null) {
+            userRoomIndex.remove(userId, roomId);
+            return;
+        }
+
+        boolean isHost = room.getHost().getId().equals(userId);
+        boolean isGuest = room.getGuest() != null && room.getGuest().getId().equals(userId);
+
+        if (!isHost && !isGuest) {
+            // 색인에 남아 있던 오래된 항목
+            userRoomIndex.remove(userId, roomId);
+            return;
+        }
+
+        if (room.getStatus() == GameRoom.RoomStatus.PLAYING) {
+            processDisconnectWin(room, isHost);
+        } else if (room.getStatus() == GameRoom.RoomStatus.WAITING) {
+            if (isHost) {
+                // WAITING 상태의 방에서 방장이 나가면 방을 완전히 삭제
+                deleteRoom(room);
+                log.info("Waiting room {} deleted because host {} disconnected", room.getId(), userId);
+            } else if (isGuest) {
+                // WAITING 상태의 방에서 게스트가 나가면 게스트만 제거
+                removeGuest(room);
+                gameRoomRepository.save(room);
+                log.info("Guest {} left waiting room {}", userId, room.getId());
+            }
+        } else if (room.getStatus() == GameRoom.RoomStatus.FINISHED) {
+            if (isGuest) {
+                removeGuest(room);
+                gameRoomRepository.save(room);
+                log.info("Guest {} left finished room {}", userId, room.getId());
+                
+                // 게스트가 나간 후 방장도 없으면 방 삭제
+                if (room.getHost() == null || room.getHost().getId().equals(userId)) {
                     deleteRoom(room);
-                    log.info("Waiting room {} deleted because host {} disconnected", room.getId(), userId);
-                } else if (isGuest) {
-                    // WAITING 상태의 방에서 게스트가 나가면 게스트만 제거
-                    room.setGuest(null);
-                    gameRoomRepository.save(room);
-                    log.info("Guest {} left waiting room {}", userId, room.getId());
+                    log.info("Finished room {} deleted because all users left", room.getId());
                 }
-            } else if (room.getStatus() == GameRoom.RoomStatus.FINISHED) {
-                if (isGuest) {
-                    room.setGuest(null);
+            } else if (isHost) {
+                // 방장이 종료된 방에서 나가는 경우
+                log.info("Host {} left finished room {}", userId, room.getId());
+                
+                // 게스트가 남아있으면 알림 전송 후 게스트를 null로 설정
+                if (room.getGuest() != null) {
+                    Map<String, Object> notification = new HashMap<>();
+                    notification.put("status", "FINISHED");
+                    notification.put("message", "방장이 나갔습니다. 방이 닫힙니다.");
+                    roomBroadcaster.send(room.getId(), notification);
+                    removeGuest(room);
                     gameRoomRepository.save(room);
-                    log.info("Guest {} left finished room {}", userId, room.getId());
-                    
-                    // 게스트가 나간 후 방장도 없으면 방 삭제
-                    if (room.getHost() == null || room.getHost().getId().equals(userId)) {
-                        deleteRoom(room);
-                        log.info("Finished room {} deleted because all users left", room.getId());
-                    }
-                } else if (isHost) {
-                    // 방장이 종료된 방에서 나가는 경우
-                    log.info("Host {} left finished room {}", userId, room.getId());
-                    
-                    // 게스트가 남아있으면 알림 전송 후 게스트를 null로 설정
-                    if (room.getGuest() != null) {
-                        Map<String, Object> notification = new HashMap<>();
-                        notification.put("status", "FINISHED");
-                        notification.put("message", "방장이 나갔습니다. 방이 닫힙니다.");
-                        messagingTemplate.convertAndSend("/topic/game/" + room.getId(), notification);
-                        room.setGuest(null);
-                        gameRoomRepository.save(room);
-                    }
-                    
-                    // 방장이 나가고 게스트도 없으면 방 삭제
-                    if (room.getGuest() == null) {
-                        deleteRoom(room);
-                        log.info("Finished room {} deleted because host left and no guest", room.getId());
-                    }
+                }
+                
+                // 방장이 나가고 게스트도 없으면 방 삭제
+                if (room.getGuest() == null) {
+                    deleteRoom(room);
+                    log.info("Finished room {} deleted because host left and no guest", room.getId());
                 }
             }
         }
@@ -151,6 +183,12 @@ public class GameRoomService {
     @Transactional
     private void deleteRoom(GameRoom room) {
         try {
+            liveGameRegistry.discard(room.getId());
+            userRoomIndex.remove(room.getHost().getId(), room.getId());
+            if (room.getGuest() != null) {
+                userRoomIndex.remove(room.getGuest().getId(), room.getId());
+            }
+
             // GoGameData 삭제
             goGameDataRepository.findByRoom(room).ifPresent(goGameDataRepository::delete);
             
@@ -163,37 +201,109 @@ public class GameRoomService {
         }
     }
 
+    /**
+     * 게스트를 방에서 빼고 유저-방 색인에서도 지움
+     */
+    private void removeGuest(GameRoom room) {
+        if (room.getGuest() != null) {
+            userRoomIndex.remove(room.getGuest().getId(), room.getId());
+        }
+        room.setGuest(null);
+    }
+
     private void processDisconnectWin(GameRoom room, boolean isHost) {
-        String winner = isHost ? "w" : "b";
         User winnerUser = isHost ? room.getGuest() : room.getHost();
         User loserUser = isHost ? room.getHost() : room.getGuest();
+        String winnerName = winnerUser != null ? winnerUser.getName() : "상대방";
+        String loserName = loserUser != null ? loserUser.getName() : "상대방";
+
+        String winner = forfeit(room, isHost, "R");
+
+        // 게스트가 나간 경우 게스트 정보 초기화
+        if (!isHost) {
+            removeGuest(room);
+        }
+
+        gameRoomRepository.save(room);
+
+        // 남은 플레이어에게 알림 전송
+        notifyForfeit(room, winner, loserName + "님이 나갔습니다. " + winnerName + "님이 승리했습니다!");
+        log.info("User in room {} disconnected. Automatic win for {}", room.getId(), winner);
+    }
+
+    /**
+     * 대국 시계가 만료되었을 때 시간패 처리 (방의 메일박스에서 호출).
+     * 타이머를 건 뒤 수가 두어졌거나(seq 불일치) 아직 시간이 남았으면 무시하거나 타이머를 다시 건다.
+     */
+    @Transactional
+    public void handleTimeout(Long roomId, int seq) {
+        LiveGame live = liveGameRegistry.get(roomId);
+        if (live == null) {
+            return;
+        }
+        boolean hostLost;
+        synchronized (live) {
+            GameClock clock = live.getClock();
+            if (clock == null || live.getSeq() != seq) {
+                return;
+            }
+            if (!clock.isExpired(System.nanoTime())) {
+                gameClocks.arm(live);
+                return;
+            }
+            // 흑 = 방장, 백 = 게스트
+            hostLost = live.getGame().getTurn() == GoBoard.BLACK;
+        }
 
+        GameRoom room = gameRoomRepository.findById(roomId).orElse(null);
+        if (room == null || room.getStatus() != GameRoom.RoomStatus.PLAYING) {
+            return;
+        }
+        User winnerUser = hostLost ? room.getGuest() : room.getHost();
+        User loserUser = hostLost ? room.getHost() : room.getGuest();
+        String winnerName = winnerUser != null ? winnerUser.getName() : "상대방";
+        String loserName = loserUser != null ? loserUser.getName() : "상대방";
+
+        String winner = forfeit(room, hostLost, "T");
+        gameRoomRepository.save(room);
+
+        notifyForfeit(room, winner, loserName + "님의 시간이 다 되었습니다. " + winnerName + "님이 승리했습니다!");
+        log.info("Room {} timed out. Win on time for {}", roomId, winner);
+    }
+
+    /**
+     * 한쪽의 기권(이탈, 시간패)으로 판을 끝내고 승패 기록을 남긴다. 승자('b' 또는 'w')를 반환
+     * reason은 기보 결과(RE)에 붙는 사유: R = 기권, T = 시간패
+     */
+    private String forfeit(GameRoom room, boolean hostLost, String reason) {
+        String winner = hostLost ? "w" : "b";
+        User winnerUser = hostLost ? room.getGuest() : room.getHost();
+        User loserUser = hostLost ? room.getHost() : room.getGuest();
         String winnerName = winnerUser != null ? winnerUser.getName() : "상대방";
         String loserName = loserUser != null ? loserUser.getName() : "상대방";
 
         room.setStatus(GameRoom.RoomStatus.FINISHED);
+        // 메모리에만 있던 최신 보드를 먼저 기록한 뒤 DB 상태로 종료 처리
+        liveGameRegistry.evict(room.getId());
 
         // GoGameData 업데이트
         GoGameData goData = goGameDataRepository.findByRoom(room)
                 .orElseThrow(() -> new IllegalStateException("GoGameData not found for room " + room.getId()));
         goData.setWinner(winner);
         goGameDataRepository.save(goData);
+        finishGameRecord(goData, winner, (hostLost ? "W+" : "B+") + reason);
 
-        // 승패 기록 저장 (나간 사람 포함)
-        saveGameHistory(winnerUser, GameHistory.GameResult.WIN, loserName, GameHistory.GameType.GO);
-        saveGameHistory(loserUser, GameHistory.GameResult.LOSS, winnerName, GameHistory.GameType.GO);
-
-        // 게스트가 나간 경우 게스트 정보 초기화
-        if (!isHost) {
-            room.setGuest(null);
-        }
-
-        gameRoomRepository.save(room);
+        // 승패 기록 저장 (진 사람 포함, 기권/이탈 시 수 카운트는 일단 0으로 처리)
+        saveGameHistory(winnerUser, GameHistory.GameResult.WIN, loserName, GameHistory.GameType.GO, 0);
+        saveGameHistory(loserUser, GameHistory.GameResult.LOSS, winnerName, GameHistory.GameType.GO, 0);
+        ratingService.rateGame(room.getHost(), room.getGuest(), winner);
+        return winner;
+    }
 
-        // 남은 플레이어에게 알림 전송
+    private void notifyForfeit(GameRoom room, String winner, String message) {
         GameStateDto gameState = getGameState(room.getId());
         Map<String, Object> notification = new HashMap<>();
-        notification.put("boardState", gameState.getBoardState());
+        notification.put("board", gameState.getBoard());
         notification.put("turn", gameState.getTurn());
         notification.put("status", "FINISHED");
         notification.put("isGameOver", true);
@@ -202,14 +312,34 @@ public class GameRoomService {
         notification.put("guestName", gameState.getGuestName());
         notification.put("capturedBlack", gameState.getCapturedBlack());
         notification.put("capturedWhite", gameState.getCapturedWhite());
-        notification.put("message", loserName + "님이 나갔습니다. " + winnerName + "님이 승리했습니다!");
+        notification.put("seq", gameState.getSeq());
+        notification.put("message", message);
 
-        messagingTemplate.convertAndSend("/topic/game/" + room.getId(), notification);
-        log.info("User in room {} disconnected. Automatic win for {}", room.getId(), winner);
+        roomBroadcaster.send(room.getId(), notification);
+    }
+
+    /**
+     * 계가로 끝난 판의 두 대국자 기록. 멀티플레이 결과는 서버만 남기며 (클라이언트는 보내지 않음),
+     * 방 작업 큐에서 PLAYING -> FINISHED로 바꾸는 한 번만 호출되므로 판마다 한 번씩만 기록된다.
+     */
+    private void saveScoredHistory(GameRoom room, String winner, int movesCount) {
+        User host = room.getHost();
+        User guest = room.getGuest();
+        String hostName = host != null ? host.getName() : "상대방";
+        String guestName = guest != null ? guest.getName() : "상대방";
+        saveGameHistory(host, resultOf(winner, "b"), guestName, GameHistory.GameType.GO, movesCount);
+        saveGameHistory(guest, resultOf(winner, "w"), hostName, GameHistory.GameType.GO, movesCount);
+    }
+
+    private static GameHistory.GameResult resultOf(String winner, String color) {
+        if ("draw".equals(winner)) {
+            return GameHistory.GameResult.DRAW;
+        }
+        return color.equals(winner) ? GameHistory.GameResult.WIN : GameHistory.GameResult.LOSS;
     }
 
     private void saveGameHistory(User user, GameHistory.GameResult result, String opponentName,
-            GameHistory.GameType gameType) {
+            GameHistory.GameType gameType, int movesCount) {
         if (user == null)
             return;
 
@@ -218,8 +348,9 @@ public class GameRoomService {
         history.setResult(result);
         history.setGameType(gameType);
         history.setOpponentName(opponentName);
-        history.setMovesCount(0); // 기권/이탈 시 수 카운트는 일단 0으로 처리
+        history.setMovesCount(movesCount);
         gameHistoryRepository.save(history);
+        userStatsService.record(history);
         log.info("Saved game history for user {}: {}", user.getName(), result);
     }
 
@@ -239,6 +370,28 @@ public class GameRoomService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 메모리에 있는 진행 중인 판 목록 (관전자가 많은 순)
+     */
+    public List<LiveRoomDto> getLiveRooms() {
+        List<LiveRoomDto> rooms = new ArrayList<>();
+        for (LiveGame live : liveGameRegistry.getAll()) {
+            int moveCount;
+            synchronized (live) {
+                moveCount = live.getSeq();
+            }
+            rooms.add(new LiveRoomDto(
+                    live.getRoomId(),
+                    live.getHostName(),
+                    live.getGuestName(),
+                    moveCount,
+                    roomBroadcaster.spectatorCount(live.getRoomId(), live.getHostId(), live.getGuestId())));
+        }
+        rooms.sort(Comparator.comparingInt(LiveRoomDto::getSpectators).reversed()
+                .thenComparing(LiveRoomDto::getId));
+        return rooms;
+    }
+
     @Transactional
     public GameRoom joinRoom(Long roomId, Long guestId) {
         GameRoom room = gameRoomRepository.findById(roomId)
@@ -260,12 +413,14 @@ public class GameRoomService {
         room.setStartedAt(LocalDateTime.now());
 
         GameRoom savedRoom = gameRoomRepository.save(room);
+        userRoomIndex.add(guestId, roomId);
+        goGameDataRepository.findByRoom(savedRoom).ifPresent(liveGameRegistry::start);
 
         // 참여자 입장 알림을 WebSocket으로 브로드캐스트
         GameStateDto gameState = getGameState(roomId);
         // 메시지 필드를 추가하기 위해 Map 사용
         Map<String, Object> notification = new HashMap<>();
-        notification.put("boardState", gameState.getBoardState());
+        notification.put("board", gameState.getBoard());
         notification.put("turn", gameState.getTurn());
         notification.put("status", gameState.getStatus());
         notification.put("isGameOver", gameState.getIsGameOver());
@@ -274,62 +429,75 @@ public class GameRoomService {
         notification.put("guestName", gameState.getGuestName());
         notification.put("capturedBlack", gameState.getCapturedBlack());
         notification.put("capturedWhite", gameState.getCapturedWhite());
+        notification.put("seq", gameState.getSeq());
+        notification.put("clock", gameState.getClock());
         notification.put("message", guest.getName() + "님이 게임에 참여했습니다! 게임을 시작합니다.");
 
-        messagingTemplate.convertAndSend("/topic/game/" + roomId, notification);
+        roomBroadcaster.send(roomId, notification);
 
         return savedRoom;
     }
 
-    @Transactional
-    public GameStateDto makeMove(Long roomId, int row, int col, String boardState, String turn, Long userId,
-            Integer capturedBlack, Integer capturedWhite) {
-        GameRoom room = gameRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("Room not found"));
-
-        if (room.getStatus() != GameRoom.RoomStatus.PLAYING) {
+    /**
+     * 착수를 처리하고 브로드캐스트할 변경분을 반환한다.
+     */
+    public MoveDeltaDto makeMove(Long roomId, int row, int col, Long userId) {
+        // 진행 중인 판은 메모리 상태가 원본이므로 DB를 거치지 않고 처리 (DB 기록은 LiveGameRegistry가 모아서 수행)
+        LiveGame live = liveGameRegistry.getOrLoad(roomId);
+        if (live == null) {
             throw new IllegalStateException("Game is not in progress");
         }
 
-        // GoGameData 조회
-        GoGameData goData = goGameDataRepository.findByRoom(room)
-                .orElseThrow(() -> new IllegalStateException("GoGameData not found for room " + roomId));
+        MoveDeltaDto delta;
+        synchronized (live) {
+            // 차례 확인
+            if (!live.isTurnOf(userId)) {
+                throw new IllegalStateException("Not your turn");
+            }
 
-        // 차례 확인
-        String currentTurn = goData.getTurn();
-        boolean isHostTurn = currentTurn.equals("b") && room.getHost().getId().equals(userId);
-        boolean isGuestTurn = currentTurn.equals("w") && room.getGuest() != null
-                && room.getGuest().getId().equals(userId);
+            // 시간이 다 된 뒤 도착한 수는 받지 않음 (시간패 처리는 시계 타이머가 메일박스에 넣음)
+            long now = System.nanoTime();
+            GameClock clock = live.getClock();
+            if (clock != null && clock.isExpired(now)) {
+                throw new IllegalStateException("Time is up");
+            }
 
-        if (!isHostTurn && !isGuestTurn) {
-            throw new IllegalStateException("Not your turn");
+            // 서버 규칙 엔진으로 착수 검증 및 포획 처리
+            MoveLegality legality = live.getGame().check(row, col);
+            if (legality != MoveLegality.LEGAL) {
+                throw new IllegalStateException("Illegal move: " + legality);
+            }
+            int[] removed = live.play(row, col);
+            delta = new MoveDeltaDto(live.getSeq(), row * live.getGame().getBoard().getSize() + col, removed,
+                    live.getTurn());
+            if (clock != null) {
+                clock.switchTurn(now);
+                gameClocks.arm(live);
+                delta.setClock(clock.toDto(now));
+            }
         }
+        liveGameRegistry.flushIfNeeded(live);
 
-        // 보드 상태와 차례 업데이트
-        goData.setBoardState(boardState);
-        goData.setTurn(turn);
-        if (capturedBlack != null)
-            goData.setCapturedBlack(capturedBlack);
-        if (capturedWhite != null)
-            goData.setCapturedWhite(capturedWhite);
-        goGameDataRepository.save(goData);
-
-        return getGameState(roomId);
+        return delta;
     }
 
-    @Transactional(readOnly = true)
     public GameStateDto getGameState(Long roomId) {
-        GameRoom room = gameRoomRepository.findById(roomId)
+        LiveGame live = liveGameRegistry.get(roomId);
+        if (live != null) {
+            synchronized (live) {
+                return toGameState(live);
+            }
+        }
+
+        // 진행 중이 아닌 방은 DB에서 방/참가자와 함께 한 번에 조회
+        GoGameData goData = goGameDataRepository.findWithRoomByRoomId(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
+        GameRoom room = goData.getRoom();
 
         boolean isGameOver = room.getStatus() == GameRoom.RoomStatus.FINISHED;
 
-        // GoGameData 조회
-        GoGameData goData = goGameDataRepository.findByRoom(room)
-                .orElseThrow(() -> new IllegalStateException("GoGameData not found for room " + roomId));
-
-        return new GameStateDto(
-                goData.getBoardState(),
+        GameStateDto state = new GameStateDto(
+                null,
                 goData.getTurn(),
                 room.getStatus().name(),
                 isGameOver,
@@ -339,75 +507,269 @@ public class GameRoomService {
                 null,
                 goData.getCapturedBlack(),
                 goData.getCapturedWhite());
+        state.setBoard(BoardCodec.toBase64(BoardStates.boardDataOf(objectMapper, goData)));
+        state.setSeq(goData.getSnapshotMoveNo());
+        state.setScoreBlack(goData.getScoreBlack());
+        state.setScoreWhite(goData.getScoreWhite());
+        return state;
+    }
+
+    private GameStateDto toGameState(LiveGame live) {
+        GoGame game = live.getGame();
+        GameStateDto state = new GameStateDto(
+                null,
+                live.getTurn(),
+                GameRoom.RoomStatus.PLAYING.name(),
+                false,
+                null,
+                live.getHostName(),
+                live.getGuestName(),
+                null,
+                game.getCapturedBlack(),
+                game.getCapturedWhite());
+        state.setBoard(live.getEncodedBoard());
+        state.setSeq(live.getSeq());
+        if (live.getClock() != null) {
+            state.setClock(live.getClock().toDto(System.nanoTime()));
+        }
+        return state;
     }
 
     @Transactional
-    public void updateGameState(Long roomId, String boardState, String turn, boolean isGameOver, String winner,
+    public void updateGameState(Long roomId, Long userId, String boardState, String turn, boolean isGameOver,
             String status, Integer capturedBlack, Integer capturedWhite) {
         GameRoom room = gameRoomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
+        // 관전자는 상태를 바꿀 수 없음
+        boolean isPlayer = room.getHost().getId().equals(userId)
+                || (room.getGuest() != null && room.getGuest().getId().equals(userId));
+        if (!isPlayer) {
+            throw new IllegalStateException("Only players can update the game");
+        }
+
+        // 진행 중인 판은 서버의 LiveGame이 원본이므로 클라이언트가 보낸 보드, 차례, 따낸 돌 수는 받지 않음
+        // (상태 변경과 종료 요청만 처리)
+        boolean playing = room.getStatus() == GameRoom.RoomStatus.PLAYING;
+        if (playing && !isGameOver && !"WAITING".equals(status)) {
+            return;
+        }
+        // 이미 끝난 판에 다시 온 종료 요청(두 대국자가 모두 보내는 경우)은 무시
+        if (isGameOver && !playing) {
+            return;
+        }
+
+        // 메모리의 판을 (없으면 DB에서 복구해) 스냅샷 이후 수까지 반영
+        LiveGame live = playing ? liveGameRegistry.getOrLoad(roomId) : null;
+        if (isGameOver) {
+            // 판의 끝은 서버가 정함: 두 번 연속 패스(pass), 기권(resign), 시간패(시계 타이머)뿐이며
+            // 클라이언트의 종료 요청은 두 번 연속 패스로 이미 끝난 판의 계가를 다시 시도할 때만 받음
+            if (live == null || !isEndedByPasses(live)) {
+                throw new IllegalStateException("Game can only end by two passes, resignation or timeout");
+            }
+            finishByScore(room, live);
+            return;
+        }
+        // 남은 수순을 모두 기록
+        liveGameRegistry.evict(roomId);
+
         // GoGameData 조회 또는 생성
         GoGameData goData = goGameDataRepository.findByRoom(room)
                 .orElseGet(() -> {
-                    GoGameData newData = new GoGameData(room, getInitialBoardState(), "b");
+                    GoGameData newData = new GoGameData(room, BoardStates.initial(), "b");
                     return goGameDataRepository.save(newData);
                 });
 
-        goData.setBoardState(boardState);
-        goData.setTurn(turn);
-        if (capturedBlack != null)
-            goData.setCapturedBlack(capturedBlack);
-        if (capturedWhite != null)
-            goData.setCapturedWhite(capturedWhite);
+        // 대기 중인 방은 아직 판이 없으므로 클라이언트 보드를 그대로 저장
+        boolean newGame = false;
+        if (!playing && room.getStatus() == GameRoom.RoomStatus.WAITING && boardState != null) {
+            goData.setBoardData(BoardStates.fromJson(objectMapper, boardState));
+            goData.setBoardState(null);
+            goData.setTurn(turn);
+            goData.setKoPoint(null);
+            if (capturedBlack != null)
+                goData.setCapturedBlack(capturedBlack);
+            if (capturedWhite != null)
+                goData.setCapturedWhite(capturedWhite);
+        }
 
-        if (isGameOver) {
-            room.setStatus(GameRoom.RoomStatus.FINISHED);
-            goData.setWinner(winner);
-        } else {
-            // 명시적인 상태 전달이 있으면 해당 상태로 변경 (예: WAITING)
-            if ("WAITING".equals(status)) {
+        // 명시적인 상태 전달이 있으면 해당 상태로 변경 (예: WAITING)
+        if ("WAITING".equals(status)) {
+            room.setStatus(GameRoom.RoomStatus.WAITING);
+            clearResult(goData);
+            // 새 게임 시작을 위해 초기 보드 상태로 리셋
+            goData.setBoardData(BoardStates.initial());
+            goData.setTurn("b");
+            goData.setCapturedBlack(0);
+            goData.setCapturedWhite(0);
+            finishGameRecord(goData, null, null);
+            goData.setGameRecordId(null);
+            removeGuest(room);
+            room.setStartedAt(null);
+            log.info("Room {} manually set to WAITING status", roomId);
+        }
+        // 게임이 종료되지 않았고, 현재 상태가 FINISHED라면 새 게임 시작
+        else if (room.getStatus() == GameRoom.RoomStatus.FINISHED) {
+            // 상대방이 없으면 WAITING 상태로 변경 (대기방 목록에 나타나도록)
+            if (room.getGuest() == null) {
                 room.setStatus(GameRoom.RoomStatus.WAITING);
-                goData.setWinner(null);
+                clearResult(goData);
                 // 새 게임 시작을 위해 초기 보드 상태로 리셋
-                goData.setBoardState(getInitialBoardState());
+                goData.setBoardData(BoardStates.initial());
                 goData.setTurn("b");
                 goData.setCapturedBlack(0);
                 goData.setCapturedWhite(0);
-                room.setGuest(null);
-                room.setStartedAt(null);
-                log.info("Room {} manually set to WAITING status", roomId);
+                goData.setGameRecordId(null);
+                removeGuest(room); // 명시적으로 null 설정
+                room.setStartedAt(null); // 시작 시간 초기화
+                log.info("Room {} reset to WAITING status for new game (no guest)", roomId);
+            } else {
+                // 상대방이 있으면 PLAYING 상태로 변경
+                room.setStatus(GameRoom.RoomStatus.PLAYING);
+                clearResult(goData);
+                // 새 게임 시작을 위해 초기 보드 상태로 리셋
+                goData.setBoardData(BoardStates.initial());
+                goData.setTurn("b");
+                goData.setCapturedBlack(0);
+                goData.setCapturedWhite(0);
+                newGame = true;
+                log.info("Room {} reset to PLAYING status for new game (with guest)", roomId);
             }
-            // 게임이 종료되지 않았고, 현재 상태가 FINISHED라면 새 게임 시작
-            else if (room.getStatus() == GameRoom.RoomStatus.FINISHED) {
-                // 상대방이 없으면 WAITING 상태로 변경 (대기방 목록에 나타나도록)
-                if (room.getGuest() == null) {
-                    room.setStatus(GameRoom.RoomStatus.WAITING);
-                    goData.setWinner(null);
-                    // 새 게임 시작을 위해 초기 보드 상태로 리셋
-                    goData.setBoardState(getInitialBoardState());
-                    goData.setTurn("b");
-                    goData.setCapturedBlack(0);
-                    goData.setCapturedWhite(0);
-                    room.setGuest(null); // 명시적으로 null 설정
-                    room.setStartedAt(null); // 시작 시간 초기화
-                    log.info("Room {} reset to WAITING status for new game (no guest)", roomId);
-                } else {
-                    // 상대방이 있으면 PLAYING 상태로 변경
-                    room.setStatus(GameRoom.RoomStatus.PLAYING);
-                    goData.setWinner(null);
-                    // 새 게임 시작을 위해 초기 보드 상태로 리셋
-                    goData.setBoardState(getInitialBoardState());
-                    goData.setTurn("b");
-                    goData.setCapturedBlack(0);
-                    goData.setCapturedWhite(0);
-                    log.info("Room {} reset to PLAYING status for new game (with guest)", roomId);
-                }
+        }
+
+        goGameDataRepository.save(goData);
+        gameRoomRepository.save(room);
+
+        // 재경기는 새 대국 기록으로 시작 (진행 중이던 판은 위에서 그대로 반환하므로 다시 등록할 일이 없음)
+        if (newGame) {
+            liveGameRegistry.start(goData);
+        }
+    }
+
+    /**
+     * 현재 차례의 패스. 두 대국자가 연달아 패스하면 서버가 계가해 판을 끝낸다. (방의 메일박스에서 호출)
+     */
+    @Transactional
+    public GameStateDto pass(Long roomId, Long userId) {
+        LiveGame live = liveGameRegistry.getOrLoad(roomId);
+        if (live == null) {
+            throw new IllegalStateException("Game is not in progress");
+        }
+
+        boolean ended;
+        synchronized (live) {
+            if (!live.isTurnOf(userId)) {
+                throw new IllegalStateException("Not your turn");
             }
+            long now = System.nanoTime();
+            GameClock clock = live.getClock();
+            if (clock != null && clock.isExpired(now)) {
+                throw new IllegalStateException("Time is up");
+            }
+            live.pass();
+            if (clock != null) {
+                clock.switchTurn(now);
+                gameClocks.arm(live);
+            }
+            ended = live.getGame().isEndedByPasses();
+        }
+
+        String name = userId.equals(live.getHostId()) ? live.getHostName() : live.getGuestName();
+        if (ended) {
+            GameRoom room = gameRoomRepository.findById(roomId)
+                    .orElseThrow(() -> new IllegalArgumentException("Room not found"));
+            finishByScore(room, live);
+        } else {
+            liveGameRegistry.flushIfNeeded(live);
+        }
+        GameStateDto state = getGameState(roomId);
+        state.setMessage(ended ? "두 사람 모두 패스해서 대국이 끝났습니다." : name + "님이 패스했습니다.");
+        return state;
+    }
+
+    /**
+     * 대국자의 기권. 상대의 불계승(B+R / W+R)으로 판을 끝내고 방 전체에 알린다. (방의 메일박스에서 호출)
+     */
+    @Transactional
+    public void resign(Long roomId, Long userId) {
+        GameRoom room = gameRoomRepository.findById(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("Room not found"));
+        if (room.getStatus() != GameRoom.RoomStatus.PLAYING) {
+            throw new IllegalStateException("Game is not in progress");
+        }
+        boolean isHost = room.getHost().getId().equals(userId);
+        boolean isGuest = room.getGuest() != null && room.getGuest().getId().equals(userId);
+        if (!isHost && !isGuest) {
+            throw new IllegalStateException("Only players can resign");
         }
 
+        User winnerUser = isHost ? room.getGuest() : room.getHost();
+        User loserUser = isHost ? room.getHost() : room.getGuest();
+        String winnerName = winnerUser != null ? winnerUser.getName() : "상대방";
+        String loserName = loserUser != null ? loserUser.getName() : "상대방";
+
+        String winner = forfeit(room, isHost, "R");
+        gameRoomRepository.save(room);
+
+        notifyForfeit(room, winner, loserName + "님이 기권했습니다. " + winnerName + "님이 승리했습니다!");
+        log.info("User {} resigned in room {}. Win for {}", userId, roomId, winner);
+    }
+
+    private static boolean isEndedByPasses(LiveGame live) {
+        synchronized (live) {
+            return live.getGame().isEndedByPasses();
+        }
+    }
+
+    /**
+     * 두 번 연속 패스로 끝난 판을 서버가 계가해 끝내고 두 대국자의 기록과 레이팅을 남긴다.
+     */
+    private void finishByScore(GameRoom room, LiveGame live) {
+        Score score;
+        int movesCount;
+        synchronized (live) {
+            score = gameScoring.score(live.getGame());
+            movesCount = live.getGame().getMoveCount();
+        }
+        // 메모리에만 있던 수순과 최종 보드를 먼저 기록한 뒤 DB 상태로 종료 처리
+        liveGameRegistry.evict(room.getId());
+
+        GoGameData goData = goGameDataRepository.findByRoom(room)
+                .orElseThrow(() -> new IllegalStateException("GoGameData not found for room " + room.getId()));
+        room.setStatus(GameRoom.RoomStatus.FINISHED);
+        goData.setWinner(score.winner());
+        goData.setScoreBlack(score.black());
+        goData.setScoreWhite(score.white());
         goGameDataRepository.save(goData);
         gameRoomRepository.save(room);
+        finishGameRecord(goData, score.winner(), Sgf.scoreResult(score.black(), score.white()));
+        saveScoredHistory(room, score.winner(), movesCount);
+        ratingService.rateGame(room.getHost(), room.getGuest(), score.winner());
+        log.info("Room {} scored {}: black {}, white {}", room.getId(), score.rule(), score.black(), score.white());
+    }
+
+    private static void clearResult(GoGameData goData) {
+        goData.setWinner(null);
+        goData.setScoreBlack(null);
+        goData.setScoreWhite(null);
+    }
+
+    /**
+     * 진행 중인 대국 기록에 결과와 수 수를 남긴다. (이미 끝난 기록은 그대로 둠)
+     * result는 기보 형식의 결과 (예: B+3.5, W+R), 결과 없이 끝난 판은 null
+     */
+    private void finishGameRecord(GoGameData goData, String winner, String result) {
+        if (goData.getGameRecordId() == null)
+            return;
+        gameRecordRepository.findById(goData.getGameRecordId())
+                .filter(record -> record.getFinishedAt() == null)
+                .ifPresent(record -> {
+                    record.setWinner(winner);
+                    record.setResult(result);
+                    record.setMoveCount(goData.getSnapshotMoveNo());
+                    record.setFinishedAt(LocalDateTime.now());
+                    gameRecordRepository.save(record);
+                });
     }
 
     @Transactional
@@ -461,60 +823,25 @@ public class GameRoomService {
 
         // 메시지를 포함한 GameStateDto 생성
         GameStateDto nudgeState = new GameStateDto(
-                gameState.getBoardState(),
+                null,
                 gameState.getTurn(),
                 gameState.getStatus(),
                 gameState.getIsGameOver(),
                 gameState.getWinner(),
                 gameState.getHostName(),
                 gameState.getGuestName(),
-                selectedMessage);
+                selectedMessage,
+                gameState.getCapturedBlack(),
+                gameState.getCapturedWhite());
+        nudgeState.setBoard(gameState.getBoard());
+        nudgeState.setSeq(gameState.getSeq());
+        nudgeState.setClock(gameState.getClock());
+        nudgeState.setScoreBlack(gameState.getScoreBlack());
+        nudgeState.setScoreWhite(gameState.getScoreWhite());
 
         // 브로드캐스트는 @SendTo 어노테이션이 처리하므로 여기서는 반환만 함
         log.info("Nudge message created for room {}: {}", roomId, selectedMessage);
 
         return nudgeState;
     }
-    
-    /**
-     * 주기적으로 비어있거나 오래된 방을 정리하는 스케줄러
-     * 매 10분마다 실행
-     */
-    @Scheduled(fixedRate = 600000) // 10분 = 600000ms
-    @Transactional
-    public void cleanupEmptyRooms() {
-        log.info("Starting cleanup of empty rooms...");
-        
-        List<GameRoom> allRooms = gameRoomRepository.findAll();
-        int deletedCount = 0;
-        
-        for (GameRoom room : allRooms) {
-            boolean shouldDelete = false;
-            
-            // WAITING 상태이고 게스트가 없고 생성된 지 30분 이상 지난 방 삭제
-            if (room.getStatus() == GameRoom.RoomStatus.WAITING && room.getGuest() == null) {
-                if (room.getCreatedAt() != null && 
-                    room.getCreatedAt().isBefore(LocalDateTime.now().minusMinutes(30))) {
-                    shouldDelete = true;
-                    log.info("Deleting old empty waiting room {} (created at {})", room.getId(), room.getCreatedAt());
-                }
-            }
-            
-            // FINISHED 상태이고 게스트가 없고 생성된 지 1시간 이상 지난 방 삭제
-            if (room.getStatus() == GameRoom.RoomStatus.FINISHED && room.getGuest() == null) {
-                if (room.getCreatedAt() != null && 
-                    room.getCreatedAt().isBefore(LocalDateTime.now().minusHours(1))) {
-                    shouldDelete = true;
-                    log.info("Deleting old finished room {} (created at {})", room.getId(), room.getCreatedAt());
-                }
-            }
-            
-            if (shouldDelete) {
-                deleteRoom(room);
-                deletedCount++;
-            }
-        }
-        
-        log.info("Cleanup completed. Deleted {} empty rooms.", deletedCount);
-    }
 }
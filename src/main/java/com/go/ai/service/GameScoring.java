@@ -0,0 +1,64 @@
+package com.go.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.go.ai.dto.ScoreDto;
+import com.go.ai.dto.ScoreRequest;
+import com.go.ai.engine.GoBoard;
+import com.go.ai.engine.GoGame;
+import com.go.ai.engine.Score;
+import com.go.ai.engine.Scorer;
+import com.go.ai.engine.ScoringRule;
+import com.go.ai.entity.GoGameData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 끝난 판의 계가. 규칙(go.scoring.rule)과 덤은 설정을 따르고, ownership-playouts가 0보다 크면
+ * 몬테카를로 소유권 추정으로 죽은 돌을 판정한다 (0이면 눈 공간/세키 판정).
+ */
+@Service
+public class GameScoring {
+
+    private final ObjectMapper objectMapper;
+    private final Scorer scorer;
+    private final int ownershipPlayouts;
+
+    public GameScoring(ObjectMapper objectMapper,
+            @Value("${go.scoring.rule:TERRITORY}") ScoringRule rule,
+            @Value("${go.scoring.komi:6.5}") double komi,
+            @Value("${go.scoring.ownership-playouts:0}") int ownershipPlayouts) {
+        this.objectMapper = objectMapper;
+        this.scorer = new Scorer(komi, rule);
+        this.ownershipPlayouts = ownershipPlayouts;
+    }
+
+    public Score score(GoGame game) {
+        GoBoard board = game.getBoard();
+        float[] ownership = ownershipPlayouts > 0
+                ? Scorer.estimateOwnership(board, game.getTurn(), ownershipPlayouts, System.nanoTime())
+                : null;
+        return scorer.score(board, game.getCapturedBlack(), game.getCapturedWhite(), ownership);
+    }
+
+    /**
+     * 저장된 보드와 따낸 돌 수로 계가
+     */
+    public Score score(GoGameData goData) {
+        return score(BoardStates.toGame(objectMapper, goData));
+    }
+
+    /**
+     * 클라이언트가 보낸 국면(1인 대국 등)을 계가
+     */
+    public ScoreDto score(ScoreRequest request) {
+        if (request.getBoardState() == null) {
+            throw new IllegalArgumentException("boardState is required");
+        }
+        GoBoard board = GoBoard.fromArray(BoardStates.parse(objectMapper, request.getBoardState()));
+        byte turn = "w".equals(request.getTurn()) ? GoBoard.WHITE : GoBoard.BLACK;
+        GoGame game = new GoGame(board, turn,
+                request.getCapturedBlack() != null ? request.getCapturedBlack() : 0,
+                request.getCapturedWhite() != null ? request.getCapturedWhite() : 0);
+        return ScoreDto.of(score(game));
+    }
+}
@@ -0,0 +1,147 @@
+package com.go.ai.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 해시 휠 타이머. 시간을 tick 단위 칸으로 나눈 원형 배열(휠)에 타임아웃을 넣어 두고,
+ * 스레드 하나가 tick마다 한 칸씩 돌며 만료된 작업을 실행한다.
+ * 등록/취소는 O(1)이고 타임아웃이 수만 개여도 스레드는 하나뿐이다. 정밀도는 tick 단위.
+ *
+ * 칸(bucket)은 작업 스레드만 만지며, 다른 스레드에서 등록한 타임아웃은 큐를 거쳐 다음 tick에 칸으로 옮겨진다.
+ * 취소된 타임아웃은 표시만 해 두고 작업 스레드가 해당 칸을 지날 때 버린다.
+ * 실행되는 작업은 짧아야 하며(다른 스레드로 넘기기만 할 것), 예외는 로그만 남긴다.
+ */
+final class HashedWheelTimer {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private final long tickNanos;
+    private final ArrayDeque<Timeout>[] wheel;
+    private final int mask;
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    HashedWheelTimer(String name, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (size <= 0) {
+            size = 1;
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * delay 후에 task를 작업 스레드에서 실행한다.
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timer is stopped");
+        }
+        long deadline = System.nanoTime() - startNanos + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(task, deadline);
+        added.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 등록된 타임아웃 수 (취소되었지만 아직 칸에서 빠지지 않은 것 포함한 근삿값)
+     */
+    int pendingCount() {
+        int count = added.size();
+        for (ArrayDeque<Timeout> bucket : wheel) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleep = deadline - (System.nanoTime() - startNanos);
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+            transferAdded();
+            expire(wheel[(int) (tick & mask)], deadline);
+            tick++;
+        }
+    }
+
+    private void transferAdded() {
+        Timeout timeout;
+        while ((timeout = added.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long ticks = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (ticks - tick) / wheel.length;
+            // 이미 지난 시각이면 현재 칸에 넣어 이번 tick에 실행
+            wheel[(int) (Math.max(ticks, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout> bucket, long deadline) {
+        Iterator<Timeout> it = bucket.iterator();
+        while (it.hasNext()) {
+            Timeout timeout = it.next();
+            if (timeout.cancelled) {
+                it.remove();
+            } else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                it.remove();
+                try {
+                    timeout.task.run();
+                } catch (Throwable e) {
+                    log.error("Timer task failed: {}", e.getMessage(), e);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    static final class Timeout {
+
+        private final Runnable task;
+        private final long deadline; // 타이머 시작 시점 기준 나노초
+        private long remainingRounds; // 작업 스레드만 사용
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.go.ai.service;
+
+import com.go.ai.dto.LeaderboardEntryDto;
+import com.go.ai.entity.GameHistory;
+import com.go.ai.repository.UserStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 바둑 레이팅 순위. 시작할 때 user_stats에서 한 번 읽어 메모리에 두고, 이후에는 레이팅이 바뀔 때마다 한 명씩 갱신한다.
+ *
+ * 상위 N명은 레이팅 내림차순 스킵 리스트를 앞에서부터 읽고(잠금 없음),
+ * 한 사람의 순위는 반올림한 레이팅별 인원 수를 담은 펜윅 트리로 "나보다 높은 사람 수 + 1"을 O(log n)에 구한다.
+ * 여러 노드로 띄우면 다른 노드에서 끝난 판은 go.rating.leaderboard-reload-cron 주기로 다시 읽을 때 반영된다.
+ */
+@Component
+public class Leaderboard {
+
+    private static final Logger log = LoggerFactory.getLogger(Leaderboard.class);
+
+    // 펜윅 트리가 다루는 레이팅 범위 (벗어나면 양 끝 칸에 셈)
+    private static final int MAX_RATING = 4000;
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::rating).reversed()
+            .thenComparing(Entry::userId);
+
+    private final UserStatsRepository userStatsRepository;
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final int[] counts = new int[MAX_RATING + 2]; // 펜윅 트리 (1부터)
+
+    public Leaderboard(UserStatsRepository userStatsRepository) {
+        this.userStatsRepository = userStatsRepository;
+    }
+
+    /**
+     * user_stats에서 전체를 다시 읽음. 읽기부터 교체까지 update와 같은 잠금 안에서 하므로,
+     * 읽는 동안 커밋된 레이팅의 update는 교체가 끝난 뒤에 반영되어 사라지지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${go.rating.leaderboard-reload-cron:-}")
+    public synchronized void reload() {
+        List<UserStatsRepository.RatingRow> rows = userStatsRepository.findRatings(GameHistory.GameType.GO);
+        ranking.clear();
+        entries.clear();
+        Arrays.fill(counts, 0);
+        for (UserStatsRepository.RatingRow row : rows) {
+            put(new Entry(row.getUserId(), row.getName(), row.getRating(), row.getRatedGames()));
+        }
+        log.info("Leaderboard loaded: {} rated players", rows.size());
+    }
+
+    /**
+     * 커밋된 새 레이팅 반영. 레이팅 대국 수가 이미 반영된 것보다 적으면 늦게 도착한 옛 값이므로 무시한다.
+     */
+    public synchronized void update(Long userId, String name, double rating, int ratedGames) {
+        Entry old = entries.get(userId);
+        if (old != null) {
+            if (old.ratedGames() > ratedGames) {
+                return;
+            }
+            ranking.remove(old);
+            add(bucket(old.rating()), -1);
+        }
+        put(new Entry(userId, name, rating, ratedGames));
+    }
+
+    /**
+     * 레이팅 상위 limit명. 갱신과 동시에 읽으면 방금 바뀐 한 명이 빠지거나 옛 자리로 보일 수 있다.
+     */
+    public List<LeaderboardEntryDto> top(int limit) {
+        List<LeaderboardEntryDto> result = new ArrayList<>(Math.min(limit, 100));
+        int position = 0;
+        int rank = 0;
+        int previous = Integer.MIN_VALUE;
+        for (Entry entry : ranking) {
+            if (position == limit) {
+                break;
+            }
+            position++;
+            int rating = bucket(entry.rating());
+            if (rating != previous) {
+                rank = position;
+                previous = rating;
+            }
+            result.add(toDto(rank, entry));
+        }
+        return result;
+    }
+
+    /**
+     * 한 사람의 순위. 레이팅 대국이 없으면 null
+     */
+    public synchronized LeaderboardEntryDto rankOf(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        int higher = entries.size() - prefix(bucket(entry.rating()));
+        return toDto(higher + 1, entry);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.userId(), entry);
+        ranking.add(entry);
+        add(bucket(entry.rating()), 1);
+    }
+
+    private void add(int bucket, int delta) {
+        for (int i = bucket + 1; i < counts.length; i += i & -i) {
+            counts[i] += delta;
+        }
+    }
+
+    // 레이팅 칸이 bucket 이하인 인원 수
+    private int prefix(int bucket) {
+        int sum = 0;
+        for (int i = bucket + 1; i > 0; i -= i & -i) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+
+    private static int bucket(double rating) {
+        return (int) Math.max(0, Math.min(MAX_RATING, Math.round(rating)));
+    }
+
+    private static LeaderboardEntryDto toDto(int rank, Entry entry) {
+        return new LeaderboardEntryDto(rank, entry.userId(), entry.name(), (int) Math.round(entry.rating()),
+                entry.ratedGames());
+    }
+
+    private record Entry(Long userId, String name, double rating, int ratedGames) {
+    }
+}
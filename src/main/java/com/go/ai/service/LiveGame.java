@@ -0,0 +1,239 @@
+package com.go.ai.service;
+
+import com.go.ai.engine.BoardCodec;
+import com.go.ai.engine.GoBoard;
+import com.go.ai.engine.GoGame;
+import com.go.ai.entity.GameKeyframe;
+import com.go.ai.entity.GameMove;
+import com.go.ai.entity.GoGameData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 진행 중(PLAYING)인 방의 메모리 상태. 착수는 이 객체에 먼저 반영되고,
+ * 아직 기록되지 않은 수(pendingMoves)는 LiveGameRegistry가 모아서 game_moves에 추가한다.
+ * keyframeInterval수마다의 국면(pendingKeyframes)도 같은 트랜잭션에서 game_keyframes에 추가한다. (기보 재생용)
+ * 모든 접근은 이 객체를 잠그고 수행한다.
+ */
+public class LiveGame {
+
+    private final Long roomId;
+    private final Long goGameDataId;
+    private final Long gameRecordId;
+    private final Long hostId;
+    private final String hostName;
+    private final Long guestId;
+    private final String guestName;
+    private final GoGame game;
+    private final GameClock clock; // 시간 제한이 없으면 null
+    private final int keyframeInterval; // 0이면 키프레임을 남기지 않음
+
+    private final List<GameMove> pendingMoves = new ArrayList<>();
+    private final List<GameKeyframe> pendingKeyframes = new ArrayList<>();
+    private final ReentrantLock flushLock = new ReentrantLock(); // 같은 판을 두 스레드가 동시에 기록하지 않도록
+    private int snapshotMoveNo;
+    private byte[] boardData; // 압축 보드 캐시 (착수 시 무효화, 공유되므로 수정 금지)
+    private String encodedBoard; // boardData의 base64 캐시
+    private volatile boolean dirty;
+
+    public LiveGame(Long roomId, Long goGameDataId, Long gameRecordId, Long hostId, String hostName, Long guestId,
+            String guestName, GoGame game, int snapshotMoveNo, GameClock clock, int keyframeInterval) {
+        this.roomId = roomId;
+        this.goGameDataId = goGameDataId;
+        this.gameRecordId = gameRecordId;
+        this.hostId = hostId;
+        this.hostName = hostName;
+        this.guestId = guestId;
+        this.guestName = guestName;
+        this.game = game;
+        this.snapshotMoveNo = snapshotMoveNo;
+        this.clock = clock;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public Long getGoGameDataId() {
+        return goGameDataId;
+    }
+
+    public Long getGameRecordId() {
+        return gameRecordId;
+    }
+
+    public Long getHostId() {
+        return hostId;
+    }
+
+    public String getHostName() {
+        return hostName;
+    }
+
+    public Long getGuestId() {
+        return guestId;
+    }
+
+    public String getGuestName() {
+        return guestName;
+    }
+
+    public GoGame getGame() {
+        return game;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * 현재 차례인 플레이어인지 확인 (흑 = 방장, 백 = 게스트)
+     */
+    public boolean isTurnOf(Long userId) {
+        Long expected = game.getTurn() == GoBoard.BLACK ? hostId : guestId;
+        return expected != null && expected.equals(userId);
+    }
+
+    /**
+     * 현재 차례의 돌을 두고 따낸 돌의 위치(row * size + col)를 반환한다.
+     */
+    public int[] play(int row, int col) {
+        byte color = game.getTurn();
+        int captures = game.play(row, col);
+        GoBoard board = game.getBoard();
+        int size = board.getSize();
+        moved(color, (short) (row * size + col), (short) captures);
+
+        int[] removed = new int[captures];
+        for (int i = 0; i < captures; i++) {
+            int p = board.getLastCaptured(i);
+            removed[i] = board.rowOf(p) * size + board.colOf(p);
+        }
+        return removed;
+    }
+
+    /**
+     * 현재 차례의 패스. 두 대국자가 연달아 패스했는지는 getGame().isEndedByPasses()로 확인
+     */
+    public void pass() {
+        byte color = game.getTurn();
+        game.pass();
+        moved(color, GameMove.PASS, (short) 0);
+    }
+
+    // 둔 수를 기록 대기열에 넣고 간격마다 키프레임을 남김
+    private void moved(byte color, short point, short captures) {
+        boardData = null;
+        encodedBoard = null;
+        pendingMoves.add(new GameMove(gameRecordId, game.getMoveCount(), color, point, captures));
+        if (keyframeInterval > 0 && game.getMoveCount() % keyframeInterval == 0) {
+            pendingKeyframes.add(new GameKeyframe(gameRecordId, game.getMoveCount(), getBoardData(), game.getTurn(),
+                    game.getCapturedBlack(), game.getCapturedWhite()));
+        }
+        dirty = true;
+    }
+
+    /**
+     * 현재까지 둔 수의 번호. 브로드캐스트 순서 번호(seq)로 사용
+     */
+    public int getSeq() {
+        return game.getMoveCount();
+    }
+
+    public byte[] getBoardData() {
+        if (boardData == null) {
+            boardData = BoardCodec.encode(game.getBoard());
+        }
+        return boardData;
+    }
+
+    /**
+     * JSON 전송용 보드 (BoardCodec 형식의 base64)
+     */
+    public String getEncodedBoard() {
+        if (encodedBoard == null) {
+            encodedBoard = BoardCodec.toBase64(getBoardData());
+        }
+        return encodedBoard;
+    }
+
+    public String getTurn() {
+        return BoardStates.turnOf(game);
+    }
+
+    public ReentrantLock getFlushLock() {
+        return flushLock;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public int getPendingMoveCount() {
+        return pendingMoves.size();
+    }
+
+    /**
+     * 아직 기록되지 않은 수의 복사본
+     */
+    public List<GameMove> getPendingMoves() {
+        return new ArrayList<>(pendingMoves);
+    }
+
+    /**
+     * 아직 기록되지 않은 키프레임의 복사본
+     */
+    public List<GameKeyframe> getPendingKeyframes() {
+        return new ArrayList<>(pendingKeyframes);
+    }
+
+    /**
+     * 기록이 끝난 앞쪽 count개의 수와 keyframeCount개의 키프레임을 버린다.
+     */
+    public void movesFlushed(int count, int keyframeCount) {
+        pendingMoves.subList(0, count).clear();
+        pendingKeyframes.subList(0, keyframeCount).clear();
+        dirty = !pendingMoves.isEmpty();
+    }
+
+    public boolean isSnapshotDue(int interval) {
+        return game.getMoveCount() - snapshotMoveNo >= interval;
+    }
+
+    /**
+     * 현재 국면의 스냅샷 (DB 기록은 호출한 쪽에서 트랜잭션 안에 수행)
+     */
+    public Snapshot snapshot() {
+        GoBoard board = game.getBoard();
+        int ko = board.getKoPoint();
+        return new Snapshot(
+                goGameDataId,
+                getBoardData(),
+                getTurn(),
+                game.getCapturedBlack(),
+                game.getCapturedWhite(),
+                ko == GoBoard.NO_POINT ? null : board.rowOf(ko) * board.getSize() + board.colOf(ko),
+                game.getMoveCount());
+    }
+
+    public void snapshotWritten(int moveNo) {
+        snapshotMoveNo = Math.max(snapshotMoveNo, moveNo);
+    }
+
+    public record Snapshot(Long goGameDataId, byte[] boardData, String turn, int capturedBlack,
+            int capturedWhite, Integer koPoint, int moveNo) {
+
+        public void applyTo(GoGameData goData) {
+            goData.setBoardData(boardData);
+            goData.setBoardState(null);
+            goData.setTurn(turn);
+            goData.setCapturedBlack(capturedBlack);
+            goData.setCapturedWhite(capturedWhite);
+            goData.setKoPoint(koPoint);
+            goData.setSnapshotMoveNo(moveNo);
+        }
+    }
+}
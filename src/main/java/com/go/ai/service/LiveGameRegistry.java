@@ -0,0 +1,349 @@
+package com.go.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.go.ai.engine.GoGame;
+import com.go.ai.entity.GameKeyframe;
+import com.go.ai.entity.GameMove;
+import com.go.ai.entity.GameRecord;
+import com.go.ai.entity.GameRoom;
+import com.go.ai.entity.GoGameData;
+import com.go.ai.entity.User;
+import com.go.ai.repository.GameKeyframeRepository;
+import com.go.ai.repository.GameMoveRepository;
+import com.go.ai.repository.GameRecordRepository;
+import com.go.ai.repository.GoGameDataRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중(PLAYING)인 방의 게임 상태를 메모리에 보관하는 저장소.
+ * 착수는 메모리에만 반영되고, 새 수는 주기적으로(또는 일정 수 이상 쌓이면) game_moves에 한 트랜잭션으로 모아서 추가한다.
+ * 일정 수마다의 국면(키프레임)도 같은 트랜잭션에서 game_keyframes에 추가한다.
+ * go_game_data의 보드는 일정 수마다 찍는 스냅샷이며, 서버가 시작되면 스냅샷 이후의 수를 재생해 PLAYING 방을 복구한다.
+ */
+@Component
+public class LiveGameRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveGameRegistry.class);
+
+    private final Map<Long, LiveGame> games = new ConcurrentHashMap<>();
+
+    private final GoGameDataRepository goGameDataRepository;
+    private final GameMoveRepository gameMoveRepository;
+    private final GameKeyframeRepository gameKeyframeRepository;
+    private final GameRecordRepository gameRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final GameClocks gameClocks;
+    private final RoomAffinity roomAffinity;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${go.live-game.flush-every-moves:20}")
+    private int flushEveryMoves;
+
+    @Value("${go.live-game.snapshot-every-moves:50}")
+    private int snapshotEveryMoves;
+
+    @Value("${go.live-game.keyframe-every-moves:20}")
+    private int keyframeEveryMoves;
+
+    public LiveGameRegistry(GoGameDataRepository goGameDataRepository, GameMoveRepository gameMoveRepository,
+            GameKeyframeRepository gameKeyframeRepository, GameRecordRepository gameRecordRepository, ObjectMapper objectMapper, GameClocks gameClocks,
+            RoomAffinity roomAffinity, PlatformTransactionManager transactionManager) {
+        this.goGameDataRepository = goGameDataRepository;
+        this.gameMoveRepository = gameMoveRepository;
+        this.gameKeyframeRepository = gameKeyframeRepository;
+        this.gameRecordRepository = gameRecordRepository;
+        this.objectMapper = objectMapper;
+        this.gameClocks = gameClocks;
+        this.roomAffinity = roomAffinity;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 메모리에 있는 게임만 조회
+     */
+    public LiveGame get(Long roomId) {
+        return games.get(roomId);
+    }
+
+    /**
+     * 메모리에 없으면 DB에서 PLAYING 상태의 방을 읽어 등록한다. 진행 중이 아니면 null
+     */
+    public LiveGame getOrLoad(Long roomId) {
+        LiveGame live = games.get(roomId);
+        if (live != null) {
+            return live;
+        }
+        return goGameDataRepository.findWithRoomByRoomId(roomId)
+                .filter(goData -> goData.getRoom().getStatus() == GameRoom.RoomStatus.PLAYING)
+                .map(goData -> games.computeIfAbsent(roomId, id -> armed(toLiveGame(goData))))
+                .orElse(null);
+    }
+
+    public Collection<LiveGame> getAll() {
+        return games.values();
+    }
+
+    /**
+     * 방이 PLAYING 상태가 되어 새 판을 시작할 때 대국 기록을 만들고 등록한다.
+     * goData는 초기 보드로 설정되어 있어야 하며, 호출한 쪽의 트랜잭션 안에서 실행된다.
+     */
+    public LiveGame start(GoGameData goData) {
+        GameRoom room = goData.getRoom();
+        GameRecord record = gameRecordRepository.save(new GameRecord(room.getId(), room.getHost(), room.getGuest()));
+        goData.setGameRecordId(record.getId());
+        goData.setSnapshotMoveNo(0);
+        goGameDataRepository.save(goData);
+        return register(goData);
+    }
+
+    /**
+     * 저장된 스냅샷과 수순으로 등록 (기존 메모리 상태는 대체)
+     */
+    public LiveGame register(GoGameData goData) {
+        LiveGame live = armed(toLiveGame(goData));
+        LiveGame previous = games.put(live.getRoomId(), live);
+        if (previous != null) {
+            disarm(previous);
+        }
+        return live;
+    }
+
+    /**
+     * 메모리 상태를 버린다. 방을 삭제할 때 사용
+     */
+    public void discard(Long roomId) {
+        LiveGame live = games.remove(roomId);
+        if (live != null) {
+            disarm(live);
+        }
+    }
+
+    /**
+     * 남은 수와 최종 스냅샷을 DB에 기록한 뒤 제거한다. 게임이 끝나 DB가 다시 원본이 될 때 사용
+     */
+    public void evict(Long roomId) {
+        LiveGame live = games.remove(roomId);
+        if (live == null) {
+            return;
+        }
+        live.getFlushLock().lock();
+        try {
+            flush(List.of(live), true);
+            disarm(live);
+        } catch (RuntimeException e) {
+            // 기록에 실패하면 메모리 상태를 되돌려 다음 주기에 다시 기록되도록 함
+            games.putIfAbsent(roomId, live);
+            throw e;
+        } finally {
+            live.getFlushLock().unlock();
+        }
+    }
+
+    /**
+     * 기록되지 않은 수가 설정값 이상 쌓였으면 바로 기록 (다른 스레드가 기록 중이면 그쪽에 맡김)
+     */
+    public void flushIfNeeded(LiveGame live) {
+        if (live.getPendingMoveCount() < flushEveryMoves || !live.getFlushLock().tryLock()) {
+            return;
+        }
+        try {
+            flush(List.of(live), false);
+        } catch (Exception e) {
+            log.error("Error flushing room {}: {}", live.getRoomId(), e.getMessage(), e);
+        } finally {
+            live.getFlushLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${go.live-game.flush-interval-ms:1000}")
+    public void flushDirty() {
+        List<LiveGame> dirty = new ArrayList<>();
+        for (LiveGame live : games.values()) {
+            if (live.isDirty() && live.getFlushLock().tryLock()) {
+                dirty.add(live);
+            }
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+        try {
+            flush(dirty, false);
+            log.debug("Flushed {} live games", dirty.size());
+        } catch (Exception e) {
+            log.error("Error flushing {} live games: {}", dirty.size(), e.getMessage(), e);
+        } finally {
+            for (LiveGame live : dirty) {
+                live.getFlushLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 여러 판을 한 트랜잭션으로 기록하고, 실패하면 판마다 따로 다시 기록한다.
+     * 한 판의 잘못된 행(예: 복구 뒤 중복된 수 번호) 때문에 다른 판의 기록까지 매번 함께 롤백되지 않도록
+     * 실패한 판만 로그를 남기고 건너뛴다. (그 판의 수는 메모리에 남아 다음 주기에 다시 시도)
+     * 판이 하나면 예외를 그대로 던진다.
+     */
+    private void flush(List<LiveGame> lives, boolean forceSnapshot) {
+        if (lives.size() == 1) {
+            flushBatch(lives, forceSnapshot);
+            return;
+        }
+        try {
+            flushBatch(lives, forceSnapshot);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Batch flush of {} live games failed, retrying one at a time: {}", lives.size(), e.getMessage());
+        }
+        for (LiveGame live : lives) {
+            try {
+                flushBatch(List.of(live), forceSnapshot);
+            } catch (RuntimeException e) {
+                log.error("Error flushing room {}: {}", live.getRoomId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 새 수와 키프레임을 배치 INSERT로 추가하고, 스냅샷 주기가 된 판은 go_game_data를 갱신한다.
+     * 트랜잭션이 실패하면 메모리의 미기록 수가 그대로 남아 다음 주기에 다시 시도된다.
+     */
+    private void flushBatch(List<LiveGame> lives, boolean forceSnapshot) {
+        List<GameMove> moves = new ArrayList<>();
+        int[] moveCounts = new int[lives.size()];
+        List<GameKeyframe> keyframes = new ArrayList<>();
+        int[] keyframeCounts = new int[lives.size()];
+        Map<Long, LiveGame.Snapshot> snapshots = new HashMap<>();
+        for (int i = 0; i < lives.size(); i++) {
+            LiveGame live = lives.get(i);
+            synchronized (live) {
+                List<GameMove> pending = live.getPendingMoves();
+                moves.addAll(pending);
+                moveCounts[i] = pending.size();
+                List<GameKeyframe> pendingKeyframes = live.getPendingKeyframes();
+                keyframes.addAll(pendingKeyframes);
+                keyframeCounts[i] = pendingKeyframes.size();
+                if (forceSnapshot || live.isSnapshotDue(snapshotEveryMoves)) {
+                    snapshots.put(live.getGoGameDataId(), live.snapshot());
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            gameMoveRepository.saveAll(moves);
+            gameKeyframeRepository.saveAll(keyframes);
+            if (!snapshots.isEmpty()) {
+                for (GoGameData goData : goGameDataRepository.findAllById(snapshots.keySet())) {
+                    snapshots.get(goData.getId()).applyTo(goData);
+                }
+            }
+        });
+
+        for (int i = 0; i < lives.size(); i++) {
+            LiveGame live = lives.get(i);
+            synchronized (live) {
+                live.movesFlushed(moveCounts[i], keyframeCounts[i]);
+                LiveGame.Snapshot snapshot = snapshots.get(live.getGoGameDataId());
+                if (snapshot != null) {
+                    live.snapshotWritten(snapshot.moveNo());
+                }
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<GoGameData> playing = goGameDataRepository.findAllWithRoomByStatus(GameRoom.RoomStatus.PLAYING);
+        for (GoGameData goData : playing) {
+            // 다른 노드가 맡은 방은 그 노드가 복구
+            if (!roomAffinity.isLocal(goData.getRoom().getId())) {
+                continue;
+            }
+            try {
+                if (goData.getGameRecordId() == null) {
+                    // 수순 로그 도입 이전에 시작된 판은 현재 보드에서 기록을 시작
+                    transactionTemplate.executeWithoutResult(status -> start(goData));
+                } else {
+                    register(goData);
+                }
+            } catch (Exception e) {
+                log.error("Error recovering room {}: {}", goData.getRoom().getId(), e.getMessage(), e);
+            }
+        }
+        log.info("Recovered {} live games from database", games.size());
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flushDirty();
+    }
+
+    private LiveGame armed(LiveGame live) {
+        synchronized (live) {
+            gameClocks.arm(live);
+        }
+        return live;
+    }
+
+    private void disarm(LiveGame live) {
+        synchronized (live) {
+            gameClocks.disarm(live);
+        }
+    }
+
+    private LiveGame toLiveGame(GoGameData goData) {
+        GameRoom room = goData.getRoom();
+        User host = room.getHost();
+        User guest = room.getGuest();
+
+        // 스냅샷에서 시작해 이후의 수를 재생. 스냅샷 직전 두 수도 읽어 그 사이 연속 패스 수를 되살림
+        GoGame game = BoardStates.toGame(objectMapper, goData);
+        if (goData.getGameRecordId() != null) {
+            int snapshotMoveNo = goData.getSnapshotMoveNo();
+            List<GameMove> tail = gameMoveRepository.findByGameIdAndMoveNoGreaterThanOrderByMoveNo(
+                    goData.getGameRecordId(), snapshotMoveNo - 2);
+            int size = game.getBoard().getSize();
+            int passes = 0;
+            for (GameMove move : tail) {
+                if (move.getMoveNo() <= snapshotMoveNo) {
+                    passes = move.isPass() ? passes + 1 : 0;
+                    game.restoreConsecutivePasses(passes);
+                } else if (move.isPass()) {
+                    game.pass();
+                } else {
+                    game.play(move.getPoint() / size, move.getPoint() % size);
+                }
+            }
+        }
+
+        return new LiveGame(
+                room.getId(),
+                goData.getId(),
+                goData.getGameRecordId(),
+                host.getId(),
+                host.getName(),
+                guest != null ? guest.getId() : null,
+                guest != null ? guest.getName() : null,
+                game,
+                goData.getSnapshotMoveNo(),
+                // 남은 시간은 저장하지 않으므로 불러온 시점부터 방의 제한 시간으로 새로 시작
+                gameClocks.create(room.getTimeControl()),
+                keyframeEveryMoves);
+    }
+}
@@ -0,0 +1,392 @@
+package com.go.ai.service;
+
+import com.go.ai.dto.MatchTicketDto;
+import com.go.ai.entity.GameHistory;
+import com.go.ai.entity.TimeControl;
+import com.go.ai.entity.User;
+import com.go.ai.entity.UserStats;
+import com.go.ai.repository.UserRepository;
+import com.go.ai.repository.UserStatsRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자동 매칭. 대기표는 제한 시간 설정별 풀에 들어가고, 풀 안에서는 레이팅 구간(bucket-width) 칸에 나뉘어 기다린다.
+ * tick-ms마다 오래 기다린 순서로 같은 칸의 상대를 찾고, 없으면 기다린 시간에 따라(widen-after-ms마다 한 칸, 최대 max-spread칸)
+ * 옆 칸까지 넓혀 찾는다. 짝이 지어지면 레이팅이 낮은 쪽을 방장(흑)으로 방을 만들고 상대를 참여시킨 뒤
+ * 두 사람의 /topic/match/{ticket}으로 방을 알린다.
+ * 짝짓기만 스케줄러 스레드에서 하고, 방 생성은 전용 스레드 풀에서, 참여는 방의 메일박스에서 이어서 처리하므로
+ * 스케줄러 스레드는 기다리지 않는다.
+ *
+ * 대기열은 이 노드의 메모리에만 있으므로 여러 노드일 때는 같은 노드에 들어온 사람끼리만 짝지어진다.
+ */
+@Component
+public class Matchmaker {
+
+    private static final Logger log = LoggerFactory.getLogger(Matchmaker.class);
+    private static final String TOPIC_PREFIX = "/topic/match/";
+
+    private final GameRoomService gameRoomService;
+    private final RoomActors roomActors;
+    private final RoomAffinity roomAffinity;
+    private final GameClocks gameClocks;
+    private final UserRepository userRepository;
+    private final UserStatsRepository userStatsRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ExecutorService executor;
+
+    @Value("${go.rating.initial:1500}")
+    private double initialRating;
+
+    @Value("${go.matchmaking.bucket-width:100}")
+    private int bucketWidth;
+
+    @Value("${go.matchmaking.widen-after-ms:10000}")
+    private long widenAfterMillis;
+
+    @Value("${go.matchmaking.max-spread:4}")
+    private int maxSpread;
+
+    @Value("${go.matchmaking.max-wait-ms:180000}")
+    private long maxWaitMillis;
+
+    // 아래 맵은 모두 this로 잠근 뒤 접근
+    private final Map<String, Pool> pools = new HashMap<>();
+    private final Map<String, Ticket> tickets = new HashMap<>(); // 대기 중 + 결과 보관 중인 대기표
+    private final Map<Long, Ticket> waitingByUser = new HashMap<>();
+
+    public Matchmaker(GameRoomService gameRoomService, RoomActors roomActors, RoomAffinity roomAffinity,
+            GameClocks gameClocks, UserRepository userRepository, UserStatsRepository userStatsRepository,
+            SimpMessagingTemplate messagingTemplate, @Value("${go.matchmaking.threads:2}") int threads) {
+        this.gameRoomService = gameRoomService;
+        this.roomActors = roomActors;
+        this.roomAffinity = roomAffinity;
+        this.gameClocks = gameClocks;
+        this.userRepository = userRepository;
+        this.userStatsRepository = userStatsRepository;
+        this.messagingTemplate = messagingTemplate;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "matchmaker-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 대기열에 넣는다. 이미 기다리던 대기표가 있으면 버리고 새로 받는다. timeControl이 null이면 기본 제한 시간
+     */
+    public MatchTicketDto enqueue(Long userId, TimeControl timeControl) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        Double rated = userStatsRepository.findByUserIdAndGameType(userId, GameHistory.GameType.GO)
+                .map(UserStats::getRating)
+                .orElse(null);
+        double rating = rated != null ? rated : initialRating;
+        TimeControl control = timeControl != null ? timeControl : gameClocks.getDefaultTimeControl();
+
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), user.getId(), user.getName(), rating,
+                Math.floorDiv((int) Math.round(rating), bucketWidth), control, System.nanoTime());
+        synchronized (this) {
+            Ticket previous = waitingByUser.get(userId);
+            if (previous != null) {
+                remove(previous);
+            }
+            tickets.put(ticket.id, ticket);
+            waitingByUser.put(userId, ticket);
+            pools.computeIfAbsent(poolKey(control), key -> new Pool()).add(ticket);
+            return ticket.toDto();
+        }
+    }
+
+    public synchronized MatchTicketDto status(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new IllegalArgumentException("Ticket not found");
+        }
+        return ticket.toDto();
+    }
+
+    /**
+     * 기다리던 대기표를 취소. 이미 짝이 지어졌으면 false
+     */
+    public synchronized boolean cancel(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null || !"WAITING".equals(ticket.status)) {
+            return false;
+        }
+        remove(ticket);
+        return true;
+    }
+
+    public synchronized int getWaitingCount() {
+        return waitingByUser.size();
+    }
+
+    @Scheduled(fixedDelayString = "${go.matchmaking.tick-ms:1000}")
+    public void tick() {
+        long now = System.nanoTime();
+        List<Ticket[]> pairs = new ArrayList<>();
+        List<Ticket> expired = new ArrayList<>();
+        synchronized (this) {
+            expire(now, expired);
+            for (Pool pool : pools.values()) {
+                pool.pair(now, pairs);
+            }
+            pools.values().removeIf(Pool::isEmpty);
+            for (Ticket[] pair : pairs) {
+                waitingByUser.remove(pair[0].userId);
+                waitingByUser.remove(pair[1].userId);
+            }
+        }
+        for (Ticket ticket : expired) {
+            publish(ticket);
+        }
+        // 방 생성은 잠금과 스케줄러 스레드 밖에서 (대기열 추가/취소와 다른 예약 작업을 막지 않도록)
+        for (Ticket[] pair : pairs) {
+            start(pair[0], pair[1]);
+        }
+    }
+
+    private void start(Ticket first, Ticket second) {
+        // 레이팅이 낮은 쪽이 흑(방장)
+        Ticket black = first.rating <= second.rating ? first : second;
+        Ticket white = black == first ? second : first;
+        CompletableFuture.supplyAsync(() -> gameRoomService.createRoom(black.userId, black.timeControl), executor)
+                .thenCompose(room -> {
+                    Long roomId = room.getId();
+                    // 다른 노드가 맡은 방은 흰 쪽이 알림을 받고 직접 참여
+                    if (!roomAffinity.isLocal(roomId)) {
+                        return CompletableFuture.completedFuture(new Started(roomId, false));
+                    }
+                    return roomActors.submit(roomId, () -> gameRoomService.joinRoom(roomId, white.userId))
+                            .thenApply(joinedRoom -> new Started(roomId, true));
+                })
+                .whenComplete((started, error) -> {
+                    if (error == null) {
+                        Long roomId = started.roomId();
+                        synchronized (this) {
+                            black.matched(roomId, "b", white, true);
+                            white.matched(roomId, "w", black, started.joined());
+                        }
+                        log.info("Matched {} ({}) with {} ({}) in room {}", black.name, Math.round(black.rating),
+                                white.name, Math.round(white.rating), roomId);
+                    } else {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        log.error("Failed to start matched game for {} and {}", black.name, white.name, cause);
+                        synchronized (this) {
+                            black.failed();
+                            white.failed();
+                        }
+                    }
+                    publish(black);
+                    publish(white);
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Matchmaker executor did not terminate in time");
+        }
+    }
+
+    // 대기 시간이 지난 대기표는 EXPIRED로 알리고, 결과를 알린 지 max-wait-ms가 지난 대기표는 버림
+    private void expire(long now, List<Ticket> expired) {
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        Iterator<Ticket> iterator = tickets.values().iterator();
+        while (iterator.hasNext()) {
+            Ticket ticket = iterator.next();
+            if ("WAITING".equals(ticket.status)) {
+                if (now - ticket.enqueuedNanos > maxWaitNanos) {
+                    Pool pool = pools.get(poolKey(ticket.timeControl));
+                    if (pool != null) {
+                        pool.remove(ticket);
+                    }
+                    waitingByUser.remove(ticket.userId);
+                    ticket.status = "EXPIRED";
+                    ticket.closedNanos = now;
+                    expired.add(ticket);
+                }
+            } else if (ticket.closedNanos != 0 && now - ticket.closedNanos > maxWaitNanos) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void remove(Ticket ticket) {
+        tickets.remove(ticket.id);
+        waitingByUser.remove(ticket.userId, ticket);
+        Pool pool = pools.get(poolKey(ticket.timeControl));
+        if (pool != null) {
+            pool.remove(ticket);
+        }
+    }
+
+    private void publish(Ticket ticket) {
+        MatchTicketDto dto;
+        synchronized (this) {
+            dto = ticket.toDto();
+        }
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + ticket.id, dto);
+    }
+
+    private static String poolKey(TimeControl timeControl) {
+        return timeControl.getMainTimeSeconds() + "/" + timeControl.getByoYomiPeriods() + "x"
+                + timeControl.getByoYomiSeconds() + "+" + timeControl.getIncrementSeconds();
+    }
+
+    /**
+     * 한 제한 시간 설정의 대기표. 레이팅 칸 -> 온 순서대로의 대기표
+     */
+    private final class Pool {
+
+        private final TreeMap<Integer, ArrayDeque<Ticket>> buckets = new TreeMap<>();
+
+        private void add(Ticket ticket) {
+            buckets.computeIfAbsent(ticket.bucket, bucket -> new ArrayDeque<>()).addLast(ticket);
+        }
+
+        private void remove(Ticket ticket) {
+            ArrayDeque<Ticket> queue = buckets.get(ticket.bucket);
+            if (queue != null && queue.remove(ticket) && queue.isEmpty()) {
+                buckets.remove(ticket.bucket);
+            }
+        }
+
+        private boolean isEmpty() {
+            return buckets.isEmpty();
+        }
+
+        // 오래 기다린 대기표부터 가까운 칸의 가장 오래 기다린 상대와 짝지음
+        private void pair(long now, List<Ticket[]> pairs) {
+            List<Ticket> waiting = new ArrayList<>();
+            for (ArrayDeque<Ticket> queue : buckets.values()) {
+                waiting.addAll(queue);
+            }
+            if (waiting.size() < 2) {
+                return;
+            }
+            waiting.sort(Comparator.comparingLong(ticket -> ticket.enqueuedNanos));
+            for (Ticket ticket : waiting) {
+                if (!"WAITING".equals(ticket.status)) {
+                    continue;
+                }
+                long waitedMillis = TimeUnit.NANOSECONDS.toMillis(now - ticket.enqueuedNanos);
+                int reach = widenAfterMillis > 0 ? (int) Math.min(maxSpread, waitedMillis / widenAfterMillis) : maxSpread;
+                Ticket partner = null;
+                for (int distance = 0; distance <= reach && partner == null; distance++) {
+                    partner = oldestIn(ticket.bucket - distance, ticket);
+                    if (partner == null && distance > 0) {
+                        partner = oldestIn(ticket.bucket + distance, ticket);
+                    }
+                }
+                if (partner == null) {
+                    continue;
+                }
+                remove(ticket);
+                remove(partner);
+                ticket.status = "PAIRED";
+                partner.status = "PAIRED";
+                pairs.add(new Ticket[] { ticket, partner });
+            }
+        }
+
+        private Ticket oldestIn(int bucket, Ticket self) {
+            ArrayDeque<Ticket> queue = buckets.get(bucket);
+            if (queue == null) {
+                return null;
+            }
+            for (Ticket candidate : queue) {
+                if (candidate != self) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+    }
+
+    // 만든 방과 흰 쪽이 이 노드에서 바로 참여했는지
+    private record Started(Long roomId, boolean joined) {
+    }
+
+    private static final class Ticket {
+
+        private final String id;
+        private final Long userId;
+        private final String name;
+        private final double rating;
+        private final int bucket;
+        private final TimeControl timeControl;
+        private final long enqueuedNanos;
+        private String status = "WAITING"; // PAIRED는 방을 만드는 중 (밖으로는 WAITING)
+        private long closedNanos;
+        private Long roomId;
+        private String color;
+        private Ticket opponent;
+        private boolean joined;
+
+        private Ticket(String id, Long userId, String name, double rating, int bucket, TimeControl timeControl,
+                long enqueuedNanos) {
+            this.id = id;
+            this.userId = userId;
+            this.name = name;
+            this.rating = rating;
+            this.bucket = bucket;
+            this.timeControl = timeControl;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        private void matched(Long roomId, String color, Ticket opponent, boolean joined) {
+            this.status = "MATCHED";
+            this.closedNanos = System.nanoTime();
+            this.roomId = roomId;
+            this.color = color;
+            this.opponent = opponent;
+            this.joined = joined;
+        }
+
+        private void failed() {
+            this.status = "FAILED";
+            this.closedNanos = System.nanoTime();
+        }
+
+        private MatchTicketDto toDto() {
+            MatchTicketDto dto = new MatchTicketDto(id, "PAIRED".equals(status) ? "WAITING" : status,
+                    (int) Math.round(rating));
+            if (opponent != null) {
+                dto.setRoomId(roomId);
+                dto.setColor(color);
+                dto.setOpponentName(opponent.name);
+                dto.setOpponentRating((int) Math.round(opponent.rating));
+                dto.setJoined(joined);
+            }
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.go.ai.service;
+
+import com.go.ai.entity.GameHistory;
+import com.go.ai.entity.User;
+import com.go.ai.entity.UserStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 바둑 Elo 레이팅. 판이 끝난 트랜잭션 안에서 두 사람의 전적 카운터 행을 잠그고 레이팅을 고친 뒤,
+ * 커밋되면 리더보드에 반영한다. 서버가 결과를 정한 사람끼리의 판만 계산하며, AI와 둔 판은 결과를
+ * 클라이언트가 보내므로 레이팅과 리더보드에 넣지 않는다.
+ */
+@Service
+public class RatingService {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingService.class);
+
+    private static final GameHistory.GameType GAME_TYPE = GameHistory.GameType.GO;
+
+    private final UserStatsService userStatsService;
+    private final Leaderboard leaderboard;
+    private final double initialRating;
+    private final double kFactor;
+    private final double provisionalKFactor;
+    private final int provisionalGames;
+
+    public RatingService(UserStatsService userStatsService, Leaderboard leaderboard,
+            @Value("${go.rating.initial:1500}") double initialRating,
+            @Value("${go.rating.k-factor:24}") double kFactor,
+            @Value("${go.rating.provisional-k-factor:40}") double provisionalKFactor,
+            @Value("${go.rating.provisional-games:20}") int provisionalGames) {
+        this.userStatsService = userStatsService;
+        this.leaderboard = leaderboard;
+        this.initialRating = initialRating;
+        this.kFactor = kFactor;
+        this.provisionalKFactor = provisionalKFactor;
+        this.provisionalGames = provisionalGames;
+    }
+
+    /**
+     * 사람끼리 둔 판. winner는 'b', 'w', 'draw' (흑 = 방장)
+     */
+    @Transactional
+    public void rateGame(User black, User white, String winner) {
+        if (black == null || white == null || winner == null || black.getId().equals(white.getId())) {
+            return;
+        }
+        double blackScore = switch (winner) {
+            case "b" -> 1;
+            case "w" -> 0;
+            default -> 0.5;
+        };
+
+        // 두 판이 동시에 끝나도 교착되지 않도록 id 순서로 잠금
+        UserStats blackStats;
+        UserStats whiteStats;
+        if (black.getId() < white.getId()) {
+            blackStats = userStatsService.lock(black.getId(), GAME_TYPE);
+            whiteStats = userStatsService.lock(white.getId(), GAME_TYPE);
+        } else {
+            whiteStats = userStatsService.lock(white.getId(), GAME_TYPE);
+            blackStats = userStatsService.lock(black.getId(), GAME_TYPE);
+        }
+
+        double blackRating = ratingOf(blackStats);
+        double whiteRating = ratingOf(whiteStats);
+        double expected = expected(blackRating, whiteRating);
+        blackStats.rate(blackRating + kFactorOf(blackStats) * (blackScore - expected));
+        whiteStats.rate(whiteRating + kFactorOf(whiteStats) * (expected - blackScore));
+        publish(black, blackStats);
+        publish(white, whiteStats);
+        log.info("Rated {} vs {}: {} -> {}, {} -> {}", black.getName(), white.getName(),
+                Math.round(blackRating), Math.round(blackStats.getRating()),
+                Math.round(whiteRating), Math.round(whiteStats.getRating()));
+    }
+
+    private double ratingOf(UserStats stats) {
+        return stats.getRating() != null ? stats.getRating() : initialRating;
+    }
+
+    // 처음 몇 판은 실력을 빨리 찾아가도록 크게 움직임
+    private double kFactorOf(UserStats stats) {
+        return stats.getRatedGames() < provisionalGames ? provisionalKFactor : kFactor;
+    }
+
+    private static double expected(double rating, double opponentRating) {
+        return 1 / (1 + Math.pow(10, (opponentRating - rating) / 400));
+    }
+
+    private void publish(User user, UserStats stats) {
+        Long userId = user.getId();
+        String name = user.getName();
+        double rating = stats.getRating();
+        int ratedGames = stats.getRatedGames();
+        Runnable update = () -> leaderboard.update(userId, name, rating, ratedGames);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        // 롤백된 레이팅이 순위에 보이지 않도록 커밋 후 반영
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
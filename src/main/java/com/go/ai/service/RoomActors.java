@@ -0,0 +1,186 @@
+package com.go.ai.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 단위 단일 작성자(actor) 실행기.
+ * 같은 방에 대한 명령(착수, 상태 변경, 재촉, 접속 종료 등)은 방별 메일박스에 쌓여 한 번에 하나씩 순서대로 실행되고,
+ * 서로 다른 방의 메일박스는 공유 스레드 풀에서 병렬로 실행된다. 따라서 DB 행 잠금이나 낙관적 재시도 없이
+ * 방 상태에 대한 경쟁 조건이 사라진다.
+ * 여러 노드로 띄운 경우 메일박스는 방의 주인 노드(RoomAffinity)에만 만들어지므로 방의 명령 순서는 노드 하나가 정한다.
+ */
+@Component
+public class RoomActors {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomActors.class);
+
+    // 한 메일박스가 스레드를 양보하기 전까지 연속으로 처리하는 명령 수
+    private static final int BATCH_SIZE = 32;
+
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final RoomAffinity roomAffinity;
+
+    @Value("${go.room-actor.queue-warn-depth:100}")
+    private int queueWarnDepth;
+
+    public RoomActors(@Value("${go.room-actor.threads:16}") int threads, RoomAffinity roomAffinity) {
+        this.roomAffinity = roomAffinity;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "room-actor-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 방의 메일박스에 명령을 넣고 결과를 비동기로 받는다.
+     */
+    public <T> CompletableFuture<T> submit(Long roomId, Callable<T> command) {
+        if (!roomAffinity.isLocal(roomId)) {
+            log.warn("Rejecting command for room {} owned by node {}", roomId, roomAffinity.ownerOf(roomId));
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "Room " + roomId + " is served by node " + roomAffinity.ownerOf(roomId)));
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(command.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+        Mailbox mailbox = mailboxes.compute(roomId, (id, existing) -> {
+            Mailbox target = existing != null ? existing : new Mailbox(id);
+            target.enqueue(task);
+            return target;
+        });
+        int depth = mailbox.depth.get();
+        if (depth >= queueWarnDepth) {
+            log.warn("Room {} mailbox depth is {}", roomId, depth);
+        }
+        mailbox.schedule();
+        return future;
+    }
+
+    public CompletableFuture<Void> execute(Long roomId, Runnable command) {
+        return submit(roomId, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * 방의 메일박스에서 명령을 실행하고 끝날 때까지 기다린다. (HTTP 요청 처리용)
+     */
+    public <T> T call(Long roomId, Callable<T> command) {
+        try {
+            return submit(roomId, command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 방별 대기 중인 명령 수 (처리 대기 명령이 있는 방만 포함)
+     */
+    public Map<Long, Integer> getQueueDepths() {
+        Map<Long, Integer> depths = new HashMap<>();
+        mailboxes.forEach((roomId, mailbox) -> {
+            int depth = mailbox.depth.get();
+            if (depth > 0) {
+                depths.put(roomId, depth);
+            }
+        });
+        return depths;
+    }
+
+    public int getTotalQueueDepth() {
+        int total = 0;
+        for (Mailbox mailbox : mailboxes.values()) {
+            total += mailbox.depth.get();
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Room actor executor did not terminate in time");
+        }
+    }
+
+    private final class Mailbox implements Runnable {
+
+        private final Long roomId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        private void enqueue(Runnable task) {
+            queue.add(task);
+            depth.incrementAndGet();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                Runnable task = queue.poll();
+                if (task == null) {
+                    break;
+                }
+                depth.decrementAndGet();
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    log.error("Error in room {} command: {}", roomId, e.getMessage(), e);
+                }
+            }
+            scheduled.set(false);
+
+            if (!queue.isEmpty()) {
+                // 남은 명령은 다른 방에 스레드를 양보한 뒤 이어서 처리
+                schedule();
+                return;
+            }
+            // 비어 있으면 메일박스 제거 (제거와 추가는 같은 키의 compute 안에서 일어나므로 명령이 유실되지 않음)
+            mailboxes.computeIfPresent(roomId,
+                    (id, current) -> current == this && queue.isEmpty() && !scheduled.get() ? null : current);
+        }
+    }
+}
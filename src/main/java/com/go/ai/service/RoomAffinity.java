@@ -0,0 +1,88 @@
+package com.go.ai.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 노드로 띄울 때 방마다 진행 상태(LiveGame, 시계, 메일박스)를 가지는 노드를 정한다.
+ * 노드 목록(go.cluster.nodes)에 대해 랑데부 해싱으로 주인 노드를 고르므로 노드가 추가/제거되어도 다른 노드의 방은 옮겨지지 않는다.
+ *
+ * 클라이언트는 방에 들어가기 전에 /api/rooms/{roomId}/node를 호출해 주인 노드 쿠키를 받고,
+ * 로드 밸런서는 그 쿠키로 이후 요청(참여, WebSocket)을 주인 노드에 보낸다. 방 토픽 메시지는 브로커 릴레이를 통해 모든 노드의 구독자에게 간다.
+ * 노드가 하나면(기본값) 모든 방이 로컬이다.
+ */
+@Component
+public class RoomAffinity {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomAffinity.class);
+
+    private final String nodeId;
+    private final List<String> nodes = new ArrayList<>();
+    private final long[] nodeHashes;
+
+    public RoomAffinity(@Value("${go.cluster.node-id:node-1}") String nodeId,
+            @Value("${go.cluster.nodes:}") List<String> nodes) {
+        this.nodeId = nodeId;
+        for (String node : nodes) {
+            if (!node.isBlank()) {
+                this.nodes.add(node.trim());
+            }
+        }
+        if (this.nodes.isEmpty()) {
+            this.nodes.add(nodeId);
+        } else if (!this.nodes.contains(nodeId)) {
+            throw new IllegalStateException("go.cluster.nodes must contain this node: " + nodeId);
+        }
+        this.nodeHashes = new long[this.nodes.size()];
+        for (int i = 0; i < nodeHashes.length; i++) {
+            nodeHashes[i] = mix(this.nodes.get(i).hashCode());
+        }
+        log.info("Node {} of cluster {}", nodeId, this.nodes);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public List<String> getNodes() {
+        return List.copyOf(nodes);
+    }
+
+    public String ownerOf(Long roomId) {
+        int best = 0;
+        long bestWeight = Long.MIN_VALUE;
+        for (int i = 0; i < nodeHashes.length; i++) {
+            long weight = mix(nodeHashes[i] ^ roomId);
+            if (weight > bestWeight) {
+                bestWeight = weight;
+                best = i;
+            }
+        }
+        return nodes.get(best);
+    }
+
+    public boolean isLocal(Long roomId) {
+        return nodes.size() == 1 || nodeId.equals(ownerOf(roomId));
+    }
+
+    /**
+     * 다른 노드의 방이면 예외. 잘못 라우팅된 요청이 이 노드에 두 번째 게임 상태를 만들지 않도록 막는다.
+     */
+    public void requireLocal(Long roomId) {
+        if (!isLocal(roomId)) {
+            throw new IllegalStateException("Room " + roomId + " is served by node " + ownerOf(roomId));
+        }
+    }
+
+    // SplittableRandom의 64비트 섞기 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
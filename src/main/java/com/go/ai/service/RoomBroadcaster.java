@@ -0,0 +1,200 @@
+package com.go.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.go.ai.dto.GameStateDto;
+import com.go.ai.dto.MoveDeltaDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 방 토픽(/topic/game/{roomId})으로 보내는 메시지의 팬아웃.
+ * 메시지는 한 번만 JSON으로 직렬화하고(EncodedFrame), 브로커는 그 바이트 배열을 모든 구독자에게 그대로 나눠 보낸다.
+ *
+ * 구독자(대국자와 관전자)는 토픽을 먼저 구독한 뒤 /app/game/{roomId}/snapshot을 구독해 전체 상태를 한 번 받고,
+ * 이후에는 seq가 이어지는 변경분만 적용한다. 구독자가 있는 방은 마지막 전체 상태 프레임을 snapshot-ttl-ms 동안 재사용하므로,
+ * 관전자가 한꺼번에 들어와도 상태 조회와 직렬화는 수마다 한 번뿐이다.
+ */
+@Component
+public class RoomBroadcaster {
+
+    private static final String TOPIC_PREFIX = "/topic/game/";
+    // 세션 하나에만 가는 오류 알림 (클라이언트는 /user/topic/errors를 구독)
+    private static final String ERRORS_DESTINATION = "/topic/errors";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final GameMetrics gameMetrics;
+    private final long snapshotTtlNanos;
+    private final Map<Long, Feed> feeds = new ConcurrentHashMap<>();
+    // 세션별 구독 id -> 방 id (구독 해제/연결 종료 시 정리용)
+    private final Map<String, Map<String, Long>> sessions = new ConcurrentHashMap<>();
+
+    public RoomBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper, GameMetrics gameMetrics,
+            @Value("${go.spectator.snapshot-ttl-ms:1000}") long snapshotTtlMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.gameMetrics = gameMetrics;
+        this.snapshotTtlNanos = TimeUnit.MILLISECONDS.toNanos(snapshotTtlMillis);
+    }
+
+    /**
+     * 방 토픽이면 방 id, 아니면 null
+     */
+    public static Long roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public void send(Long roomId, Object payload) {
+        EncodedFrame frame = encode(payload);
+        gameMetrics.recordFrame(payload instanceof MoveDeltaDto ? "delta"
+                : payload instanceof GameStateDto ? "state" : "notice", frame.json().length);
+        Feed feed = feeds.get(roomId);
+        if (feed != null) {
+            // 재촉 등 메시지가 붙은 상태는 늦게 들어온 구독자에게 다시 보여주지 않음
+            boolean snapshot = payload instanceof GameStateDto state && state.getMessage() == null;
+            feed.published(snapshot ? frame : null);
+        }
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + roomId, frame);
+    }
+
+    /**
+     * 요청을 보낸 세션에만 오류를 알린다. (거절된 착수 등으로 방 전체에 상태를 다시 보내지 않도록)
+     * 로그인 Principal이 없으므로 세션 id를 사용자 이름으로 써서 그 세션의 사용자 목적지로 보낸다.
+     */
+    public void sendError(String sessionId, Long roomId, String message) {
+        if (sessionId == null) {
+            return;
+        }
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("roomId", roomId);
+        payload.put("error", message);
+        messagingTemplate.convertAndSendToUser(sessionId, ERRORS_DESTINATION, payload, headers.getMessageHeaders());
+    }
+
+    /**
+     * 새 구독자에게 보낼 전체 상태. 캐시가 없거나 오래됐으면 loader로 만들어 캐시한다.
+     * 캐시를 만드는 동안 같은 방의 send는 기다리므로, 만든 뒤에 나간 변경분이 캐시를 무효화한다.
+     */
+    public EncodedFrame snapshot(Long roomId, Supplier<GameStateDto> loader) {
+        Feed feed = feeds.get(roomId);
+        if (feed == null) {
+            return snapshotFrame(loader);
+        }
+        synchronized (feed) {
+            long now = System.nanoTime();
+            if (feed.snapshot == null || now - feed.snapshotNanos > snapshotTtlNanos) {
+                feed.snapshot = snapshotFrame(loader);
+                feed.snapshotNanos = now;
+            }
+            return feed.snapshot;
+        }
+    }
+
+    public void subscribed(String sessionId, String subscriptionId, Long roomId, Long userId) {
+        sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, roomId);
+        feeds.compute(roomId, (id, feed) -> {
+            Feed target = feed != null ? feed : new Feed();
+            target.watchers.put(sessionId + ":" + subscriptionId, userId != null ? userId : 0L);
+            return target;
+        });
+    }
+
+    public void unsubscribed(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        Long roomId = subscriptions.remove(subscriptionId);
+        if (roomId != null) {
+            removeWatcher(roomId, sessionId + ":" + subscriptionId);
+        }
+    }
+
+    public void disconnected(String sessionId) {
+        Map<String, Long> subscriptions = sessions.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.forEach((subscriptionId, roomId) -> removeWatcher(roomId, sessionId + ":" + subscriptionId));
+    }
+
+    /**
+     * 방 토픽 구독 중 대국자(hostId, guestId)가 아닌 구독 수
+     */
+    public int spectatorCount(Long roomId, Long hostId, Long guestId) {
+        Feed feed = feeds.get(roomId);
+        if (feed == null) {
+            return 0;
+        }
+        int count = 0;
+        for (Long userId : feed.watchers.values()) {
+            if (!userId.equals(hostId) && !userId.equals(guestId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public EncodedFrame encode(Object payload) {
+        if (payload instanceof EncodedFrame frame) {
+            return frame;
+        }
+        try {
+            return new EncodedFrame(objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode " + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+    private EncodedFrame snapshotFrame(Supplier<GameStateDto> loader) {
+        EncodedFrame frame = encode(loader.get());
+        gameMetrics.recordFrame("snapshot", frame.json().length);
+        return frame;
+    }
+
+    private void removeWatcher(Long roomId, String key) {
+        // 마지막 구독자가 나가면 캐시도 함께 버림
+        feeds.computeIfPresent(roomId, (id, feed) -> {
+            feed.watchers.remove(key);
+            return feed.watchers.isEmpty() ? null : feed;
+        });
+    }
+
+    /**
+     * 한 번 직렬화한 JSON. 메시지 변환기가 그대로 통과시키므로 구독자 수와 관계없이 직렬화는 한 번이다. (수정 금지)
+     */
+    public record EncodedFrame(byte[] json) {
+    }
+
+    private static final class Feed {
+
+        private final Map<String, Long> watchers = new ConcurrentHashMap<>(); // "세션:구독" -> userId (없으면 0)
+        private EncodedFrame snapshot;
+        private long snapshotNanos;
+
+        private synchronized void published(EncodedFrame state) {
+            snapshot = state;
+            snapshotNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.go.ai.service;
+
+import com.go.ai.entity.GameRoom;
+import com.go.ai.repository.GameRoomRepository;
+import com.go.ai.repository.GoGameDataRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주기적으로 게스트 없이 오래된 방(WAITING 30분, FINISHED 1시간)을 정리한다.
+ * 방을 하나씩 불러와 지우지 않고, 인덱스로 대상 ID를 batch-size만큼 찾아 go_game_data와 game_rooms를
+ * 한 번씩 일괄 삭제하는 것을 반복한다. 한 번 실행에 max-batches까지만 처리하고 나머지는 다음 실행으로 넘긴다.
+ * 예약 작업 스레드를 수순 기록(LiveGameRegistry.flushDirty)과 나눠 쓰므로 한 번 실행이 오래 걸리지 않도록 한도를 작게 둔다.
+ */
+@Component
+public class RoomCleanup {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomCleanup.class);
+
+    private final GameRoomRepository gameRoomRepository;
+    private final GoGameDataRepository goGameDataRepository;
+    private final UserRoomIndex userRoomIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${go.room-cleanup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${go.room-cleanup.max-batches:20}")
+    private int maxBatches;
+
+    @Value("${go.room-cleanup.waiting-max-age-minutes:30}")
+    private long waitingMaxAgeMinutes;
+
+    @Value("${go.room-cleanup.finished-max-age-minutes:60}")
+    private long finishedMaxAgeMinutes;
+
+    private volatile Run lastRun;
+
+    public RoomCleanup(GameRoomRepository gameRoomRepository, GoGameDataRepository goGameDataRepository,
+            UserRoomIndex userRoomIndex, PlatformTransactionManager transactionManager) {
+        this.gameRoomRepository = gameRoomRepository;
+        this.goGameDataRepository = goGameDataRepository;
+        this.userRoomIndex = userRoomIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedRateString = "${go.room-cleanup.interval-ms:600000}")
+    public void cleanup() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        int[] batches = new int[1];
+
+        int waiting = deleteExpired(GameRoom.RoomStatus.WAITING, now.minusMinutes(waitingMaxAgeMinutes), batches);
+        int finished = deleteExpired(GameRoom.RoomStatus.FINISHED, now.minusMinutes(finishedMaxAgeMinutes), batches);
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+        boolean truncated = batches[0] >= maxBatches;
+        lastRun = new Run(now, waiting, finished, batches[0], elapsedMs, truncated);
+        log.info("Room cleanup: deleted {} waiting and {} finished rooms in {} batches, {} ms{}",
+                waiting, finished, batches[0], elapsedMs, truncated ? " (batch limit reached, continuing next run)" : "");
+    }
+
+    /**
+     * 마지막 실행 결과, 아직 실행 전이면 null
+     */
+    public Run getLastRun() {
+        return lastRun;
+    }
+
+    private int deleteExpired(GameRoom.RoomStatus status, LocalDateTime before, int[] batches) {
+        int total = 0;
+        while (batches[0] < maxBatches) {
+            Integer deleted = transactionTemplate.execute(tx -> deleteBatch(status, before));
+            batches[0]++;
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // 대상 방을 잠근 채 지우므로 고른 뒤 지우기 전에 입장한 방이 지워지지 않음 (입장은 이 트랜잭션이 끝날 때까지 기다림)
+    private int deleteBatch(GameRoom.RoomStatus status, LocalDateTime before) {
+        List<GameRoomRepository.ExpiredRoom> expired =
+                gameRoomRepository.lockExpiredRooms(status.name(), before, batchSize);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(expired.size());
+        for (GameRoomRepository.ExpiredRoom room : expired) {
+            ids.add(room.getId());
+        }
+        // 외래 키 순서대로 게임 데이터를 먼저 지움
+        goGameDataRepository.deleteByRoomIds(ids);
+        int deleted = gameRoomRepository.deleteExpiredByIds(ids, status, before);
+        if (deleted != ids.size()) {
+            // 잠근 행은 바뀔 수 없으므로 여기 오면 잠금이 동작하지 않는 DB
+            throw new IllegalStateException("Expected to delete " + ids.size() + " rooms but deleted " + deleted);
+        }
+        // 실제로 지운 방만 색인에서 뺌 (커밋 후 반영)
+        for (GameRoomRepository.ExpiredRoom room : expired) {
+            userRoomIndex.remove(room.getHostId(), room.getId());
+        }
+        return deleted;
+    }
+
+    /**
+     * 한 번 실행한 결과 (삭제한 방 수, 실행한 배치 수, 걸린 시간, 배치 한도에 걸려 남은 방이 있을 수 있는지)
+     */
+    public record Run(LocalDateTime startedAt, int waitingDeleted, int finishedDeleted, int batches,
+            long elapsedMs, boolean truncated) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.go.ai.service;
+
+import com.go.ai.repository.GameRoomRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 → 참여 중인 방(방장 또는 게스트) 역색인.
+ * 접속 종료 처리 때 방 전체를 훑지 않고 그 유저의 방만 바로 찾기 위해 메모리에 들고 있는다.
+ * 처음 조회하는 유저는 host_id / guest_id 인덱스를 타는 쿼리로 채우며, 이후에는 방 생성·입장·퇴장 시점에 갱신한다.
+ *
+ * 추가와 제거는 모두 트랜잭션 커밋 후에 반영하고, 추가는 이미 DB에서 채운 유저에만 한다.
+ * 아직 채우지 않은 유저에게 새 방 하나만 넣으면 그 유저의 이전 방(재시작 전에 만든 방 등)을 DB에서 읽지 않게 되기 때문이다.
+ * 남은 항목은 handleUserDisconnect가 방을 다시 확인한 뒤 지운다.
+ */
+@Component
+public class UserRoomIndex {
+
+    private final Map<Long, Set<Long>> roomsByUser = new ConcurrentHashMap<>();
+    private final GameRoomRepository gameRoomRepository;
+
+    public UserRoomIndex(GameRoomRepository gameRoomRepository) {
+        this.gameRoomRepository = gameRoomRepository;
+    }
+
+    /**
+     * 유저가 들어가 있는 방 ID 목록 (복사본)
+     */
+    public List<Long> roomsOf(Long userId) {
+        Set<Long> rooms = roomsByUser.get(userId);
+        if (rooms == null) {
+            List<Long> loaded = new ArrayList<>(gameRoomRepository.findIdsByHostId(userId));
+            loaded.addAll(gameRoomRepository.findIdsByGuestId(userId));
+            if (loaded.isEmpty()) {
+                // 방이 없는 유저는 캐시하지 않음 (접속자마다 빈 집합이 쌓이지 않도록)
+                return List.of();
+            }
+            rooms = roomsByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet());
+            rooms.addAll(loaded);
+        }
+        return new ArrayList<>(rooms);
+    }
+
+    public void add(Long userId, Long roomId) {
+        if (userId == null || roomId == null) {
+            return;
+        }
+        // 채우지 않은 유저는 다음 조회 때 커밋된 방까지 DB에서 읽음
+        afterCommit(() -> roomsByUser.computeIfPresent(userId, (id, rooms) -> {
+            rooms.add(roomId);
+            return rooms;
+        }));
+    }
+
+    public void remove(Long userId, Long roomId) {
+        if (userId == null || roomId == null) {
+            return;
+        }
+        afterCommit(() -> roomsByUser.computeIfPresent(userId, (id, rooms) -> {
+            rooms.remove(roomId);
+            return rooms.isEmpty() ? null : rooms;
+        }));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
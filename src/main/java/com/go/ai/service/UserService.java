@@ -1,23 +1,33 @@
 package com.go.ai.service;
 
+import com.go.ai.dto.GameHistoryDto;
+import com.go.ai.dto.HistoryPageDto;
 import com.go.ai.entity.GameHistory;
 import com.go.ai.entity.User;
 import com.go.ai.repository.GameHistoryRepository;
 import com.go.ai.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Service
 public class UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final GameHistoryRepository gameHistoryRepository;
+    private final UserStatsService userStatsService;
 
-    public UserService(UserRepository userRepository, GameHistoryRepository gameHistoryRepository) {
+    public UserService(UserRepository userRepository, GameHistoryRepository gameHistoryRepository,
+            UserStatsService userStatsService) {
         this.userRepository = userRepository;
         this.gameHistoryRepository = gameHistoryRepository;
+        this.userStatsService = userStatsService;
     }
 
     @Transactional
@@ -30,17 +40,42 @@ public class UserService {
                 });
     }
 
-    public List<GameHistory> getGameHistory(Long userId) {
-        // 기본값은 GO (바둑)
-        return getGameHistory(userId, GameHistory.GameType.GO);
-    }
+    /**
+     * 최신순 기록 한 페이지. cursor는 이전 페이지의 nextCursor ("playedAt_id"), 첫 페이지면 null
+     */
+    public HistoryPageDto getHistoryPage(Long userId, GameHistory.GameType gameType, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 행 더 읽어 다음 페이지가 있는지 확인
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<GameHistoryDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = gameHistoryRepository.findPage(userId, gameType, limit);
+        } else {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                LocalDateTime playedAt = LocalDateTime.parse(cursor.substring(0, separator));
+                Long id = Long.parseLong(cursor.substring(separator + 1));
+                rows = gameHistoryRepository.findPageBefore(userId, gameType, playedAt, id, limit);
+            } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
 
-    public List<GameHistory> getGameHistory(Long userId, GameHistory.GameType gameType) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        return gameHistoryRepository.findByUserAndGameTypeOrderByPlayedAtDesc(user, gameType);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            GameHistoryDto last = rows.get(pageSize - 1);
+            nextCursor = last.getPlayedAt() + "_" + last.getId();
+        }
+        return new HistoryPageDto(rows, nextCursor);
     }
 
+    /**
+     * 결과 기록을 남긴다. 결과를 클라이언트가 정하므로 레이팅에는 반영하지 않음 (레이팅은 서버가 끝낸 사람끼리의 판만)
+     */
     @Transactional
     public void saveGameResult(Long userId, GameHistory.GameResult result, int movesCount, String opponentName,
             GameHistory.GameType gameType) {
@@ -54,5 +89,6 @@ public class UserService {
         history.setMovesCount(movesCount);
         history.setOpponentName(opponentName);
         gameHistoryRepository.save(history);
+        userStatsService.record(history);
     }
 }
@@ -0,0 +1,116 @@
+package com.go.ai.service;
+
+import com.go.ai.dto.UserStatsDto;
+import com.go.ai.entity.GameHistory;
+import com.go.ai.entity.UserStats;
+import com.go.ai.repository.GameHistoryRepository;
+import com.go.ai.repository.UserRepository;
+import com.go.ai.repository.UserStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 전적 카운터(user_stats). 기록을 남길 때마다 행 하나만 갱신하고, 조회는 그 행만 읽는다.
+ * 카운터가 생기기 전부터 기록이 있던 사용자는 처음 한 번만 기록 행을 읽어 카운터를 만든다.
+ * 만드는 일은 별도 트랜잭션에서 하므로, 두 요청이 동시에 만들려다 유니크 키(uk_user_stats_user_type)에 걸려도
+ * 진 쪽은 먼저 만들어진 행을 다시 읽을 뿐 호출한 트랜잭션 전체가 롤백되지 않는다.
+ */
+@Service
+public class UserStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatsService.class);
+
+    private final UserStatsRepository userStatsRepository;
+    private final GameHistoryRepository gameHistoryRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate requiresNew;
+
+    public UserStatsService(UserStatsRepository userStatsRepository, GameHistoryRepository gameHistoryRepository,
+            UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userStatsRepository = userStatsRepository;
+        this.gameHistoryRepository = gameHistoryRepository;
+        this.userRepository = userRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 방금 저장한 기록을 카운터에 반영 (기록을 저장한 트랜잭션 안에서 호출)
+     */
+    @Transactional
+    public void record(GameHistory history) {
+        // 새로 만든 카운터는 커밋된 기록 행만 세므로 아직 커밋 전인 이 기록은 항상 여기서 더함
+        UserStats stats = lock(history.getUser().getId(), history.getGameType());
+        stats.record(history.getResult(),
+                history.getPlayedAt() != null ? history.getPlayedAt() : LocalDateTime.now());
+    }
+
+    /**
+     * 행 잠금을 잡은 카운터. 아직 없으면 기록 행에서 만들어 저장한다. (호출한 트랜잭션 안에서만 사용)
+     */
+    UserStats lock(Long userId, GameHistory.GameType gameType) {
+        return userStatsRepository.findForUpdate(userId, gameType)
+                .orElseGet(() -> {
+                    create(userId, gameType);
+                    // 잠그며 읽으면 다른 트랜잭션이 방금 커밋한 행도 보임
+                    return userStatsRepository.findForUpdate(userId, gameType)
+                            .orElseThrow(() -> new IllegalStateException(
+                                    "user_stats row missing for user " + userId));
+                });
+    }
+
+    /**
+     * 조회만 하므로 트랜잭션으로 묶지 않음 - 묶으면 다른 요청이 만든 카운터가 앞서 잡힌 스냅샷에 보이지 않는다.
+     */
+    public UserStatsDto getStats(Long userId, GameHistory.GameType gameType) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
+        UserStats stats = userStatsRepository.findByUserIdAndGameType(userId, gameType)
+                .orElseGet(() -> {
+                    create(userId, gameType);
+                    return userStatsRepository.findByUserIdAndGameType(userId, gameType)
+                            .orElseThrow(() -> new IllegalStateException(
+                                    "user_stats row missing for user " + userId));
+                });
+        UserStatsDto dto = new UserStatsDto(
+                userId,
+                gameType.name(),
+                stats.getWins(),
+                stats.getLosses(),
+                stats.getDraws(),
+                stats.getCurrentStreak(),
+                stats.getLongestWinStreak(),
+                stats.getLastPlayedAt());
+        if (stats.getRating() != null) {
+            dto.setRating((int) Math.round(stats.getRating()));
+            dto.setRatedGames(stats.getRatedGames());
+        }
+        return dto;
+    }
+
+    // 커밋된 기록 행으로 카운터를 만들어 바로 커밋. 다른 요청이 먼저 만들었으면 그 행을 그대로 씀
+    private void create(Long userId, GameHistory.GameType gameType) {
+        try {
+            requiresNew.executeWithoutResult(status -> userStatsRepository.saveAndFlush(rebuild(userId, gameType)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("user_stats for user {} ({}) was created concurrently", userId, gameType);
+        }
+    }
+
+    private UserStats rebuild(Long userId, GameHistory.GameType gameType) {
+        UserStats stats = new UserStats(userId, gameType);
+        for (GameHistoryRepository.ResultRow row : gameHistoryRepository.findResults(userId, gameType)) {
+            stats.record(row.getResult(), row.getPlayedAt());
+        }
+        return stats;
+    }
+}
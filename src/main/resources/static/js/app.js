@@ -4,7 +4,7 @@ let userId = null;
 let userName = null;
 let movesCount = 0;
 let nudgeTimer = null;
-let gameMode = 'single'; // 'single' 또는 'multi'
+let gameMode = 'single'; // 'single', 'multi' 또는 'watch' (관전)
 let lastCapturedBlack = 0; // 포획 감지를 위한 이전 포획 수
 let lastCapturedWhite = 0; // 포획 감지를 위한 이전 포획 수
 
@@ -15,6 +15,7 @@ let myColor = 'w'; // 'w' (백) 또는 'b' (흑)
 let isHost = false;
 let opponentName = 'AI'; // 현재 게임의 상대방 이름
 let lastSentBoardState = null; // 마지막으로 보낸 보드 상태 추적
+let lastSeq = null; // 마지막으로 반영한 서버 수 번호 (착수 변경분 순서 확인용)
 
 // 싱글플레이어 관련 변수 (single-player.js에서 사용)
 let currentSkillLevel = 5;
@@ -96,40 +97,22 @@ function updateStatus() {
     $('#game-status').text(status);
     
     if (isOver) {
-        const score = game.calculateScore();
-        let message = '';
-        let result = 'DRAW';
-        
-        if (score.winner === 'b') {
-            message = gameMode === 'single' ? 'AI가 승리했습니다.' : 
-                     (myColor === 'b' ? '승리했습니다! 🎉' : '패배했습니다.');
-            result = gameMode === 'single' ? 'LOSS' : (myColor === 'b' ? 'WIN' : 'LOSS');
-        } else {
-            message = gameMode === 'single' ? '승리했습니다! 🎉' : 
-                     (myColor === 'w' ? '승리했습니다! 🎉' : '패배했습니다.');
-            result = gameMode === 'single' ? 'WIN' : (myColor === 'w' ? 'WIN' : 'LOSS');
-        }
-        
-        $('#ai-message').text(message);
-        speak(message);
-        
-        let currentOpponentName = 'AI';
-        if (gameMode === 'multi' && opponentName && opponentName !== 'AI' && opponentName !== '상대방') {
-            currentOpponentName = opponentName;
+        // 멀티플레이/관전은 서버가 계가해서 결과를 브로드캐스트하므로 여기서 판정하지 않음
+        if (gameMode === 'single') {
+            $.ajax({
+                url: '/api/score',
+                method: 'POST',
+                contentType: 'application/json',
+                data: JSON.stringify({
+                    boardState: game.toJSON(),
+                    turn: game.getTurn(),
+                    capturedBlack: game.capturedBlack,
+                    capturedWhite: game.capturedWhite
+                }),
+                success: showGameResult,
+                error: function() { showGameResult(game.calculateScore()); }
+            });
         }
-        
-        $.ajax({
-            url: '/api/history/' + userId,
-            method: 'POST',
-            contentType: 'application/json',
-            data: JSON.stringify({ result: result, movesCount: movesCount, opponentName: currentOpponentName }),
-            success: function() { 
-                alert('게임 종료! 결과가 저장되었습니다.');
-                if (result === 'WIN' || result === 'DRAW') {
-                    $('#btn-new-game').show();
-                }
-            }
-        });
     } else {
         if (gameMode === 'multi') {
             const currentTurn = game.getTurn(); // 'b' 또는 'w'
@@ -142,28 +125,71 @@ function updateStatus() {
                 console.log('Result: My Turn - Hiding Nudge Button');
                 $('#ai-message').text('당신의 차례입니다. 멋진 수를 보여주세요! 😊');
                 $('#btn-nudge').css('display', 'none');
+                $('#btn-pass').css('display', 'block');
             } else {
                 // 상대방 차례
                 console.log('Result: Opponent Turn - Showing Nudge Button');
                 $('#ai-message').text('상대방이 생각 중입니다... ⏳');
                 $('#btn-nudge').css('display', 'block');
+                $('#btn-pass').css('display', 'none');
             }
+            $('#btn-resign').css('display', 'block');
             console.log('---------------------------');
+        } else if (gameMode === 'watch') {
+            $('#btn-nudge, #btn-pass, #btn-resign').hide();
         } else {
             if (game.getTurn() === 'w') {
                 $('#ai-message').text('어디로 두면 좋을까? 천천히 생각해보렴!');
             }
-            $('#btn-nudge').hide();
+            $('#btn-nudge, #btn-pass, #btn-resign').hide();
         }
     }
     
     if (isOver) {
-        $('#btn-nudge').hide();
+        $('#btn-nudge, #btn-pass, #btn-resign').hide();
     }
     
     updateCapturedStones();
 }
 
+function showGameResult(score) {
+    let message = '';
+    let result = 'DRAW';
+    
+    if (score.winner === 'draw') {
+        message = '무승부입니다.';
+    } else if (score.winner === 'b') {
+        message = gameMode === 'single' ? 'AI가 승리했습니다.' : 
+                 (myColor === 'b' ? '승리했습니다! 🎉' : '패배했습니다.');
+        result = gameMode === 'single' ? 'LOSS' : (myColor === 'b' ? 'WIN' : 'LOSS');
+    } else {
+        message = gameMode === 'single' ? '승리했습니다! 🎉' : 
+                 (myColor === 'w' ? '승리했습니다! 🎉' : '패배했습니다.');
+        result = gameMode === 'single' ? 'WIN' : (myColor === 'w' ? 'WIN' : 'LOSS');
+    }
+    
+    $('#ai-message').text(message);
+    speak(message);
+    
+    let currentOpponentName = 'AI';
+    if (gameMode === 'multi' && opponentName && opponentName !== 'AI' && opponentName !== '상대방') {
+        currentOpponentName = opponentName;
+    }
+    
+    $.ajax({
+        url: '/api/history/' + userId,
+        method: 'POST',
+        contentType: 'application/json',
+        data: JSON.stringify({ result: result, movesCount: movesCount, opponentName: currentOpponentName }),
+        success: function() { 
+            alert('게임 종료! 결과가 저장되었습니다.');
+            if (result === 'WIN' || result === 'DRAW') {
+                $('#btn-new-game').show();
+            }
+        }
+    });
+}
+
 function updateCapturedStones() {
     if (!game || !board) return;
     
@@ -431,6 +457,7 @@ $(document).ready(function() {
 
     // 대기하기 화면 관련 이벤트 (이벤트 위임 사용)
     $(document).on('click', '#btn-back-to-login', function() {
+        cancelMatch();
         if (window.roomRefreshInterval) {
             clearInterval(window.roomRefreshInterval);
             window.roomRefreshInterval = null;
@@ -448,6 +475,16 @@ $(document).ready(function() {
         createRoom();
     });
 
+    // 방을 고르지 않고 비슷한 레이팅의 상대와 자동으로 대국
+    $(document).on('click', '#btn-quick-match', function() {
+        if (!userId) { alert('먼저 이름을 입력하고 같이하기를 선택해주세요.'); return; }
+        findMatch();
+    });
+
+    $(document).on('click', '#btn-cancel-match', function() {
+        cancelMatch();
+    });
+
     $('#btn-logout').on('click', () => {
         // 게임 상태 초기화
         if (typeof stompClient !== 'undefined' && stompClient && stompClient.connected) {
@@ -479,19 +516,32 @@ $(document).ready(function() {
 
     $('#btn-history').on('click', () => {
         if (!userId) return;
+        $('#history-table tbody').empty();
+        $('#history-stats').text('');
+        // 서버에 수순이 남는 같이하기 대국만 기보로 내려받을 수 있음
+        $('#link-history-sgf').attr('href', '/api/games/export?userId=' + userId);
+        loadHistoryPage(null);
         $.ajax({
-            url: '/api/history/' + userId,
+            url: '/api/stats/' + userId,
             method: 'GET',
-            success: function(history) {
-                const tbody = $('#history-table tbody').empty();
-                history.forEach(h => {
-                    const res = h.result === 'WIN' ? '승리 🏆' : h.result === 'LOSS' ? '패배' : '무승부';
-                    const opponent = h.opponentName || 'AI';
-                    tbody.append(`<tr><td>${new Date(h.playedAt).toLocaleDateString()}</td><td>${res}</td><td>${opponent}</td><td>${h.movesCount}</td></tr>`);
-                });
-                $('#history-modal').show();
+            success: function(stats) {
+                let streak = '';
+                if (stats.currentStreak > 1) streak = ` · ${stats.currentStreak}연승 중 🔥`;
+                else if (stats.currentStreak < -1) streak = ` · ${-stats.currentStreak}연패 중`;
+                const rating = stats.rating != null ? ` · 레이팅 ${stats.rating}` : '';
+                $('#history-stats').text(`${stats.games}판 ${stats.wins}승 ${stats.losses}패 ${stats.draws}무 · 최다 ${stats.longestWinStreak}연승${streak}${rating}`);
+                if (stats.rating != null) {
+                    $.get('/api/leaderboard/' + userId, function(entry) {
+                        $('#history-stats').append(document.createTextNode(` (${entry.rank}위)`));
+                    });
+                }
             }
         });
+        $('#history-modal').show();
+    });
+
+    $('#btn-history-more').on('click', function() {
+        loadHistoryPage($(this).data('cursor'));
     });
     
     $('#btn-new-game').on('click', () => {
@@ -545,12 +595,49 @@ $(document).ready(function() {
         }
     });
     
+    // 패스/기권: 판의 끝(두 번 연속 패스, 기권)은 서버가 판정
+    $('#btn-pass').on('click', function() {
+        if (gameMode === 'multi' && typeof sendPassToServer === 'function') {
+            sendPassToServer();
+        }
+    });
+    
+    $('#btn-resign').on('click', function() {
+        if (gameMode === 'multi' && typeof sendResignToServer === 'function' && confirm('정말 기권할까요?')) {
+            sendResignToServer();
+        }
+    });
+    
     $('.close').on('click', () => $('#history-modal').hide());
 });
 
+// 기록 한 페이지를 표에 이어 붙임 (cursor가 null이면 첫 페이지)
+function loadHistoryPage(cursor) {
+    $.ajax({
+        url: '/api/history/' + userId,
+        method: 'GET',
+        data: cursor ? { cursor: cursor } : {},
+        success: function(page) {
+            const tbody = $('#history-table tbody');
+            page.items.forEach(h => {
+                const res = h.result === 'WIN' ? '승리 🏆' : h.result === 'LOSS' ? '패배' : '무승부';
+                const opponent = h.opponentName || 'AI';
+                tbody.append(`<tr><td>${new Date(h.playedAt).toLocaleDateString()}</td><td>${res}</td><td>${opponent}</td><td>${h.movesCount}</td></tr>`);
+            });
+            const more = $('#btn-history-more');
+            if (page.nextCursor) {
+                more.data('cursor', page.nextCursor).show();
+            } else {
+                more.hide();
+            }
+        }
+    });
+}
+
 function initBoard() {
     board = new GoBoard('myBoard', game, {
-        onMove: handleMove
+        onMove: handleMove,
+        readOnly: gameMode === 'watch'
     });
     updateStatus();
     $('#btn-new-game').hide();
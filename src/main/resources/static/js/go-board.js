@@ -6,6 +6,7 @@ class GoBoard {
         this.cellSize = options.cellSize || 20;
         this.stoneRadius = options.stoneRadius || 8;
         this.onMove = options.onMove || null;
+        this.readOnly = options.readOnly || false; // 관전 모드에서는 착수 불가
         this.canvas = null;
         this.ctx = null;
         this.init();
@@ -48,6 +49,8 @@ class GoBoard {
     }
 
     handleClick(e) {
+        if (this.readOnly) return;
+
         const rect = this.canvas.getBoundingClientRect();
         const x = e.clientX - rect.left;
         const y = e.clientY - rect.top;
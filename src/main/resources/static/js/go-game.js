@@ -9,6 +9,7 @@ class GoGame {
         this.capturedBlack = 0;
         this.capturedWhite = 0;
         this.lastMove = null; // 코(ko) 규칙을 위한 마지막 수
+        this.lastCaptured = 0; // 마지막 수가 따낸 돌 수 (서버 AI의 코 판정용)
         this.passCount = 0; // 연속 패스 횟수
         this.isGameOver = false;
     }
@@ -89,6 +90,7 @@ class GoGame {
         // 차례 변경
         this.currentTurn = -this.currentTurn;
         this.lastMove = [row, col];
+        this.lastCaptured = captured.length;
         this.passCount = 0;
         this.moveHistory.push([row, col, color]);
 
@@ -203,6 +205,7 @@ class GoGame {
         this.passCount++;
         this.currentTurn = -this.currentTurn;
         this.lastMove = null;
+        this.lastCaptured = 0;
         
         if (this.passCount >= 2) {
             this.isGameOver = true;
@@ -214,7 +217,7 @@ class GoGame {
         return this.isGameOver || this.passCount >= 2;
     }
 
-    // 집계 계산 (간단한 버전)
+    // 집계 계산 (간단한 버전). 실제 계가는 서버(/api/score)가 하고, 서버에 닿지 못할 때만 사용
     calculateScore() {
         // 실제 집계 계산은 복잡하므로 간단히 포획한 돌 수로 계산
         const blackScore = this.capturedWhite;
@@ -240,6 +243,7 @@ class GoGame {
         this.capturedBlack = 0;
         this.capturedWhite = 0;
         this.lastMove = null;
+        this.lastCaptured = 0;
         this.passCount = 0;
         this.isGameOver = false;
     }
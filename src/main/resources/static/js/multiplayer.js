@@ -1,27 +1,72 @@
 // 멀티플레이어 관련 로직 (변수는 app.js에 정의됨)
 
+// 방을 맡은 노드의 라우팅 쿠키를 받은 뒤 진행 (노드가 하나면 항상 같은 노드)
+function routeToRoom(targetRoomId, next) {
+    $.ajax({
+        url: '/api/rooms/' + targetRoomId + '/node',
+        method: 'GET',
+        complete: function() { next(); }
+    });
+}
+
+// 네이티브 WebSocket을 먼저 쓰고, 연결에 실패하면 SockJS 대체 전송으로 다시 시도
+let useNativeSocket = !!window.WebSocket;
+
+function openSocket() {
+    if (useNativeSocket) {
+        const scheme = location.protocol === 'https:' ? 'wss://' : 'ws://';
+        return new WebSocket(scheme + location.host + '/ws-native');
+    }
+    return new SockJS('/ws');
+}
+
 // WebSocket 연결 함수
 function connectWebSocket(roomIdParam) {
-    const socket = new SockJS('/ws');
-    stompClient = Stomp.over(socket);
+    // 방을 맡은 노드로 라우팅된 뒤 연결 (여러 노드일 때 로드 밸런서가 쿠키로 노드를 고름)
+    routeToRoom(roomIdParam, function() {
+        const socket = openSocket();
+        stompClient = Stomp.over(socket);
+        let connected = false;
     
-    // 연결 시 헤더에 userId 포함
-    const headers = {
-        userId: userId.toString()
-    };
+        // 연결 시 헤더에 userId 포함
+        const headers = {
+            userId: userId.toString()
+        };
     
-    stompClient.connect(headers, function(frame) {
-        console.log('WebSocket Connected: ' + frame);
-        console.log('Subscribing to /topic/game/' + roomIdParam);
+        stompClient.connect(headers, function(frame) {
+            connected = true;
+            console.log('WebSocket Connected: ' + frame);
+            console.log('Subscribing to /topic/game/' + roomIdParam);
         
-        // 게임 상태 구독
-        stompClient.subscribe('/topic/game/' + roomIdParam, function(message) {
-            console.log('Received message:', message.body);
-            const gameState = JSON.parse(message.body);
-            handleGameStateUpdate(gameState);
+            // 게임 상태 구독 (착수는 변경분, 그 외에는 전체 상태가 옴)
+            stompClient.subscribe('/topic/game/' + roomIdParam, function(message) {
+                const payload = JSON.parse(message.body);
+                if (payload.removed !== undefined) {
+                    handleMoveDelta(payload);
+                } else {
+                    console.log('Received message:', message.body);
+                    handleGameStateUpdate(payload);
+                }
+            });
+
+            // 내 요청이 거절되면(예: 둘 수 없는 자리) 나에게만 오류가 오므로 전체 상태를 다시 받아 맞춤
+            stompClient.subscribe('/user/topic/errors', function(message) {
+                const payload = JSON.parse(message.body);
+                console.warn('Request rejected:', payload.error);
+                if (String(payload.roomId) === String(roomId)) {
+                    requestSync();
+                }
+            });
+
+            // 구독 사이에 지나간 수가 있을 수 있으므로 전체 상태로 시작 (이후 변경분은 seq로 이어 붙임)
+            requestSync();
+        }, function(error) {
+            console.error('WebSocket connection error:', error);
+            if (!connected && useNativeSocket) {
+                useNativeSocket = false;
+                connectWebSocket(roomIdParam);
+            }
         });
-    }, function(error) {
-        console.error('WebSocket connection error:', error);
     });
 }
 
@@ -34,7 +79,6 @@ function sendMoveToServer(row, col) {
     }
     
     const currentBoardState = game.toJSON();
-    const currentTurn = game.getTurn();
     
     // 보낸 보드 상태를 기록 (자신이 보낸 메시지 무시용)
     lastSentBoardState = currentBoardState;
@@ -43,21 +87,146 @@ function sendMoveToServer(row, col) {
         userId: userId.toString()
     };
     
-    // 수와 함께 현재 게임 상태를 전송
+    // 좌표만 전송 (포획/코 판정과 다음 보드 상태는 서버가 계산)
     stompClient.send('/app/game/' + roomId + '/move', headers, JSON.stringify({
         roomId: roomId,
         row: row,
-        col: col,
-        boardState: currentBoardState,
-        turn: currentTurn,
-        capturedBlack: game.capturedBlack,
-        capturedWhite: game.capturedWhite
+        col: col
     }));
-    
-    // 게임 종료 여부 확인 및 추가 업데이트 (필요한 경우)
-    if (game.checkGameOver()) {
-        updateGameStateOnServer();
+}
+
+// 패스 전송 (두 사람이 연달아 패스하면 서버가 계가해서 종료 상태를 보냄)
+function sendPassToServer() {
+    if (!stompClient || !stompClient.connected) {
+        console.error('WebSocket not connected');
+        return;
+    }
+    stompClient.send('/app/game/' + roomId + '/pass', { userId: userId.toString() }, JSON.stringify({}));
+}
+
+// 기권 전송 (서버가 상대의 불계승으로 끝내고 방 전체에 알림)
+function sendResignToServer() {
+    if (!stompClient || !stompClient.connected) {
+        console.error('WebSocket not connected');
+        return;
     }
+    stompClient.send('/app/game/' + roomId + '/resign', { userId: userId.toString() }, JSON.stringify({}));
+}
+
+// 서버가 보낸 압축 보드(base64) 해제: 첫 바이트는 크기, 이후 한 칸당 2비트 (0 빈칸, 1 흑, 2 백)
+function decodeBoard(encoded) {
+    const bytes = atob(encoded);
+    const size = bytes.charCodeAt(0);
+    const rows = [];
+    for (let row = 0; row < size; row++) {
+        const cells = [];
+        for (let col = 0; col < size; col++) {
+            const index = row * size + col;
+            const code = (bytes.charCodeAt(1 + (index >> 2)) >> ((index & 3) << 1)) & 3;
+            cells.push(code === 1 ? 1 : code === 2 ? -1 : 0);
+        }
+        rows.push(cells);
+    }
+    return rows;
+}
+
+// 서버에 전체 상태 요청 (스냅샷이 올 때까지 중복 요청하지 않음)
+// 스냅샷 구독의 응답은 나에게만 오므로 관전자가 많아도 방 전체에 다시 보내지 않음
+let syncPending = false;
+
+function requestSync() {
+    if (!stompClient || !stompClient.connected || syncPending) return;
+    syncPending = true;
+    const subscription = stompClient.subscribe('/app/game/' + roomId + '/snapshot', function(message) {
+        subscription.unsubscribe();
+        syncPending = false;
+        handleGameStateUpdate(JSON.parse(message.body));
+    });
+}
+
+// 서버에서 받은 착수 변경분 적용: { seq, move, removed[], turn } (좌표는 row * 19 + col)
+function handleMoveDelta(delta) {
+    if (lastSeq !== null && delta.seq <= lastSeq) {
+        return; // 이미 반영된 수
+    }
+    if (lastSeq === null || delta.seq !== lastSeq + 1) {
+        console.log('Missing move before seq', delta.seq, '- requesting snapshot');
+        requestSync();
+        return;
+    }
+    lastSeq = delta.seq;
+
+    const size = game.boardSize;
+    const row = Math.floor(delta.move / size);
+    const col = delta.move % size;
+    game.board[row][col] = delta.turn === 'b' ? -1 : 1; // 둔 쪽은 다음 차례의 반대 색
+    delta.removed.forEach(p => {
+        const r = Math.floor(p / size);
+        const c = p % size;
+        // 내가 둔 수는 로컬에서 이미 따냈으므로 아직 남아 있는 돌만 집계
+        if (game.board[r][c] === 1) {
+            game.capturedBlack++;
+        } else if (game.board[r][c] === -1) {
+            game.capturedWhite++;
+        }
+        game.board[r][c] = 0;
+    });
+    game.currentTurn = delta.turn === 'b' ? 1 : -1;
+    game.lastMove = [row, col];
+    game.passCount = 0;
+    lastSentBoardState = null;
+
+    board.update();
+    updateStatus();
+    updateCapturedStones();
+    updateClock(delta.clock);
+}
+
+// 대국 시계: 서버가 착수/상태마다 보내는 값을 기준으로 가고 있는 쪽만 로컬에서 줄여 표시 (만료 판정은 서버가 함)
+let clockState = null;
+let clockReceivedAt = 0;
+let clockTimer = null;
+
+function updateClock(clock) {
+    clockState = clock || null;
+    clockReceivedAt = Date.now();
+    if (!clockState) {
+        clearInterval(clockTimer);
+        clockTimer = null;
+        $('#game-clock').hide();
+        return;
+    }
+    if (!clockTimer) {
+        clockTimer = setInterval(renderClock, 200);
+    }
+    renderClock();
+}
+
+function clockSide(millis, periods, byoYomi, elapsed) {
+    const period = clockState.periodMillis;
+    let left = millis - elapsed;
+    if (!byoYomi && left <= 0 && periods > 0 && period > 0) {
+        // 기본 시간이 끝나면 초읽기로 넘어감
+        byoYomi = true;
+        left += period;
+    }
+    while (byoYomi && left <= 0 && periods > 1 && period > 0) {
+        periods--;
+        left += period;
+    }
+    const seconds = Math.max(0, Math.ceil(left / 1000));
+    const text = Math.floor(seconds / 60) + ':' + String(seconds % 60).padStart(2, '0');
+    return byoYomi ? text + ' (초읽기 ' + periods + ')' : text;
+}
+
+function renderClock() {
+    if (!clockState) return;
+    const elapsed = Date.now() - clockReceivedAt;
+    const black = clockSide(clockState.blackMillis, clockState.blackPeriods, clockState.blackByoYomi,
+        clockState.running === 'b' ? elapsed : 0);
+    const white = clockSide(clockState.whiteMillis, clockState.whitePeriods, clockState.whiteByoYomi,
+        clockState.running === 'w' ? elapsed : 0);
+    $('#game-clock').text('흑 ' + black + ' · 백 ' + white).show();
 }
 
 // 재촉하기 메시지 전송 (쿨다운 적용)
@@ -104,48 +273,24 @@ function sendNudgeToServer() {
     }, 1000);
 }
 
-// 서버에 게임 상태 업데이트 전송
-function updateGameStateOnServer() {
-    if (!stompClient || !stompClient.connected) {
-        console.error('WebSocket not connected for state update');
-        return;
-    }
-    
-    const headers = {
-        userId: userId.toString()
-    };
-    
-    const currentBoardState = game.toJSON();
-    const isGameOver = game.checkGameOver();
-    let winner = null;
-    if (isGameOver) {
-        const score = game.calculateScore();
-        winner = score.winner;
-    }
-    
-    // 보낸 보드 상태를 기록 (자신이 보낸 메시지 무시용)
-    lastSentBoardState = currentBoardState;
-    
-    console.log('Sending game state update:', currentBoardState);
-    
-    stompClient.send('/app/game/' + roomId + '/state', headers, JSON.stringify({
-        boardState: currentBoardState,
-        turn: game.getTurn(),
-        status: 'PLAYING',
-        isGameOver: isGameOver,
-        winner: winner,
-        hostName: '',
-        guestName: '',
-        capturedBlack: game.capturedBlack,
-        capturedWhite: game.capturedWhite
-    }));
-}
-
 // 서버에서 받은 게임 상태 업데이트
 function handleGameStateUpdate(gameState) {
     if (!gameState) return;
     
     console.log('handleGameStateUpdate received:', gameState);
+
+    if (gameState.board) {
+        gameState.boardState = decodeBoard(gameState.board);
+    }
+
+    // 전체 상태는 이후 변경분의 기준점
+    if (gameState.seq !== undefined && gameState.seq !== null) {
+        lastSeq = gameState.seq;
+        syncPending = false;
+    }
+    if (gameState.status) {
+        updateClock(gameState.status === 'PLAYING' ? gameState.clock : null);
+    }
     
     // 메시지가 있으면 표시 (게임 시작 알림, 재촉 메시지 등)
     if (gameState.message) {
@@ -243,12 +388,28 @@ function handleGameStateUpdate(gameState) {
         }
     }
     
+    // 패스처럼 보드는 그대로이고 차례만 바뀐 경우
+    if (gameState.status === 'PLAYING' && gameState.turn && game.getTurn() !== gameState.turn) {
+        game.currentTurn = gameState.turn === 'b' ? 1 : -1;
+        game.lastMove = null;
+        board.update();
+        updateStatus();
+        if (gameState.message) {
+            $('#ai-message').text(gameState.message);
+        }
+    }
+    
     // 게임 종료 처리
     if (gameState.isGameOver || (gameState.status === 'FINISHED')) {
+        $('#btn-nudge, #btn-pass, #btn-resign').hide();
         let message = '';
         
         if (gameState.winner === 'draw') {
             message = '게임 종료! 무승부입니다.';
+        } else if (gameMode === 'watch') {
+            if (gameState.winner) {
+                message = '게임 종료! ' + (gameState.winner === 'b' ? '흑' : '백') + '이 이겼습니다.';
+            }
         } else {
             const resultMsg = '게임 종료! ';
             if (gameState.winner === myColor) {
@@ -258,63 +419,46 @@ function handleGameStateUpdate(gameState) {
             }
         }
         
+        if (message && gameState.scoreBlack != null && gameState.scoreWhite != null) {
+            message += ` (흑 ${gameState.scoreBlack} : 백 ${gameState.scoreWhite})`;
+        }
+        
         if (message) {
             $('#ai-message').text(message);
             speak(message);
         }
         
-        // 게임 기록 저장 및 알림창 표시
-        if (userId && (gameState.isGameOver || gameState.status === 'FINISHED')) {
-            const result = gameState.winner === myColor ? 'WIN' : 
-                          gameState.winner === 'draw' ? 'DRAW' : 'LOSS';
-            let currentOpponentName = 'AI';
-            if (gameMode === 'multi') {
-                if (isHost && gameState.guestName) {
-                    currentOpponentName = gameState.guestName;
-                } else if (!isHost && gameState.hostName) {
-                    currentOpponentName = gameState.hostName;
-                } else if (opponentName && opponentName !== 'AI' && opponentName !== '상대방') {
-                    currentOpponentName = opponentName;
-                }
-            }
-            
+        // 알림창 표시 (승패 기록은 서버가 판을 끝낼 때 두 대국자 모두 남기므로 여기서 보내지 않음)
+        if (userId && gameMode !== 'watch' && (gameState.isGameOver || gameState.status === 'FINISHED')) {
             const isOpponentDisconnected = gameState.message && gameState.message.includes('나갔습니다');
             
-            $.ajax({
-                url: '/api/history/' + userId,
-                method: 'POST',
-                contentType: 'application/json',
-                data: JSON.stringify({ result: result, movesCount: movesCount, opponentName: currentOpponentName }),
-                success: function() { 
-                    console.log('Game history saved');
-                    if (isOpponentDisconnected) {
-                        alert('상대방이 나갔습니다.\n게임이 종료되었고 결과가 저장되었습니다.');
-                        $('#btn-new-game').show();
-                    } else {
-                        alert('게임 종료! 결과가 저장되었습니다.');
-                        
-                        if (gameState.winner === myColor || gameState.winner === 'draw') {
-                            $('#btn-new-game').show();
-                        }
-                        
-                        if (gameState.winner && gameState.winner !== myColor && gameState.winner !== 'draw') {
-                            console.log('Loser detected, leaving room automatically...');
-                            setTimeout(() => {
-                                if (stompClient && stompClient.connected) {
-                                    stompClient.disconnect();
-                                }
-                                location.reload();
-                            }, 2000);
+            if (isOpponentDisconnected) {
+                alert('상대방이 나갔습니다.\n게임이 종료되었고 결과가 저장되었습니다.');
+                $('#btn-new-game').show();
+            } else {
+                alert('게임 종료! 결과가 저장되었습니다.');
+                
+                if (gameState.winner === myColor || gameState.winner === 'draw') {
+                    $('#btn-new-game').show();
+                }
+                
+                if (gameState.winner && gameState.winner !== myColor && gameState.winner !== 'draw') {
+                    console.log('Loser detected, leaving room automatically...');
+                    setTimeout(() => {
+                        if (stompClient && stompClient.connected) {
+                            stompClient.disconnect();
                         }
-                    }
+                        location.reload();
+                    }, 2000);
                 }
-            });
+            }
         }
     }
 }
 
 // 대기방 목록 조회
 function loadWaitingRooms() {
+    loadLiveRooms();
     $.ajax({
         url: '/api/rooms/waiting',
         method: 'GET',
@@ -343,6 +487,68 @@ function loadWaitingRooms() {
     });
 }
 
+// 관전할 수 있는 진행 중인 대국 목록 조회
+function loadLiveRooms() {
+    $.ajax({
+        url: '/api/rooms/live',
+        method: 'GET',
+        success: function(rooms) {
+            const liveList = $('#live-rooms-list').empty();
+            if (rooms.length === 0) {
+                liveList.append('<p style="text-align: center; padding: 20px;">진행 중인 대국이 없습니다.</p>');
+                return;
+            }
+            rooms.forEach(room => {
+                const roomElement = $(`
+                    <div style="padding: 15px; margin: 10px 0; border: 2px solid #4a90e2; border-radius: 10px; background: #fff; cursor: pointer;">
+                        <div style="font-size: 1.2rem; font-weight: bold;">⚫ ${room.hostName} vs ⚪ ${room.guestName}</div>
+                        <div style="font-size: 0.9rem; color: #666; margin-top: 5px;">
+                            ${room.moveCount}수 진행 · 관전 ${room.spectators}명
+                        </div>
+                    </div>
+                `);
+                roomElement.on('click', () => watchRoom(room.id));
+                liveList.append(roomElement);
+            });
+        }
+    });
+}
+
+// 관전: 보드는 읽기 전용이고, 상태는 스냅샷 + 변경분으로만 받음
+function watchRoom(targetRoomId) {
+    const name = $('#username').val();
+    if (!name) { alert('이름을 입력해주세요!'); return; }
+
+    $.ajax({
+        url: '/api/login',
+        method: 'POST',
+        contentType: 'application/json',
+        data: JSON.stringify({ name: name }),
+        success: function(user) {
+            userId = user.id;
+            userName = user.name;
+            roomId = targetRoomId;
+            lastSeq = null;
+            isHost = false;
+            myColor = null;
+            gameMode = 'watch';
+
+            if (window.roomRefreshInterval) {
+                clearInterval(window.roomRefreshInterval);
+                window.roomRefreshInterval = null;
+            }
+            $('#waiting-rooms-container').hide();
+            $('#login-container').hide();
+            $('#game-container').show();
+
+            game.reset();
+            initBoard();
+            connectWebSocket(roomId);
+            $('#ai-message').text('대국을 관전합니다. 👀');
+        }
+    });
+}
+
 // 방 생성
 function createRoom() {
     const name = $('#username').val();
@@ -364,6 +570,7 @@ function createRoom() {
                 data: JSON.stringify({ hostId: userId }),
                 success: function(room) {
                     roomId = room.id;
+                    lastSeq = null;
                     isHost = true;
                     myColor = 'b'; // 방장은 흑
                     opponentName = '상대방';
@@ -440,83 +647,209 @@ function joinRoom(targetRoomId) {
             userId = user.id;
             userName = user.name;
             
+            routeToRoom(targetRoomId, function() {
+                $.ajax({
+                    url: '/api/rooms/' + targetRoomId + '/join',
+                    method: 'POST',
+                    contentType: 'application/json',
+                    data: JSON.stringify({ guestId: userId }),
+                    success: function(gameState) {
+                        enterRoom(targetRoomId, gameState, 'w'); // 참여자는 백
+                    },
+                    error: function(xhr) {
+                        const errorMsg = xhr.responseJSON?.message || '방 참여에 실패했습니다.';
+                        alert(errorMsg);
+                    }
+                });
+            });
+        }
+    });
+}
+
+// 이미 시작된 방에 들어가 받은 상태로 판을 그린 뒤 방 토픽에 연결 (color: 'b' 또는 'w')
+function enterRoom(targetRoomId, gameState, color) {
+    roomId = targetRoomId;
+    isHost = color === 'b';
+    myColor = color;
+    opponentName = (isHost ? gameState.guestName : gameState.hostName) || '상대방';
+
+    const docEl = document.documentElement;
+    if (docEl.requestFullscreen) docEl.requestFullscreen();
+
+    $('#waiting-rooms-container').hide();
+    $('#login-container').hide();
+    $('#game-container').show();
+
+    if (gameState.board) {
+        gameState.boardState = decodeBoard(gameState.board);
+    }
+    if (gameState.boardState) {
+        const boardStateObj = typeof gameState.boardState === 'string' 
+            ? JSON.parse(gameState.boardState) 
+            : gameState.boardState;
+        game.fromJSON(boardStateObj);
+    }
+    if (gameState.turn) {
+        game.currentTurn = gameState.turn === 'b' ? 1 : -1;
+    }
+    lastSeq = gameState.seq !== undefined ? gameState.seq : null;
+
+    initBoard();
+    connectWebSocket(roomId);
+
+    setTimeout(() => {
+        const message = `${opponentName}님과의 게임이 시작되었습니다!`;
+        const aiMessageEl = $('#ai-message');
+        const speechBubble = $('.speech-bubble');
+        const aiChatArea = $('.ai-chat-area');
+        const aiCharacter = $('.ai-character');
+    
+        // 메시지 설정
+        aiMessageEl.text(message);
+        aiMessageEl.css({
+            'display': 'block !important',
+            'visibility': 'visible !important',
+            'opacity': '1 !important',
+            'color': '#333 !important'
+        });
+    
+        // 말풍선 보이기
+        speechBubble.css({
+            'display': 'flex !important',
+            'visibility': 'visible !important',
+            'opacity': '1 !important',
+            'min-height': '40px !important'
+        });
+    
+        // AI 영역 보이기
+        aiChatArea.css({
+            'display': 'flex !important',
+            'visibility': 'visible !important',
+            'min-height': '60px !important'
+        });
+    
+        aiCharacter.css({
+            'display': 'flex !important',
+            'visibility': 'visible !important',
+            'min-height': '60px !important'
+        });
+    
+        speak(message);
+    }, 500);
+}
+
+// 자동 매칭: 대기표를 받고 /topic/match/{ticket}을 구독해 방이 정해지면 바로 들어감
+let matchTicket = null;
+
+function findMatch() {
+    const name = $('#username').val();
+    if (!name) { alert('이름을 입력해주세요!'); return; }
+
+    $.ajax({
+        url: '/api/login',
+        method: 'POST',
+        contentType: 'application/json',
+        data: JSON.stringify({ name: name }),
+        success: function(user) {
+            userId = user.id;
+            userName = user.name;
+
             $.ajax({
-                url: '/api/rooms/' + targetRoomId + '/join',
+                url: '/api/match',
                 method: 'POST',
                 contentType: 'application/json',
-                data: JSON.stringify({ guestId: userId }),
-                success: function(gameState) {
-                    roomId = targetRoomId;
-                    isHost = false;
-                    myColor = 'w'; // 참여자는 백
-                    opponentName = gameState.hostName || '상대방';
-                    
-                    const docEl = document.documentElement;
-                    if (docEl.requestFullscreen) docEl.requestFullscreen();
-                    
-                    $('#waiting-rooms-container').hide();
-                    $('#login-container').hide();
-                    $('#game-container').show();
-                    
-                    if (gameState.boardState) {
-                        const boardStateObj = typeof gameState.boardState === 'string' 
-                            ? JSON.parse(gameState.boardState) 
-                            : gameState.boardState;
-                        game.fromJSON(boardStateObj);
-                    }
-                    if (gameState.turn) {
-                        game.currentTurn = gameState.turn === 'b' ? 1 : -1;
+                data: JSON.stringify({ userId: userId }),
+                success: function(ticket) {
+                    matchTicket = ticket.ticket;
+                    // 매칭을 기다리는 동안은 대기방 목록을 다시 불러오지 않음
+                    if (window.roomRefreshInterval) {
+                        clearInterval(window.roomRefreshInterval);
+                        window.roomRefreshInterval = null;
                     }
-                    
-                    initBoard();
-                    connectWebSocket(roomId);
-                    
-                    setTimeout(() => {
-                        const message = `${gameState.hostName}님과의 게임이 시작되었습니다!`;
-                        const aiMessageEl = $('#ai-message');
-                        const speechBubble = $('.speech-bubble');
-                        const aiChatArea = $('.ai-chat-area');
-                        const aiCharacter = $('.ai-character');
-                        
-                        // 메시지 설정
-                        aiMessageEl.text(message);
-                        aiMessageEl.css({
-                            'display': 'block !important',
-                            'visibility': 'visible !important',
-                            'opacity': '1 !important',
-                            'color': '#333 !important'
-                        });
-                        
-                        // 말풍선 보이기
-                        speechBubble.css({
-                            'display': 'flex !important',
-                            'visibility': 'visible !important',
-                            'opacity': '1 !important',
-                            'min-height': '40px !important'
-                        });
-                        
-                        // AI 영역 보이기
-                        aiChatArea.css({
-                            'display': 'flex !important',
-                            'visibility': 'visible !important',
-                            'min-height': '60px !important'
-                        });
-                        
-                        aiCharacter.css({
-                            'display': 'flex !important',
-                            'visibility': 'visible !important',
-                            'min-height': '60px !important'
-                        });
-                        
-                        speak(message);
-                    }, 500);
+                    $('#btn-quick-match').hide();
+                    $('#btn-cancel-match').show();
+                    $('#match-status').text(`상대를 찾는 중... (내 레이팅 ${ticket.rating})`).show();
+                    connectMatchSocket(matchTicket);
                 },
-                error: function(xhr) {
-                    const errorMsg = xhr.responseJSON?.message || '방 참여에 실패했습니다.';
-                    alert(errorMsg);
+                error: function() {
+                    alert('자동 매칭을 시작하지 못했습니다.');
                 }
             });
         }
     });
 }
 
+function connectMatchSocket(ticket) {
+    const socket = openSocket();
+    stompClient = Stomp.over(socket);
+    let connected = false;
+
+    // userId 없이 연결하므로 이 연결이 끊겨도 방 이탈로 처리되지 않음 (끊기면 대기표만 취소)
+    stompClient.connect({ matchTicket: ticket }, function() {
+        connected = true;
+        stompClient.subscribe('/topic/match/' + ticket, function(message) {
+            handleMatchUpdate(JSON.parse(message.body));
+        });
+        // 구독하기 전에 이미 짝이 지어졌을 수 있으므로 한 번 확인
+        $.get('/api/match/' + ticket, handleMatchUpdate);
+    }, function(error) {
+        console.error('Match socket error:', error);
+        if (!connected && useNativeSocket && matchTicket === ticket) {
+            useNativeSocket = false;
+            connectMatchSocket(ticket);
+        }
+    });
+}
+
+function handleMatchUpdate(match) {
+    if (!matchTicket || match.ticket !== matchTicket || match.status === 'WAITING') {
+        return;
+    }
+    matchTicket = null;
+    resetMatchUi();
+    if (stompClient && stompClient.connected) {
+        stompClient.disconnect();
+    }
+
+    if (match.status !== 'MATCHED') {
+        alert(match.status === 'EXPIRED' ? '상대를 찾지 못했습니다. 잠시 후 다시 시도해주세요.' : '대국을 시작하지 못했습니다.');
+        return;
+    }
+    // 다른 노드가 맡은 방이면 백이 직접 참여
+    if (match.color === 'w' && !match.joined) {
+        joinRoom(match.roomId);
+        return;
+    }
+    routeToRoom(match.roomId, function() {
+        $.get('/api/rooms/' + match.roomId + '/state', function(gameState) {
+            enterRoom(match.roomId, gameState, match.color);
+        });
+    });
+}
+
+function cancelMatch() {
+    const ticket = matchTicket;
+    if (!ticket) return;
+    $.ajax({
+        url: '/api/match/' + ticket,
+        method: 'DELETE',
+        success: function(result) {
+            if (!result.cancelled) {
+                // 취소하기 전에 짝이 지어졌으면 그 방으로 들어감
+                $.get('/api/match/' + ticket, handleMatchUpdate);
+                return;
+            }
+            matchTicket = null;
+            resetMatchUi();
+            if (stompClient && stompClient.connected) {
+                stompClient.disconnect();
+            }
+        }
+    });
+}
+
+function resetMatchUi() {
+    $('#btn-quick-match').show();
+    $('#btn-cancel-match').hide();
+    $('#match-status').text('').hide();
+}
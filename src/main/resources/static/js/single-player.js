@@ -16,57 +16,88 @@ function makeAIMove() {
     const prevCapturedBlack = game.capturedBlack;
     const prevCapturedWhite = game.capturedWhite;
     
-    // 난이도에 따라 AI 수준 결정
+    // 난이도에 따라 서버 AI의 탐색량 결정
     setTimeout(() => {
-        const move = getAIMove(currentSkillLevel);
-        if (move) {
-            const [row, col] = move;
-            const color = game.currentTurn === 1 ? 1 : -1;
-            if (game.placeStone(row, col, color)) {
-                board.update();
-                updateStatus();
-                movesCount++;
-                
-                // 포획 감지
-                const hasCapture = (game.capturedBlack > prevCapturedBlack) || (game.capturedWhite > prevCapturedWhite);
-                const isGameStart = movesCount <= 5;
-                const isGameEnd = checkGameOver();
-                const isImportantMove = hasCapture || isGameStart || isGameEnd;
-                
-                // AI 코멘트 요청 (20% 확률 또는 중요한 수인 경우)
-                if (isImportantMove || Math.random() < 0.2) {
-                    // 20% 확률로 AI 코멘트 요청 또는 중요한 수인 경우
-                    getAIComment(hasCapture, isGameStart, isGameEnd, isImportantMove);
-                } else {
-                    // 80% 확률로 간단한 메시지 표시
-                    const casualMents = [
-                        "음, 제 차례군요.",
-                        "어디로 두면 좋을까?",
-                        "선생님도 집중하고 있어요!",
-                        "좋은 수를 두고 있네요!",
-                        "바둑판이 점점 흥미로워지고 있어요!"
-                    ];
-                    const ment = casualMents[Math.floor(Math.random() * casualMents.length)];
-                    const aiMessageEl = $('#ai-message');
-                    aiMessageEl.text(ment);
-                    aiMessageEl.css({
-                        'display': 'block',
-                        'visibility': 'visible',
-                        'opacity': '1'
-                    });
-                    speak(ment);
-                }
-                
-                if (!isGameEnd) {
-                    checkGameOver();
-                    startNudgeTimer();
-                }
+        requestAIMove(currentSkillLevel, move => applyAIMove(move, prevCapturedBlack, prevCapturedWhite));
+    }, 500);
+}
+
+// 서버 MCTS AI에 수를 요청 (서버에 연결할 수 없으면 브라우저의 간단한 AI로 대체)
+function requestAIMove(difficulty, callback) {
+    $.ajax({
+        url: '/api/ai/move',
+        method: 'POST',
+        contentType: 'application/json',
+        data: JSON.stringify({
+            boardState: game.toJSON(),
+            turn: game.getTurn(),
+            difficulty: difficulty,
+            lastMove: game.lastMove,
+            lastCaptured: game.lastCaptured
+        }),
+        success: function(response) {
+            if (response.pass) {
+                game.pass();
+                callback(null);
             } else {
-                // 유효하지 않은 수인 경우 다시 시도
-                makeAIMove();
+                callback([response.row, response.col]);
             }
+        },
+        error: function(xhr, status, error) {
+            console.error('AI 착수 요청 실패:', error);
+            callback(getAIMove(difficulty));
         }
-    }, 500);
+    });
+}
+
+function applyAIMove(move, prevCapturedBlack, prevCapturedWhite) {
+    if (move) {
+        const [row, col] = move;
+        const color = game.currentTurn === 1 ? 1 : -1;
+        if (game.placeStone(row, col, color)) {
+            board.update();
+            updateStatus();
+            movesCount++;
+            
+            // 포획 감지
+            const hasCapture = (game.capturedBlack > prevCapturedBlack) || (game.capturedWhite > prevCapturedWhite);
+            const isGameStart = movesCount <= 5;
+            const isGameEnd = checkGameOver();
+            const isImportantMove = hasCapture || isGameStart || isGameEnd;
+            
+            // AI 코멘트 요청 (20% 확률 또는 중요한 수인 경우)
+            if (isImportantMove || Math.random() < 0.2) {
+                // 20% 확률로 AI 코멘트 요청 또는 중요한 수인 경우
+                getAIComment(hasCapture, isGameStart, isGameEnd, isImportantMove);
+            } else {
+                // 80% 확률로 간단한 메시지 표시
+                const casualMents = [
+                    "음, 제 차례군요.",
+                    "어디로 두면 좋을까?",
+                    "선생님도 집중하고 있어요!",
+                    "좋은 수를 두고 있네요!",
+                    "바둑판이 점점 흥미로워지고 있어요!"
+                ];
+                const ment = casualMents[Math.floor(Math.random() * casualMents.length)];
+                const aiMessageEl = $('#ai-message');
+                aiMessageEl.text(ment);
+                aiMessageEl.css({
+                    'display': 'block',
+                    'visibility': 'visible',
+                    'opacity': '1'
+                });
+                speak(ment);
+            }
+            
+            if (!isGameEnd) {
+                checkGameOver();
+                startNudgeTimer();
+            }
+        } else {
+            // 서버가 고른 수를 둘 수 없으면(규칙 차이) 브라우저의 간단한 AI로 다시 선택
+            applyAIMove(getAIMove(currentSkillLevel), prevCapturedBlack, prevCapturedWhite);
+        }
+    }
 }
 
 function getAIMove(difficulty) {
@@ -76,9 +107,9 @@ function getAIMove(difficulty) {
     for (let row = 0; row < 19; row++) {
         for (let col = 0; col < 19; col++) {
             if (!game.hasStone(row, col)) {
-                // 임시로 돌을 놓아서 유효한지 확인
+                // 임시로 돌을 놓아서 유효한지 확인 (JSON 직렬화 없이 행 배열만 복사)
                 const testGame = new GoGame();
-                testGame.fromJSON(game.toJSON());
+                testGame.board = game.board.map(r => r.slice());
                 testGame.currentTurn = game.currentTurn;
                 testGame.lastMove = game.lastMove;
                 testGame.passCount = game.passCount;
@@ -0,0 +1,202 @@
+package com.go.ai.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.go.ai.entity.GameRoom;
+import com.go.ai.service.GameRoomService;
+import com.go.ai.service.RoomActors;
+import com.go.ai.service.RoomAffinity;
+import com.go.ai.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 두 노드(node-1, node-2) 중 node-1로 애플리케이션을 띄워 방 라우팅을 확인한다.
+ * 주인 노드 선택(RoomAffinity), 주인 노드 쿠키, 다른 노드 방의 명령 거절, 그리고 메모리 안 브로커(simple)를 거친
+ * /app 명령 -> 방 메일박스 -> /topic/game/{roomId} 구독자 전달까지.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "go.websocket.broker.mode=simple",
+        "go.cluster.node-id=node-1",
+        "go.cluster.nodes=node-1,node-2" })
+@ActiveProfiles("test")
+class RoomRoutingTest {
+
+    private static final int SIZE = 19;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RoomAffinity roomAffinity;
+
+    @Autowired
+    private RoomActors roomActors;
+
+    @Autowired
+    private GameRoomService gameRoomService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void everyNodeAgreesOnRoomOwners() {
+        RoomAffinity other = new RoomAffinity("node-2", List.of("node-1", "node-2"));
+        int local = 0;
+        for (long roomId = 1; roomId <= 200; roomId++) {
+            String owner = roomAffinity.ownerOf(roomId);
+            assertEquals(owner, other.ownerOf(roomId));
+            assertEquals(owner, roomAffinity.ownerOf(roomId));
+            // 정확히 한 노드만 방을 맡음
+            assertNotEquals(roomAffinity.isLocal(roomId), other.isLocal(roomId));
+            if (roomAffinity.isLocal(roomId)) {
+                local++;
+            }
+        }
+        assertTrue(local > 50 && local < 150, "node-1 owns " + local + " of 200 rooms");
+    }
+
+    @Test
+    void nodeEndpointSetsOwnerCookie() throws Exception {
+        Long roomId = roomOwnedBy("node-2");
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/rooms/" + roomId + "/node", String.class);
+        Map<?, ?> body = objectMapper.readValue(response.getBody(), Map.class);
+
+        assertEquals("node-2", body.get("node"));
+        assertEquals("node-1", body.get("servedBy"));
+        String cookie = response.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(cookie.startsWith("GO_NODE=node-2"), cookie);
+    }
+
+    @Test
+    void commandsForOtherNodesRoomsAreRejected() throws Exception {
+        Long remote = roomOwnedBy("node-2");
+        Long local = roomOwnedBy("node-1");
+        AtomicBoolean ran = new AtomicBoolean();
+
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> roomActors.execute(remote, () -> ran.set(true)).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, rejected.getCause());
+        assertFalse(ran.get());
+
+        assertEquals("ok", roomActors.submit(local, () -> "ok").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void moveReachesRoomSubscribersThroughSimpleBroker() throws Exception {
+        Long hostId = userService.loginOrRegister("routing-black").getId();
+        Long guestId = userService.loginOrRegister("routing-white").getId();
+        Long roomId = localRoom(hostId);
+        gameRoomService.joinRoom(roomId, guestId);
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        StompHeaders connect = new StompHeaders();
+        connect.add("userId", hostId.toString());
+        StompSession session = client.connectAsync("ws://localhost:" + port + "/ws-native",
+                new WebSocketHttpHeaders(), connect, new StompSessionHandlerAdapter() {
+                }).get(5, TimeUnit.SECONDS);
+        try {
+            BlockingQueue<Map<String, Object>> topic = subscribe(session, "/topic/game/" + roomId);
+            // 같은 세션의 메시지는 받은 순서대로 처리되므로 스냅샷 응답이 오면 토픽 구독도 브로커에 등록된 상태
+            BlockingQueue<Map<String, Object>> snapshot = subscribe(session, "/app/game/" + roomId + "/snapshot");
+            Map<String, Object> state = snapshot.poll(5, TimeUnit.SECONDS);
+            assertNotNull(state, "no snapshot");
+            assertEquals("b", state.get("turn"));
+
+            StompHeaders send = new StompHeaders();
+            send.setDestination("/app/game/" + roomId + "/move");
+            send.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            send.add("userId", hostId.toString());
+            session.send(send, "{\"row\":3,\"col\":15}".getBytes(StandardCharsets.UTF_8));
+
+            Map<String, Object> delta = topic.poll(5, TimeUnit.SECONDS);
+            assertNotNull(delta, "no move delta");
+            assertEquals(3 * SIZE + 15, delta.get("move"));
+            assertEquals("w", delta.get("turn"));
+            assertEquals(1, delta.get("seq"));
+        } finally {
+            session.disconnect();
+            client.stop();
+        }
+    }
+
+    private BlockingQueue<Map<String, Object>> subscribe(StompSession session, String destination) {
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(StompHeaders headers, Object payload) {
+                try {
+                    received.add(objectMapper.readValue((byte[]) payload, Map.class));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        return received;
+    }
+
+    // 방 id는 DB가 정하므로 이 노드가 맡는 방이 나올 때까지 만든다
+    private Long localRoom(Long hostId) {
+        for (int i = 0; i < 64; i++) {
+            GameRoom room = gameRoomService.createRoom(hostId);
+            if (roomAffinity.isLocal(room.getId())) {
+                return room.getId();
+            }
+        }
+        throw new IllegalStateException("No local room in 64 attempts");
+    }
+
+    private Long roomOwnedBy(String node) {
+        for (long roomId = 1; roomId < 1000; roomId++) {
+            if (roomAffinity.ownerOf(roomId).equals(node)) {
+                return roomId;
+            }
+        }
+        throw new IllegalStateException("No room owned by " + node);
+    }
+}
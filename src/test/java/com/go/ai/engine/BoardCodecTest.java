@@ -0,0 +1,116 @@
+package com.go.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoardCodecTest {
+
+    @Test
+    void encodedLengthIsSizeBytePlusFourPointsPerByte() {
+        assertEquals(22, BoardCodec.encodedLength(9));
+        assertEquals(44, BoardCodec.encodedLength(13));
+        assertEquals(92, BoardCodec.encodedLength(19));
+    }
+
+    @Test
+    void arrayRoundTripsForStandardSizes() {
+        for (int size : new int[] { 9, 13, 19 }) {
+            int[][] rows = pattern(size);
+
+            byte[] data = BoardCodec.encode(rows);
+
+            assertEquals(BoardCodec.encodedLength(size), data.length);
+            assertEquals(size, data[0] & 0xFF);
+            for (int row = 0; row < size; row++) {
+                assertArrayEquals(rows[row], BoardCodec.decodeArray(data)[row]);
+            }
+        }
+    }
+
+    @Test
+    void boardRoundTripsForStandardSizes() {
+        for (int size : new int[] { 9, 13, 19 }) {
+            GoBoard board = GoBoard.fromArray(pattern(size));
+
+            byte[] data = BoardCodec.encode(board);
+            GoBoard decoded = BoardCodec.decode(data);
+
+            assertEquals(BoardCodec.encodedLength(size), data.length);
+            assertEquals(board.getHash(), decoded.getHash());
+            assertArrayEquals(data, BoardCodec.encode(decoded));
+        }
+    }
+
+    @Test
+    void emptyBoardEncodesToZeroPoints() {
+        byte[] data = BoardCodec.encode(new GoBoard(19));
+
+        assertEquals(19, data[0]);
+        for (int i = 1; i < data.length; i++) {
+            assertEquals(0, data[i]);
+        }
+    }
+
+    @Test
+    void pointsArePackedFromLowBits() {
+        int[][] rows = new int[9][9];
+        rows[0][0] = 1;
+        rows[0][1] = -1;
+        rows[0][3] = 1;
+
+        byte[] data = BoardCodec.encode(rows);
+
+        // 칸 0 = 흑(01), 칸 1 = 백(10), 칸 2 = 빈칸, 칸 3 = 흑(01)
+        assertEquals(0b01_00_10_01, data[1] & 0xFF);
+    }
+
+    @Test
+    void base64RoundTrips() {
+        byte[] data = BoardCodec.encode(pattern(13));
+
+        assertArrayEquals(data, BoardCodec.fromBase64(BoardCodec.toBase64(data)));
+    }
+
+    @Test
+    void rejectsCorruptData() {
+        byte[] data = BoardCodec.encode(pattern(9));
+
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.decodeArray(null));
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.decodeArray(new byte[0]));
+        // 길이가 크기와 맞지 않음
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardCodec.decodeArray(java.util.Arrays.copyOf(data, data.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardCodec.decodeArray(java.util.Arrays.copyOf(data, data.length + 1)));
+        // 크기 0
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.decodeArray(new byte[] { 0 }));
+        // 쓰지 않는 칸 값 3
+        byte[] invalid = data.clone();
+        invalid[1] = 0b11;
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.decodeArray(invalid));
+    }
+
+    @Test
+    void rejectsNonSquareArray() {
+        int[][] rows = new int[9][];
+        for (int row = 0; row < 9; row++) {
+            rows[row] = new int[row == 4 ? 8 : 9];
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.encode(rows));
+    }
+
+    // 빈칸, 흑, 백이 섞인 국면 (따낼 수 있는 모양인지는 상관없음)
+    private static int[][] pattern(int size) {
+        int[][] rows = new int[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                rows[row][col] = (row * 7 + col * 3) % 3 - 1;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,160 @@
+package com.go.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GoGameTest {
+
+    @Test
+    void blackPlaysFirstAndTurnsAlternate() {
+        GoGame game = new GoGame();
+
+        assertEquals(GoBoard.BLACK, game.getTurn());
+        game.play(3, 3);
+        assertEquals(GoBoard.WHITE, game.getTurn());
+        assertEquals(GoBoard.BLACK, game.getBoard().get(3, 3));
+        assertEquals(1, game.getMoveCount());
+    }
+
+    @Test
+    void capturesStoneWithoutLiberties() {
+        GoGame game = new GoGame();
+        play(game, "0,1", "0,0", "1,0");
+
+        assertEquals(1, game.getCapturedWhite());
+        assertEquals(GoBoard.EMPTY, game.getBoard().get(0, 0));
+        assertEquals(1, game.getBoard().getLastCapturedCount());
+    }
+
+    @Test
+    void capturesGroup() {
+        GoGame game = new GoGame();
+        // 백 두 점 (0,0)-(0,1)을 흑이 (0,2), (1,0), (1,1)로 잡음
+        play(game, "0,2", "0,0", "1,0", "0,1", "1,1");
+
+        assertEquals(2, game.getCapturedWhite());
+        assertEquals(GoBoard.EMPTY, game.getBoard().get(0, 0));
+        assertEquals(GoBoard.EMPTY, game.getBoard().get(0, 1));
+    }
+
+    @Test
+    void rejectsOccupiedAndOffBoardPoints() {
+        GoGame game = new GoGame();
+        game.play(3, 3);
+
+        assertEquals(MoveLegality.OCCUPIED, game.check(3, 3));
+        assertEquals(MoveLegality.OFF_BOARD, game.check(-1, 0));
+        assertEquals(MoveLegality.OFF_BOARD, game.check(0, 19));
+        assertThrows(IllegalArgumentException.class, () -> game.play(3, 3));
+    }
+
+    @Test
+    void rejectsSuicide() {
+        GoGame game = new GoGame();
+        play(game, "5,5", "0,1", "6,6", "1,0");
+
+        assertEquals(MoveLegality.SUICIDE, game.check(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> game.play(0, 0));
+        assertEquals(GoBoard.BLACK, game.getTurn());
+    }
+
+    @Test
+    void allowsMoveWithoutLibertiesWhenItCaptures() {
+        GoGame game = new GoGame();
+        // 흑 (0,0)은 활로가 없지만 마지막 활로가 (0,0)인 백 (0,1)을 따내므로 둘 수 있음
+        play(game, "0,2", "0,1", "1,1", "1,0");
+
+        assertEquals(MoveLegality.LEGAL, game.check(0, 0));
+        game.play(0, 0);
+        assertEquals(1, game.getCapturedWhite());
+        assertEquals(GoBoard.EMPTY, game.getBoard().get(0, 1));
+    }
+
+    @Test
+    void rejectsImmediateKoRecapture() {
+        GoGame game = koAfterBlackCapture();
+
+        assertEquals(MoveLegality.KO, game.check(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> game.play(1, 1));
+    }
+
+    @Test
+    void allowsKoRecaptureAfterMovesElsewhere() {
+        GoGame game = koAfterBlackCapture();
+        play(game, "15,15", "16,16");
+
+        assertEquals(MoveLegality.LEGAL, game.check(1, 1));
+        game.play(1, 1);
+        assertEquals(1, game.getCapturedBlack());
+        assertEquals(GoBoard.EMPTY, game.getBoard().get(1, 2));
+    }
+
+    @Test
+    void rejectsRepeatedPositionAfterPasses() {
+        GoGame game = koAfterBlackCapture();
+        // 패스하면 코 자리는 풀리지만 되따내면 백이 (1,1)에 두었던 국면이 다시 나옴
+        game.pass();
+        game.pass();
+
+        assertEquals(MoveLegality.SUPERKO, game.check(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> game.play(1, 1));
+    }
+
+    @Test
+    void superkoChecksHistoryOfPositions() {
+        GoBoard board = new GoBoard(9);
+        GoBoard after = board.copy();
+        after.play(4, 4, GoBoard.BLACK);
+        LongHashSet history = new LongHashSet();
+        history.add(after.getHash());
+
+        assertEquals(MoveLegality.SUPERKO, board.check(4, 4, GoBoard.BLACK, history));
+        assertEquals(MoveLegality.LEGAL, board.check(4, 4, GoBoard.WHITE, history));
+    }
+
+    @Test
+    void gameEndsAfterTwoConsecutivePasses() {
+        GoGame game = new GoGame();
+        game.pass();
+        assertFalse(game.isEndedByPasses());
+        game.play(3, 3);
+        assertEquals(0, game.getConsecutivePasses());
+        game.pass();
+        game.pass();
+
+        assertTrue(game.isEndedByPasses());
+        assertEquals(4, game.getMoveCount());
+        assertEquals(GoBoard.BLACK, game.getTurn());
+    }
+
+    @Test
+    void restoredPassCountContinuesFromSnapshot() {
+        GoGame game = new GoGame(new GoBoard(), GoBoard.WHITE, 0, 0, 7);
+        game.restoreConsecutivePasses(1);
+        game.pass();
+
+        assertTrue(game.isEndedByPasses());
+        assertEquals(8, game.getMoveCount());
+    }
+
+    // 흑이 (1,2)에 두어 백 (1,1)을 따낸 직후의 코 모양 (백 차례)
+    private static GoGame koAfterBlackCapture() {
+        GoGame game = new GoGame();
+        play(game, "0,1", "0,2", "1,0", "1,3", "2,1", "2,2", "5,5", "1,1", "1,2");
+        assertEquals(1, game.getCapturedWhite());
+        assertEquals(GoBoard.WHITE, game.getTurn());
+        return game;
+    }
+
+    // "row,col" 순서의 수를 흑부터 번갈아 둠
+    private static void play(GoGame game, String... moves) {
+        for (String move : moves) {
+            String[] rc = move.split(",");
+            game.play(Integer.parseInt(rc[0]), Integer.parseInt(rc[1]));
+        }
+    }
+}
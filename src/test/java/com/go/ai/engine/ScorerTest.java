@@ -0,0 +1,127 @@
+package com.go.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScorerTest {
+
+    private final Scorer territory = new Scorer(6.5, ScoringRule.TERRITORY);
+    private final Scorer area = new Scorer(7, ScoringRule.AREA);
+
+    @Test
+    void nearEmptyBoardIsNotScoredAsBlowout() {
+        GoBoard board = new GoBoard(19);
+        board.play(3, 3, GoBoard.BLACK);
+        board.play(15, 15, GoBoard.WHITE);
+
+        Score score = territory.score(board, 0, 0);
+
+        // 경계가 없는 판에서는 어느 돌도 죽지 않고 빈 곳은 모두 공배
+        assertEquals(0, score.deadStones().length);
+        assertEquals(0, score.black());
+        assertEquals(6.5, score.white());
+    }
+
+    @Test
+    void emptyBoardIsKomiOnly() {
+        Score score = area.score(new GoBoard(9), 0, 0);
+
+        assertEquals(0, score.black());
+        assertEquals(7, score.white());
+        assertEquals("w", score.winner());
+    }
+
+    @Test
+    void settledBoardRemovesEnclosedInvaders() {
+        GoBoard board = parse(
+                "....XO...",
+                "....XO...",
+                "....XO.X.",
+                "....XO...",
+                "....XO...",
+                ".O..XO...",
+                "....XO...",
+                "....XO...",
+                "....XO...");
+
+        Score score = territory.score(board, 0, 0);
+
+        assertArrayEquals(new int[] { 2 * 9 + 7, 5 * 9 + 1 }, score.deadStones());
+        // 흑: 왼쪽 36집 + 죽은 백 1점, 백: 오른쪽 27집 + 죽은 흑 1점 + 덤
+        assertEquals(37, score.black());
+        assertEquals(34.5, score.white());
+        assertEquals("b", score.winner());
+    }
+
+    @Test
+    void areaScoringCountsLiveStones() {
+        GoBoard board = parse(
+                "....XO...",
+                "....XO...",
+                "....XO.X.",
+                "....XO...",
+                "....XO...",
+                ".O..XO...",
+                "....XO...",
+                "....XO...",
+                "....XO...");
+
+        Score score = area.score(board, 0, 0);
+
+        assertEquals(36 + 9, score.black());
+        assertEquals(27 + 9 + 7, score.white());
+    }
+
+    @Test
+    void territoryScoringAddsCapturedStones() {
+        GoBoard board = parse(
+                "....XO...",
+                "....XO...",
+                "....XO...",
+                "....XO...",
+                "....XO...",
+                "....XO...",
+                "....XO...",
+                "....XO...",
+                "....XO...");
+
+        // 대국 중 따내진 흑 2점, 백 3점
+        Score score = territory.score(board, 2, 3);
+
+        assertEquals(36 + 3, score.black());
+        assertEquals(27 + 2 + 6.5, score.white());
+    }
+
+    @Test
+    void groupWithTwoEyesStaysAlive() {
+        GoBoard board = parse(
+                ".X.XXO...",
+                "XXXXXO...",
+                "OOOOOO...",
+                ".........",
+                ".........",
+                ".........",
+                ".........",
+                ".........",
+                ".........");
+
+        Score score = territory.score(board, 0, 0);
+
+        assertEquals(0, score.deadStones().length);
+        assertEquals(2, score.black());
+    }
+
+    // X = 흑, O = 백, . = 빈칸
+    static GoBoard parse(String... rows) {
+        int[][] cells = new int[rows.length][rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            for (int col = 0; col < rows.length; col++) {
+                char c = rows[row].charAt(col);
+                cells[row][col] = c == 'X' ? 1 : c == 'O' ? -1 : 0;
+            }
+        }
+        return GoBoard.fromArray(cells);
+    }
+}
@@ -0,0 +1,125 @@
+package com.go.ai.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SgfTest {
+
+    @Test
+    void writerOutputParsesBack() {
+        List<Sgf.Move> moves = List.of(
+                new Sgf.Move(GoBoard.BLACK, 3 * 19 + 15),
+                new Sgf.Move(GoBoard.WHITE, 15 * 19 + 3),
+                new Sgf.Move(GoBoard.BLACK, 0),
+                new Sgf.Move(GoBoard.WHITE, Sgf.PASS),
+                new Sgf.Move(GoBoard.BLACK, 19 * 19 - 1));
+
+        Sgf.Game game = Sgf.parse(write(19, 6.5, "흑돌이", "백돌이", "B+3.5", "2026-10-18", moves));
+
+        assertEquals(19, game.size());
+        assertEquals(6.5, game.komi());
+        assertEquals("흑돌이", game.blackName());
+        assertEquals("백돌이", game.whiteName());
+        assertEquals("B+3.5", game.result());
+        assertEquals("2026-10-18", game.date());
+        assertEquals(moves, game.moves());
+        assertEquals("b", game.winner());
+    }
+
+    @Test
+    void roundTripsLongGameOnSmallBoard() {
+        // 한 줄에 10수씩 줄바꿈이 들어가는 길이
+        List<Sgf.Move> moves = new java.util.ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            moves.add(new Sgf.Move(i % 2 == 0 ? GoBoard.BLACK : GoBoard.WHITE, i * 3 % 81));
+        }
+
+        Sgf.Game game = Sgf.parse(write(9, 7, null, null, null, null, moves));
+
+        assertEquals(9, game.size());
+        assertEquals(7, game.komi());
+        assertNull(game.blackName());
+        assertNull(game.result());
+        assertNull(game.winner());
+        assertEquals(moves, game.moves());
+    }
+
+    @Test
+    void escapesBracketsAndBackslashesInNames() {
+        String name = "a]b\\c";
+
+        Sgf.Game game = Sgf.parse(write(19, 0, name, "plain", "W+R", null, List.of()));
+
+        assertEquals(name, game.blackName());
+        assertEquals("w", game.winner());
+    }
+
+    @Test
+    void writesCoordinatesAsColumnThenRow() {
+        String text = write(19, 6.5, null, null, null, null,
+                List.of(new Sgf.Move(GoBoard.BLACK, 2 * 19 + 3), new Sgf.Move(GoBoard.WHITE, Sgf.PASS)));
+
+        assertTrue(text.contains(";B[dc]"), text);
+        assertTrue(text.contains(";W[]"), text);
+        assertTrue(text.contains("SZ[19]KM[6.5]"), text);
+    }
+
+    @Test
+    void parsesTtAsPassOnNineteen() {
+        Sgf.Game game = Sgf.parse("(;GM[1]FF[4]SZ[19];B[tt];W[aa])");
+
+        assertEquals(List.of(new Sgf.Move(GoBoard.BLACK, Sgf.PASS), new Sgf.Move(GoBoard.WHITE, 0)), game.moves());
+    }
+
+    @Test
+    void followsFirstVariationOnly() {
+        Sgf.Game game = Sgf.parse("(;GM[1]SZ[9];B[aa](;W[bb];B[cc])(;W[dd]))");
+
+        assertEquals(3, game.moves().size());
+        assertEquals(new Sgf.Move(GoBoard.WHITE, 1 * 9 + 1), game.moves().get(1));
+    }
+
+    @Test
+    void ignoresCommentsAndMarkup() {
+        Sgf.Game game = Sgf.parse("(;GM[1]SZ[9]C[시작 \\] 설명];B[ee]C[좋은 수]LB[ee:A])");
+
+        assertEquals(List.of(new Sgf.Move(GoBoard.BLACK, 4 * 9 + 4)), game.moves());
+    }
+
+    @Test
+    void rejectsUnsupportedOrBrokenGames() {
+        assertThrows(IllegalArgumentException.class, () -> Sgf.parse("not sgf"));
+        assertThrows(IllegalArgumentException.class, () -> Sgf.parse("(;GM[2]SZ[19])"));
+        assertThrows(IllegalArgumentException.class, () -> Sgf.parse("(;GM[1]SZ[19:13])"));
+        assertThrows(IllegalArgumentException.class, () -> Sgf.parse("(;GM[1]SZ[19]AB[aa][bb])"));
+        assertThrows(IllegalArgumentException.class, () -> Sgf.parse("(;GM[1]SZ[9];B[jj])"));
+        assertThrows(IllegalArgumentException.class, () -> Sgf.parse("(;GM[1]SZ[19];B[aa"));
+        assertThrows(IllegalArgumentException.class, () -> Sgf.parse("(;GM[1]SZ[19];B[aa]"));
+        assertThrows(IllegalArgumentException.class, () -> Sgf.parse("()"));
+    }
+
+    @Test
+    void scoreResultUsesMarginAndWinner() {
+        assertEquals("B+3.5", Sgf.scoreResult(10, 6.5));
+        assertEquals("W+7", Sgf.scoreResult(3, 10));
+        assertEquals("0", Sgf.scoreResult(5.5, 5.5));
+    }
+
+    private static String write(int size, double komi, String blackName, String whiteName, String result,
+            String date, List<Sgf.Move> moves) {
+        StringBuilder out = new StringBuilder();
+        Sgf.Writer writer = new Sgf.Writer(out);
+        writer.begin(size, komi, "Japanese", blackName, whiteName, result, date);
+        for (Sgf.Move move : moves) {
+            writer.move(move.color(), move.point());
+        }
+        writer.end();
+        return out.toString();
+    }
+}